@@ -7,12 +7,11 @@ import com.tinkerpop.gremlin.structure.Graph;
  */
 public class Constants {
 
-    // public static final Kryo KRYO = new Kryo();
-
     public static final String GREMLIN_GIRAPH_INPUT_LOCATION = "gremlin.giraph.inputLocation";
     public static final String GREMLIN_GIRAPH_OUTPUT_LOCATION = "gremlin.giraph.outputLocation";
     public static final String GIRAPH_VERTEX_INPUT_FORMAT_CLASS = "giraph.vertexInputFormatClass";
     public static final String GIRAPH_VERTEX_OUTPUT_FORMAT_CLASS = "giraph.vertexOutputFormatClass";
+    public static final String GREMLIN_GIRAPH_LOCAL_WORKERS = "gremlin.giraph.local.workers";
     public static final String GREMLIN_GIRAPH_JARS_IN_DISTRIBUTED_CACHE = "gremlin.giraph.jarsInDistributedCache";
     public static final String SYSTEM_G = Graph.System.system("g");
     public static final String GIRAPH_GREMLIN_JOB_PREFIX = "GiraphGremlin: ";
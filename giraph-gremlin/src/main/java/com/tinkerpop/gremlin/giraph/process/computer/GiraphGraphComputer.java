@@ -4,6 +4,7 @@ import com.tinkerpop.gremlin.giraph.Constants;
 import com.tinkerpop.gremlin.giraph.process.computer.util.ConfUtil;
 import com.tinkerpop.gremlin.giraph.process.computer.util.MapReduceHelper;
 import com.tinkerpop.gremlin.giraph.process.computer.util.MemoryMapReduce;
+import com.tinkerpop.gremlin.giraph.process.computer.util.StarVertexWritable;
 import com.tinkerpop.gremlin.giraph.structure.GiraphGraph;
 import com.tinkerpop.gremlin.giraph.structure.GiraphHelper;
 import com.tinkerpop.gremlin.giraph.structure.io.EmptyOutEdges;
@@ -24,7 +25,6 @@ import org.apache.hadoop.filecache.DistributedCache;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.LongWritable;
-import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
 import org.apache.hadoop.util.Tool;
@@ -63,7 +63,7 @@ public final class GiraphGraphComputer extends Configured implements GraphComput
         this.giraphConfiguration.setWorkerContextClass(GiraphWorkerContext.class);
         this.giraphConfiguration.setOutEdgesClass(EmptyOutEdges.class);
         this.giraphConfiguration.setClass("giraph.vertexIdClass", LongWritable.class, LongWritable.class);
-        this.giraphConfiguration.setClass("giraph.vertexValueClass", Text.class, Text.class);
+        this.giraphConfiguration.setClass("giraph.vertexValueClass", StarVertexWritable.class, StarVertexWritable.class);
     }
 
     @Override
@@ -79,6 +79,8 @@ public final class GiraphGraphComputer extends Configured implements GraphComput
         final BaseConfiguration apacheConfiguration = new BaseConfiguration();
         vertexProgram.storeState(apacheConfiguration);
         ConfUtil.mergeApacheIntoHadoopConfiguration(apacheConfiguration, this.giraphConfiguration);
+        if (vertexProgram.getMessageCombiner().isPresent())
+            this.giraphConfiguration.setVertexCombinerClass(GiraphMessageCombiner.class);
         return this;
     }
 
@@ -0,0 +1,256 @@
+package com.tinkerpop.gremlin.giraph.process.computer;
+
+import com.tinkerpop.gremlin.giraph.Constants;
+import com.tinkerpop.gremlin.giraph.hdfs.HiddenFileFilter;
+import com.tinkerpop.gremlin.giraph.process.computer.util.ConfUtil;
+import com.tinkerpop.gremlin.giraph.structure.GiraphGraph;
+import com.tinkerpop.gremlin.giraph.structure.GiraphHelper;
+import com.tinkerpop.gremlin.giraph.structure.io.CommonOutputFormat;
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.MapReduce;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.computer.util.GraphComputerHelper;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.StringFactory;
+import com.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
+import com.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import com.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.giraph.io.VertexInputFormat;
+import org.apache.giraph.io.VertexOutputFormat;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.util.ReflectionUtils;
+
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A GiraphLocalGraphComputer executes a {@link VertexProgram} and its {@link MapReduce} jobs within the current JVM.
+ * The adjacency list files at the input location are read by the workers with the InputFormat of the configured
+ * {@link VertexInputFormat} (e.g. {@link com.tinkerpop.gremlin.giraph.structure.io.kryo.KryoInputFormat}).
+ * The vertices are merged into a {@link TinkerGraph} as they are read and its {@link TinkerGraphComputer} partitions
+ * them across the workers.
+ * The resulting graph is written back to the output location with the OutputFormat of the configured
+ * {@link VertexOutputFormat}. Medium-sized graphs can then be processed on a single machine without the startup
+ * overhead of a Hadoop/Giraph job.
+ */
+public final class GiraphLocalGraphComputer implements GraphComputer {
+
+    private final GiraphGraph giraphGraph;
+    private boolean executed = false;
+
+    private final Set<MapReduce> mapReduces = new HashSet<>();
+    private VertexProgram vertexProgram;
+    private Isolation isolation = Isolation.BSP;
+    private int workers;
+
+    public GiraphLocalGraphComputer(final GiraphGraph giraphGraph) {
+        this.giraphGraph = giraphGraph;
+        this.workers = giraphGraph.configuration().getInt(Constants.GREMLIN_GIRAPH_LOCAL_WORKERS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Set the number of workers (threads) that will concurrently read, compute and write the vertices.
+     *
+     * @param workers the number of workers
+     * @return the updated GraphComputer with the newly set number of workers
+     */
+    public GiraphLocalGraphComputer workers(final int workers) {
+        if (workers < 1)
+            throw new IllegalArgumentException("The number of workers must be greater than zero: " + workers);
+        this.workers = workers;
+        return this;
+    }
+
+    @Override
+    public GraphComputer isolation(final Isolation isolation) {
+        this.isolation = isolation;
+        return this;
+    }
+
+    @Override
+    public GraphComputer program(final VertexProgram vertexProgram) {
+        this.vertexProgram = vertexProgram;
+        return this;
+    }
+
+    @Override
+    public GraphComputer mapReduce(final MapReduce mapReduce) {
+        this.mapReduces.add(mapReduce);
+        return this;
+    }
+
+    public String toString() {
+        return StringFactory.graphComputerString(this);
+    }
+
+    @Override
+    public Future<ComputerResult> submit() {
+        if (this.executed)
+            throw Exceptions.computerHasAlreadyBeenSubmittedAVertexProgram();
+        else
+            this.executed = true;
+
+        // it is not possible execute a computer if it has no vertex program nor mapreducers
+        if (null == this.vertexProgram && this.mapReduces.isEmpty())
+            throw GraphComputer.Exceptions.computerHasNoVertexProgramNorMapReducers();
+        // it is possible to run mapreducers without a vertex program
+        if (null != this.vertexProgram)
+            GraphComputerHelper.validateProgramOnComputer(this, this.vertexProgram);
+
+        return CompletableFuture.<ComputerResult>supplyAsync(() -> {
+            try {
+                final Configuration configuration = ConfUtil.makeHadoopConfiguration(this.giraphGraph.configuration());
+                final TinkerGraph graph = this.readGraph(configuration);
+                final TinkerGraphComputer computer = (TinkerGraphComputer) graph.compute();
+                computer.workers(this.workers).isolation(this.isolation);
+                if (null != this.vertexProgram) {
+                    GiraphGraphComputer.LOGGER.info(Constants.GIRAPH_GREMLIN_JOB_PREFIX + this.vertexProgram);
+                    computer.program(this.vertexProgram);
+                }
+                this.mapReduces.forEach(computer::mapReduce);
+                final ComputerResult result = computer.submit().get();
+                // only a vertex program alters the graph and thus, only then is there an output graph to write
+                if (null == this.vertexProgram)
+                    return new ComputerResult(this.giraphGraph, result.memory());
+                this.writeGraph(graph, configuration);
+                return new ComputerResult(GiraphHelper.getOutputGraph(this.giraphGraph), result.memory());
+            } catch (final Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Every split of the input location is read by a worker which merges the star graph of each vertex into a single
+     * {@link TinkerGraph} as soon as it is read, so that only the merged graph is held in memory. An outgoing edge whose
+     * incoming vertex has not been read yet is added once all the vertices are.
+     */
+    private TinkerGraph readGraph(final Configuration configuration) throws Exception {
+        final InputFormat<NullWritable, GiraphComputeVertex> inputFormat = ReflectionUtils.newInstance(
+                ConfUtil.getInputFormatFromVertexInputFormat((Class) configuration.getClass(Constants.GIRAPH_VERTEX_INPUT_FORMAT_CLASS, VertexInputFormat.class)), configuration);
+        final Path inputPath = new Path(configuration.get(Constants.GREMLIN_GIRAPH_INPUT_LOCATION));
+        final FileSystem fs = FileSystem.get(configuration);
+        if (!fs.exists(inputPath))
+            throw new IllegalArgumentException("The provided input path does not exist: " + inputPath);
+        final List<FileStatus> statuses = Arrays.asList(fs.listStatus(inputPath, HiddenFileFilter.instance()));
+        final TinkerGraph graph = TinkerGraph.open();
+        final Queue<DetachedEdge> deferredEdges = new ConcurrentLinkedQueue<>();
+        this.execute(statuses.size(), i -> {
+            final FileSplit split = new FileSplit(statuses.get(i).getPath(), 0, statuses.get(i).getLen(), new String[]{});
+            final RecordReader<NullWritable, GiraphComputeVertex> reader = inputFormat.createRecordReader(split, new TaskAttemptContext(configuration, new TaskAttemptID()));
+            try {
+                while (reader.nextKeyValue()) {
+                    // the star graph is detached outside of the lock of the merged graph and released once merged
+                    final TinkerVertex vertex = reader.getCurrentValue().getBaseVertex();
+                    final DetachedVertex detachedVertex = DetachedVertex.detach(vertex);
+                    final List<DetachedEdge> detachedEdges = new ArrayList<>();
+                    vertex.iterators().edgeIterator(Direction.OUT).forEachRemaining(edge -> detachedEdges.add(DetachedEdge.detach(edge)));
+                    synchronized (graph) {
+                        DetachedVertex.addTo(graph, detachedVertex);
+                        for (final DetachedEdge detachedEdge : detachedEdges) {
+                            if (hasVertex(graph, detachedEdge.iterators().vertexIterator(Direction.IN).next().id()))
+                                DetachedEdge.addTo(graph, detachedEdge);
+                            else
+                                deferredEdges.add(detachedEdge);
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            return null;
+        });
+        deferredEdges.forEach(detachedEdge -> DetachedEdge.addTo(graph, detachedEdge));
+        return graph;
+    }
+
+    private static boolean hasVertex(final TinkerGraph graph, final Object id) {
+        try {
+            graph.v(id);
+            return true;
+        } catch (final NoSuchElementException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Every worker writes a partition of the vertices to its own part file in the output location.
+     */
+    private void writeGraph(final TinkerGraph graph, final Configuration configuration) throws Exception {
+        final CommonOutputFormat outputFormat = ReflectionUtils.newInstance(
+                ConfUtil.getOutputFormatFromVertexOutputFormat((Class) configuration.getClass(Constants.GIRAPH_VERTEX_OUTPUT_FORMAT_CLASS, VertexOutputFormat.class)), configuration);
+        final Path outputPath = new Path(configuration.get(Constants.GREMLIN_GIRAPH_OUTPUT_LOCATION));
+        final FileSystem fs = FileSystem.get(configuration);
+        fs.delete(outputPath, true);
+        final List<Vertex> vertices = graph.V().toList();
+        this.execute(this.workers, i -> {
+            final TaskAttemptContext context = new TaskAttemptContext(configuration, new TaskAttemptID());
+            final Path partPath = new Path(outputPath + "/" + Constants.SYSTEM_G + "/" + String.format("part-m-%05d", i));
+            final RecordWriter<NullWritable, GiraphComputeVertex> writer = outputFormat.getRecordWriter(context, new DataOutputStream(fs.create(partPath, false)));
+            try {
+                for (int j = i; j < vertices.size(); j = j + this.workers) {
+                    writer.write(NullWritable.get(), new GiraphComputeVertex((TinkerVertex) vertices.get(j)));
+                }
+            } finally {
+                writer.close(context);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Executes the tasks on a pool of at most {@code workers} threads.
+     */
+    private <R> List<R> execute(final int tasks, final Task<R> task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(this.workers, tasks)));
+        try {
+            final List<Future<R>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> task.apply(index)));
+            }
+            final List<R> results = new ArrayList<>(tasks);
+            for (final Future<R> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (final ExecutionException e) {
+                    throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task<R> {
+        public R apply(final int i) throws Exception;
+    }
+}
@@ -0,0 +1,52 @@
+package com.tinkerpop.gremlin.giraph.process.computer;
+
+import com.tinkerpop.gremlin.giraph.process.computer.util.ConfUtil;
+import com.tinkerpop.gremlin.giraph.process.computer.util.GremlinWritable;
+import com.tinkerpop.gremlin.giraph.process.computer.util.StarVertexWritable;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.giraph.combiner.Combiner;
+import org.apache.giraph.conf.ImmutableClassesGiraphConfigurable;
+import org.apache.giraph.conf.ImmutableClassesGiraphConfiguration;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.NullWritable;
+
+/**
+ * GiraphMessageCombiner adapts the {@link MessageCombiner} of a {@link VertexProgram} to Giraph's {@link Combiner}.
+ * It is only registered with the Giraph job when the vertex program provides a message combiner.
+ */
+public final class GiraphMessageCombiner extends Combiner<LongWritable, GremlinWritable> implements ImmutableClassesGiraphConfigurable<LongWritable, StarVertexWritable, NullWritable, GremlinWritable> {
+
+    private MessageCombiner messageCombiner;
+    private ImmutableClassesGiraphConfiguration<LongWritable, StarVertexWritable, NullWritable, GremlinWritable> configuration;
+
+    public GiraphMessageCombiner() {
+        // Giraph ReflectionUtils requires this to be public at minimum
+    }
+
+    @Override
+    public void combine(final LongWritable vertexIndex, final GremlinWritable originalMessage, final GremlinWritable messageToCombine) {
+        if (null == originalMessage.get())
+            originalMessage.set(messageToCombine.get());
+        else
+            originalMessage.set(this.messageCombiner.combine(originalMessage.get(), messageToCombine.get()));
+    }
+
+    @Override
+    public GremlinWritable createInitialMessage() {
+        return new GremlinWritable<>();
+    }
+
+    @Override
+    public void setConf(final ImmutableClassesGiraphConfiguration<LongWritable, StarVertexWritable, NullWritable, GremlinWritable> configuration) {
+        this.configuration = configuration;
+        final VertexProgram vertexProgram = VertexProgram.createVertexProgram(ConfUtil.makeApacheConfiguration(configuration));
+        this.messageCombiner = (MessageCombiner) vertexProgram.getMessageCombiner().orElseThrow(() ->
+                new IllegalStateException("The vertex program does not provide a message combiner: " + vertexProgram));
+    }
+
+    @Override
+    public ImmutableClassesGiraphConfiguration<LongWritable, StarVertexWritable, NullWritable, GremlinWritable> getConf() {
+        return this.configuration;
+    }
+}
@@ -1,8 +1,11 @@
 package com.tinkerpop.gremlin.giraph.process.computer.util;
 
+import com.tinkerpop.gremlin.giraph.structure.io.CommonOutputFormat;
 import com.tinkerpop.gremlin.giraph.structure.io.GiraphGremlinInputFormat;
+import com.tinkerpop.gremlin.giraph.structure.io.GiraphGremlinOutputFormat;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.giraph.io.VertexInputFormat;
+import org.apache.giraph.io.VertexOutputFormat;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.mapreduce.InputFormat;
 
@@ -43,4 +46,14 @@ public class ConfUtil {
         throw new IllegalStateException("The provided VertexInputFormatClass is not a GiraphGremlinInputFormat");
     }
 
+    public static Class<CommonOutputFormat> getOutputFormatFromVertexOutputFormat(final Class<VertexOutputFormat> vertexOutputFormatClass) {
+        try {
+            if (GiraphGremlinOutputFormat.class.isAssignableFrom(vertexOutputFormatClass))
+                return (((GiraphGremlinOutputFormat) vertexOutputFormatClass.getConstructor().newInstance()).getOutputFormatClass());
+        } catch (final Exception e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+        throw new IllegalStateException("The provided VertexOutputFormatClass is not a GiraphGremlinOutputFormat");
+    }
+
 }
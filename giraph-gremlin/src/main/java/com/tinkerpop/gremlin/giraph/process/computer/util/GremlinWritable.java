@@ -1,5 +1,7 @@
 package com.tinkerpop.gremlin.giraph.process.computer.util;
 
+import com.esotericsoftware.kryo.io.Output;
+import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
 import com.tinkerpop.gremlin.util.Serializer;
 import org.apache.hadoop.io.WritableComparable;
 import org.apache.hadoop.io.WritableUtils;
@@ -7,12 +9,24 @@ import org.apache.hadoop.io.WritableUtils;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
+ * A writable of any object (e.g. a message, a map reduce key/value or a memory value). The object is serialized with a
+ * thread-local {@link GremlinKryo} instance which registers the traverser, path and detached element serializers.
+ * Small objects are written as is and larger ones are compressed. Objects that {@link GremlinKryo} can not serialize
+ * (e.g. classes that are not registered) fall back to compressed Java serialization.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class GremlinWritable<T> implements WritableComparable<GremlinWritable> {
 
+    public static final int COMPRESSION_THRESHOLD = KryoContext.BUFFER_SIZE;
+
+    static final byte KRYO = 0;
+    static final byte KRYO_COMPRESSED = 1;
+    static final byte JAVA_COMPRESSED = 2;
+
     T t;
 
     public GremlinWritable() {
@@ -33,28 +47,53 @@ public final class GremlinWritable<T> implements WritableComparable<GremlinWrita
 
     @Override
     public String toString() {
-        return this.t.toString();
+        return String.valueOf(this.t);
     }
 
     @Override
     public void readFields(final DataInput input) throws IOException {
-        try {
-            this.t = (T) Serializer.deserializeObject(WritableUtils.readCompressedByteArray(input));
-        } catch (final ClassNotFoundException e) {
-            throw new IOException(e.getMessage(), e);
+        final byte format = input.readByte();
+        switch (format) {
+            case KRYO: {
+                final KryoContext context = KryoContext.instance();
+                final int length = WritableUtils.readVInt(input);
+                final byte[] bytes = context.bytes(length);
+                input.readFully(bytes, 0, length);
+                this.t = (T) context.read(bytes, length);
+                break;
+            }
+            case KRYO_COMPRESSED: {
+                final byte[] bytes = WritableUtils.readCompressedByteArray(input);
+                this.t = (T) KryoContext.instance().read(bytes, bytes.length);
+                break;
+            }
+            case JAVA_COMPRESSED:
+                try {
+                    this.t = (T) Serializer.deserializeObject(WritableUtils.readCompressedByteArray(input));
+                } catch (final ClassNotFoundException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+                break;
+            default:
+                throw new IOException("The serialization format is unknown: " + format);
         }
-        //this.t = (T) Constants.KRYO.readClassAndObject(new Input(new ByteArrayInputStream(WritableUtils.readCompressedByteArray(input))));
     }
 
     @Override
     public void write(final DataOutput output) throws IOException {
-        WritableUtils.writeCompressedByteArray(output, Serializer.serializeObject(this.t));
-        /*final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        final Output out = new Output(outputStream);
-        Constants.KRYO.writeClassAndObject(out, this.t);
-        out.flush();
-        WritableUtils.writeCompressedByteArray(output, outputStream.toByteArray());
-        out.close();*/
+        final KryoContext context = KryoContext.instance();
+        final Output kryoOutput = context.write(this.t);
+        if (null == kryoOutput) {
+            output.writeByte(JAVA_COMPRESSED);
+            WritableUtils.writeCompressedByteArray(output, Serializer.serializeObject(this.t));
+        } else if (kryoOutput.position() <= COMPRESSION_THRESHOLD) {
+            output.writeByte(KRYO);
+            WritableUtils.writeVInt(output, kryoOutput.position());
+            output.write(kryoOutput.getBuffer(), 0, kryoOutput.position());
+        } else {
+            output.writeByte(KRYO_COMPRESSED);
+            WritableUtils.writeCompressedByteArray(output, Arrays.copyOf(kryoOutput.getBuffer(), kryoOutput.position()));
+        }
     }
 
     @Override
@@ -0,0 +1,89 @@
+package com.tinkerpop.gremlin.giraph.process.computer.util;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
+
+/**
+ * The {@link GremlinKryo} instance of a thread along with its reusable buffers as {@link Kryo} is not thread-safe.
+ */
+final class KryoContext {
+
+    static final int BUFFER_SIZE = 1024;
+
+    private static final GremlinKryo GREMLIN_KRYO = GremlinKryo.build().create();
+    private static final ThreadLocal<KryoContext> CONTEXT = new ThreadLocal<KryoContext>() {
+        @Override
+        protected KryoContext initialValue() {
+            return new KryoContext();
+        }
+    };
+
+    private Kryo kryo = GREMLIN_KRYO.createKryo();
+    private final Output output = new Output(BUFFER_SIZE, -1);
+    private final Input input = new Input();
+    private byte[] bytes = new byte[BUFFER_SIZE];
+
+    private KryoContext() {
+    }
+
+    static KryoContext instance() {
+        return CONTEXT.get();
+    }
+
+    Kryo kryo() {
+        return this.kryo;
+    }
+
+    /**
+     * Get the reusable output of the thread, cleared for writing.
+     */
+    Output output() {
+        this.output.clear();
+        return this.output;
+    }
+
+    /**
+     * Get the reusable input of the thread over the provided bytes.
+     */
+    Input input(final byte[] bytes, final int length) {
+        this.input.setBuffer(bytes, 0, length);
+        return this.input;
+    }
+
+    /**
+     * Serialize the object into the reusable output or return null if {@link GremlinKryo} can not serialize it.
+     */
+    Output write(final Object object) {
+        final Output output = this.output();
+        try {
+            this.kryo.writeClassAndObject(output, object);
+            return output;
+        } catch (final KryoException | IllegalArgumentException e) {
+            this.reset();
+            return null;
+        }
+    }
+
+    Object read(final byte[] bytes, final int length) {
+        return this.kryo.readClassAndObject(this.input(bytes, length));
+    }
+
+    /**
+     * Get the reusable byte array of the thread that is at least the provided length.
+     */
+    byte[] bytes(final int length) {
+        if (this.bytes.length < length)
+            this.bytes = new byte[Math.max(length, this.bytes.length * 2)];
+        return this.bytes;
+    }
+
+    /**
+     * Replace the {@link Kryo} instance as a failed serialization can leave it in an inconsistent state.
+     */
+    void reset() {
+        this.kryo = GREMLIN_KRYO.createKryo();
+    }
+}
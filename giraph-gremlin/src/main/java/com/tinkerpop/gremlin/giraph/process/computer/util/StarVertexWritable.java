@@ -0,0 +1,206 @@
+package com.tinkerpop.gremlin.giraph.process.computer.util;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.tinkerpop.gremlin.process.T;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Property;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.VertexProperty;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A writable of a star vertex: a vertex with its properties and its incident edges (and their properties).
+ * The star is encoded in a compact binary form with {@link com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo}. It is
+ * only decoded (into a {@link TinkerGraph} of the vertex, its edges and stubs of its adjacent vertices) when the vertex
+ * is first requested. A star that was never decoded is written back out as the bytes it was read from.
+ */
+public final class StarVertexWritable implements Writable {
+
+    private byte[] bytes = null;
+    private int length = 0;
+    private TinkerVertex vertex = null;
+
+    public StarVertexWritable() {
+    }
+
+    public StarVertexWritable(final TinkerVertex vertex) {
+        this.vertex = vertex;
+    }
+
+    /**
+     * Get the vertex of the star, decoding it if it has not been decoded yet.
+     */
+    public TinkerVertex get() {
+        if (null == this.vertex) {
+            try {
+                this.vertex = decode(this.bytes, this.length);
+            } catch (final KryoException e) {
+                KryoContext.instance().reset();
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            this.bytes = null;
+            this.length = 0;
+        }
+        return this.vertex;
+    }
+
+    public boolean isDecoded() {
+        return null != this.vertex;
+    }
+
+    @Override
+    public void readFields(final DataInput input) throws IOException {
+        this.length = WritableUtils.readVInt(input);
+        if (null == this.bytes || this.bytes.length < this.length)
+            this.bytes = new byte[this.length];
+        input.readFully(this.bytes, 0, this.length);
+        this.vertex = null;
+    }
+
+    @Override
+    public void write(final DataOutput output) throws IOException {
+        if (null == this.vertex) {
+            WritableUtils.writeVInt(output, this.length);
+            output.write(this.bytes, 0, this.length);
+        } else {
+            final Output kryoOutput;
+            try {
+                kryoOutput = encode(this.vertex);
+            } catch (final KryoException | IllegalArgumentException e) {
+                KryoContext.instance().reset();
+                throw new IOException(e.getMessage(), e);
+            }
+            WritableUtils.writeVInt(output, kryoOutput.position());
+            output.write(kryoOutput.getBuffer(), 0, kryoOutput.position());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return null == this.vertex ? "star[" + this.length + " bytes]" : this.vertex.toString();
+    }
+
+    ///////////////////////////////////////////////
+
+    private static Output encode(final Vertex vertex) {
+        final KryoContext context = KryoContext.instance();
+        final Kryo kryo = context.kryo();
+        final Output output = context.output();
+        kryo.writeClassAndObject(output, vertex.id());
+        output.writeString(vertex.label());
+        final List<VertexProperty<Object>> properties = list(vertex.iterators().propertyIterator());
+        final List<VertexProperty<Object>> hiddenProperties = list(vertex.iterators().hiddenPropertyIterator());
+        output.writeInt(properties.size() + hiddenProperties.size(), true);
+        for (final VertexProperty<Object> vertexProperty : properties) {
+            writeVertexProperty(kryo, output, vertexProperty, false);
+        }
+        for (final VertexProperty<Object> vertexProperty : hiddenProperties) {
+            writeVertexProperty(kryo, output, vertexProperty, true);
+        }
+        for (final Direction direction : Arrays.asList(Direction.OUT, Direction.IN)) {
+            final List<Edge> edges = new ArrayList<>();
+            vertex.iterators().edgeIterator(direction).forEachRemaining(edges::add);
+            output.writeInt(edges.size(), true);
+            for (final Edge edge : edges) {
+                kryo.writeClassAndObject(output, edge.id());
+                output.writeString(edge.label());
+                kryo.writeClassAndObject(output, edge.iterators().vertexIterator(direction.opposite()).next().id());
+                writeProperties(kryo, output, list(edge.iterators().propertyIterator()), list(edge.iterators().hiddenPropertyIterator()));
+            }
+        }
+        return output;
+    }
+
+    private static TinkerVertex decode(final byte[] bytes, final int length) {
+        final KryoContext context = KryoContext.instance();
+        final Kryo kryo = context.kryo();
+        final Input input = context.input(bytes, length);
+        final TinkerGraph graph = TinkerGraph.open();
+        final Object id = kryo.readClassAndObject(input);
+        final TinkerVertex vertex = (TinkerVertex) graph.addVertex(T.id, id, T.label, input.readString());
+        final Map<Object, Vertex> adjacents = new HashMap<>();
+        adjacents.put(id, vertex);
+        for (int i = input.readInt(true); i > 0; i--) {
+            final Object propertyId = kryo.readClassAndObject(input);
+            final String key = input.readString();
+            final Object value = kryo.readClassAndObject(input);
+            vertex.property(key, value, keyValues(kryo, input, T.id, propertyId));
+        }
+        for (final Direction direction : Arrays.asList(Direction.OUT, Direction.IN)) {
+            for (int i = input.readInt(true); i > 0; i--) {
+                final Object edgeId = kryo.readClassAndObject(input);
+                final String label = input.readString();
+                final Object otherId = kryo.readClassAndObject(input);
+                final Object[] keyValues = keyValues(kryo, input, T.id, edgeId);
+                if (direction.equals(Direction.IN) && id.equals(otherId))
+                    continue; // a self-loop was already added as an out edge
+                final Vertex other = adjacents.computeIfAbsent(otherId, otherVertexId -> graph.addVertex(T.id, otherVertexId));
+                if (direction.equals(Direction.OUT))
+                    vertex.addEdge(label, other, keyValues);
+                else
+                    other.addEdge(label, vertex, keyValues);
+            }
+        }
+        return vertex;
+    }
+
+    private static <P> List<P> list(final Iterator<P> iterator) {
+        final List<P> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+
+    private static void writeVertexProperty(final Kryo kryo, final Output output, final VertexProperty<Object> vertexProperty, final boolean hidden) {
+        kryo.writeClassAndObject(output, vertexProperty.id());
+        writeProperty(kryo, output, vertexProperty, hidden);
+        writeProperties(kryo, output, list(vertexProperty.iterators().propertyIterator()), list(vertexProperty.iterators().hiddenPropertyIterator()));
+    }
+
+    private static void writeProperties(final Kryo kryo, final Output output, final List<? extends Property<Object>> properties, final List<? extends Property<Object>> hiddenProperties) {
+        output.writeInt(properties.size() + hiddenProperties.size(), true);
+        for (final Property<Object> property : properties) {
+            writeProperty(kryo, output, property, false);
+        }
+        for (final Property<Object> property : hiddenProperties) {
+            writeProperty(kryo, output, property, true);
+        }
+    }
+
+    private static void writeProperty(final Kryo kryo, final Output output, final Property<Object> property, final boolean hidden) {
+        output.writeString(hidden ? Graph.Key.hide(property.key()) : property.key());
+        kryo.writeClassAndObject(output, property.value());
+    }
+
+    /**
+     * Read the key/values of written properties prefixed by the provided id key/value.
+     */
+    private static Object[] keyValues(final Kryo kryo, final Input input, final T idKey, final Object id) {
+        final int size = input.readInt(true);
+        final Object[] keyValues = new Object[2 + size * 2];
+        keyValues[0] = idKey;
+        keyValues[1] = id;
+        for (int i = 2; i < keyValues.length; i = i + 2) {
+            keyValues[i] = input.readString();
+            keyValues[i + 1] = kryo.readClassAndObject(input);
+        }
+        return keyValues;
+    }
+}
@@ -2,6 +2,7 @@ package com.tinkerpop.gremlin.giraph.structure;
 
 import com.tinkerpop.gremlin.giraph.Constants;
 import com.tinkerpop.gremlin.giraph.process.computer.GiraphGraphComputer;
+import com.tinkerpop.gremlin.giraph.process.computer.GiraphLocalGraphComputer;
 import com.tinkerpop.gremlin.giraph.process.computer.util.ConfUtil;
 import com.tinkerpop.gremlin.giraph.process.graph.step.sideEffect.GiraphGraphStep;
 import com.tinkerpop.gremlin.process.TraversalStrategies;
@@ -131,6 +132,8 @@ public class GiraphGraph implements Graph {
         GraphComputerHelper.validateComputeArguments(graphComputerClass);
         if (graphComputerClass.length == 0 || graphComputerClass[0].equals(GiraphGraphComputer.class))
             return new GiraphGraphComputer(this);
+        else if (graphComputerClass[0].equals(GiraphLocalGraphComputer.class))
+            return new GiraphLocalGraphComputer(this);
         else
             throw Graph.Exceptions.graphDoesNotSupportProvidedGraphComputer(graphComputerClass[0]);
     }
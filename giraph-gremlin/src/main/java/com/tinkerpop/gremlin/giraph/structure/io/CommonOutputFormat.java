@@ -7,6 +7,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.compress.CompressionCodec;
 import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.mapreduce.RecordWriter;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
 import org.apache.hadoop.util.ReflectionUtils;
@@ -38,4 +39,6 @@ public abstract class CommonOutputFormat extends FileOutputFormat<NullWritable,
             return new DataOutputStream(codec.createOutputStream(fs.create(file, false)));
         }
     }
+
+    public abstract RecordWriter<NullWritable, GiraphComputeVertex> getRecordWriter(final TaskAttemptContext job, final DataOutputStream outputStream) throws IOException, InterruptedException;
 }
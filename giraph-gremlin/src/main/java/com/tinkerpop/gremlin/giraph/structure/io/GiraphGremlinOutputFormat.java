@@ -0,0 +1,11 @@
+package com.tinkerpop.gremlin.giraph.structure.io;
+
+/**
+ * Giraph maintains its own VertexOutputFormat class. These are not compatible with native Hadoop.
+ * A GiraphGremlinOutputFormat extends VertexOutputFormat and provides access to the {@link CommonOutputFormat} that can write:
+ * &lt;NullWritable,GiraphVertex&gt; streams.
+ */
+public interface GiraphGremlinOutputFormat {
+
+    public Class<CommonOutputFormat> getOutputFormatClass();
+}
@@ -1,5 +1,7 @@
 package com.tinkerpop.gremlin.giraph.structure.io.graphson;
 
+import com.tinkerpop.gremlin.giraph.structure.io.CommonOutputFormat;
+import com.tinkerpop.gremlin.giraph.structure.io.GiraphGremlinOutputFormat;
 import org.apache.giraph.io.VertexOutputFormat;
 import org.apache.giraph.io.VertexWriter;
 import org.apache.hadoop.mapred.FileOutputCommitter;
@@ -12,7 +14,7 @@ import java.io.IOException;
 /**
  * @author Joshua Shinavier (http://fortytwo.net)
  */
-public class GraphSONVertexOutputFormat extends VertexOutputFormat {
+public class GraphSONVertexOutputFormat extends VertexOutputFormat implements GiraphGremlinOutputFormat {
     @Override
     public VertexWriter createVertexWriter(TaskAttemptContext context) throws IOException, InterruptedException {
         return new GraphSONVertexWriter();
@@ -26,4 +28,9 @@ public class GraphSONVertexOutputFormat extends VertexOutputFormat {
     public OutputCommitter getOutputCommitter(TaskAttemptContext context) throws IOException, InterruptedException {
         return new FileOutputCommitter();
     }
+
+    @Override
+    public Class<CommonOutputFormat> getOutputFormatClass() {
+        return (Class) GraphSONOutputFormat.class;
+    }
 }
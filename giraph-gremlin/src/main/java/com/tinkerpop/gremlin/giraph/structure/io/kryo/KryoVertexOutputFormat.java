@@ -1,5 +1,7 @@
 package com.tinkerpop.gremlin.giraph.structure.io.kryo;
 
+import com.tinkerpop.gremlin.giraph.structure.io.CommonOutputFormat;
+import com.tinkerpop.gremlin.giraph.structure.io.GiraphGremlinOutputFormat;
 import org.apache.giraph.io.VertexOutputFormat;
 import org.apache.giraph.io.VertexWriter;
 import org.apache.hadoop.mapred.FileOutputCommitter;
@@ -12,7 +14,7 @@ import java.io.IOException;
 /**
  * @author Joshua Shinavier (http://fortytwo.net)
  */
-public class KryoVertexOutputFormat extends VertexOutputFormat {
+public class KryoVertexOutputFormat extends VertexOutputFormat implements GiraphGremlinOutputFormat {
     @Override
     public VertexWriter createVertexWriter(TaskAttemptContext context) throws IOException, InterruptedException {
         return new KryoVertexWriter();
@@ -26,4 +28,9 @@ public class KryoVertexOutputFormat extends VertexOutputFormat {
     public OutputCommitter getOutputCommitter(TaskAttemptContext context) throws IOException, InterruptedException {
         return new FileOutputCommitter();
     }
-}
\ No newline at end of file
+
+    @Override
+    public Class<CommonOutputFormat> getOutputFormatClass() {
+        return (Class) KryoOutputFormat.class;
+    }
+}
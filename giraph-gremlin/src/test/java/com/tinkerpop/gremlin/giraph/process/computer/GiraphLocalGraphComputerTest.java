@@ -0,0 +1,82 @@
+package com.tinkerpop.gremlin.giraph.process.computer;
+
+import com.tinkerpop.gremlin.LoadGraphWith;
+import com.tinkerpop.gremlin.giraph.Constants;
+import com.tinkerpop.gremlin.giraph.GiraphGraphProvider;
+import com.tinkerpop.gremlin.giraph.structure.GiraphGraph;
+import com.tinkerpop.gremlin.giraph.structure.io.graphson.GraphSONVertexInputFormat;
+import com.tinkerpop.gremlin.giraph.structure.io.graphson.GraphSONVertexOutputFormat;
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.lambda.LambdaMapReduce;
+import com.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import com.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.apache.giraph.conf.GiraphConstants;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GiraphLocalGraphComputerTest {
+
+    @Test
+    public void shouldReadComputeAndWriteWithoutHadoop() throws Exception {
+        final GiraphGraphProvider provider = new GiraphGraphProvider();
+        final Map<String, Object> map = provider.getBaseConfiguration("gremlin.giraph", GiraphLocalGraphComputerTest.class, "shouldReadComputeAndWriteWithoutHadoop");
+        map.put(Constants.GREMLIN_GIRAPH_OUTPUT_LOCATION, "target/test-output-local");
+        map.put(Constants.GREMLIN_GIRAPH_LOCAL_WORKERS, 4);
+        final GiraphGraph g = (GiraphGraph) GraphFactory.open(map);
+        provider.loadGraphData(g, LoadGraphWith.GraphData.GRATEFUL);
+        final ComputerResult result = g.compute(GiraphLocalGraphComputer.class).program(PageRankVertexProgram.build().create()).submit().get();
+        // the output graph is read back from the part files of the workers
+        assertEquals(808l, (long) result.graph().V().count().next());
+        assertEquals(808l, (long) result.graph().V().has(PageRankVertexProgram.PAGE_RANK).count().next());
+        assertEquals(8049l, (long) result.graph().E().count().next());
+    }
+
+    @Test
+    public void shouldReadGraphSONInput() throws Exception {
+        final GiraphGraphProvider provider = new GiraphGraphProvider();
+        final Map<String, Object> map = provider.getBaseConfiguration("gremlin.giraph", GiraphLocalGraphComputerTest.class, "shouldReadGraphSONInput");
+        map.put(GiraphConstants.VERTEX_INPUT_FORMAT_CLASS.getKey(), GraphSONVertexInputFormat.class.getCanonicalName());
+        map.put(GiraphConstants.VERTEX_OUTPUT_FORMAT_CLASS.getKey(), GraphSONVertexOutputFormat.class.getCanonicalName());
+        map.put(Constants.GREMLIN_GIRAPH_INPUT_LOCATION, GiraphGraphProvider.PATHS.get("grateful-dead-vertices.ldjson"));
+        map.put(Constants.GREMLIN_GIRAPH_OUTPUT_LOCATION, "target/test-output-local-graphson");
+        map.put(Constants.GREMLIN_GIRAPH_LOCAL_WORKERS, 2);
+        final GiraphGraph g = (GiraphGraph) GraphFactory.open(map);
+        final ComputerResult result = g.compute(GiraphLocalGraphComputer.class).program(PageRankVertexProgram.build().create()).submit().get();
+        assertEquals(808l, (long) result.graph().V().count().next());
+        assertEquals(808l, (long) result.graph().V().has(PageRankVertexProgram.PAGE_RANK).count().next());
+        assertEquals(8049l, (long) result.graph().E().count().next());
+    }
+
+    @Test
+    public void shouldExecuteMapReduceWithoutAVertexProgram() throws Exception {
+        final GiraphGraphProvider provider = new GiraphGraphProvider();
+        final Map<String, Object> map = provider.getBaseConfiguration("gremlin.giraph", GiraphLocalGraphComputerTest.class, "shouldExecuteMapReduceWithoutAVertexProgram");
+        map.put(Constants.GREMLIN_GIRAPH_OUTPUT_LOCATION, "target/test-output-local-mapreduce");
+        final GiraphGraph g = (GiraphGraph) GraphFactory.open(map);
+        provider.loadGraphData(g, LoadGraphWith.GraphData.GRATEFUL);
+        final ComputerResult result = g.compute(GiraphLocalGraphComputer.class).mapReduce(LambdaMapReduce.<String, Long, String, Long, Map<String, Long>>build()
+                .map((vertex, emitter) -> emitter.emit(vertex.label(), 1l))
+                .reduce((label, counts, emitter) -> {
+                    long count = 0l;
+                    while (counts.hasNext()) {
+                        count = count + counts.next();
+                    }
+                    emitter.emit(label, count);
+                })
+                .memory(pairs -> {
+                    final Map<String, Long> labels = new HashMap<>();
+                    pairs.forEachRemaining(pair -> labels.put(pair.getValue0(), pair.getValue1()));
+                    return labels;
+                })
+                .memoryKey("labels").create()).submit().get();
+        // without a vertex program the graph is unaltered and so, the input graph is the result
+        assertSame(g, result.graph());
+        final Map<String, Long> labels = result.memory().get("labels");
+        assertEquals(808l, labels.values().stream().mapToLong(Long::longValue).sum());
+    }
+}
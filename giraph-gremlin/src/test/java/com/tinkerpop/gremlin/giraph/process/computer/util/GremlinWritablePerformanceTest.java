@@ -0,0 +1,128 @@
+package com.tinkerpop.gremlin.giraph.process.computer.util;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.traversers.PathTraverser;
+import com.tinkerpop.gremlin.process.traversers.SimpleTraverser;
+import com.tinkerpop.gremlin.process.util.DefaultTraversalSideEffects;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.util.Serializer;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.WritableUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the round trip of {@link TraverserSet} messages through {@link GremlinWritable} to the compressed Java
+ * serialization that it previously used. The bytes per message and the messages per second of each are logged.
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "gremlin-writable")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-gremlin-writable")
+public class GremlinWritablePerformanceTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinWritablePerformanceTest.class);
+
+    public final static int DEFAULT_BENCHMARK_ROUNDS = 20;
+    public final static int DEFAULT_WARMUP_ROUNDS = 5;
+    private final static int MESSAGES = 10000;
+
+    private static final List<TraverserSet<Vertex>> messages = new ArrayList<>();
+    private static final Map<String, long[]> statistics = new LinkedHashMap<>();  // bytes, messages, nanoseconds
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @BeforeClass
+    public static void before() {
+        final TinkerGraph g = TinkerFactory.createModern();
+        final DefaultTraversalSideEffects sideEffects = new DefaultTraversalSideEffects();
+        final List<Vertex> vertices = g.V().toList();
+        for (int i = 0; i < MESSAGES; i++) {
+            final TraverserSet<Vertex> message = new TraverserSet<>();
+            for (int j = 0; j <= i % 3; j++) {
+                final Vertex vertex = vertices.get((i + j) % vertices.size());
+                final Traverser.Admin<Vertex> traverser = 0 == i % 2 ?
+                        new SimpleTraverser<>(vertex, sideEffects) :
+                        new PathTraverser<>(vertex, sideEffects);
+                traverser.setBulk(j + 1);
+                traverser.detach();  // as messages are detached before they are sent
+                message.add(traverser);
+            }
+            messages.add(message);
+        }
+    }
+
+    @AfterClass
+    public static void after() {
+        statistics.forEach((name, statistic) -> LOGGER.info("{}: {} bytes per message and {} messages per second",
+                name, statistic[0] / statistic[1], statistic[1] * 1000000000l / Math.max(1l, statistic[2])));
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void roundTripGremlinWritable() throws IOException {
+        final long start = System.nanoTime();
+        final DataOutputBuffer output = new DataOutputBuffer();
+        final DataInputBuffer input = new DataInputBuffer();
+        final GremlinWritable<TraverserSet<Vertex>> writable = new GremlinWritable<>();
+        long bytes = 0l;
+        for (final TraverserSet<Vertex> message : messages) {
+            output.reset();
+            writable.set(message);
+            writable.write(output);
+            bytes = bytes + output.getLength();
+            input.reset(output.getData(), output.getLength());
+            writable.readFields(input);
+            assertEquals(message.size(), writable.get().size());
+        }
+        record("GremlinWritable", bytes, System.nanoTime() - start);
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void roundTripCompressedJavaSerialization() throws Exception {
+        final long start = System.nanoTime();
+        final DataOutputBuffer output = new DataOutputBuffer();
+        final DataInputBuffer input = new DataInputBuffer();
+        long bytes = 0l;
+        for (final TraverserSet<Vertex> message : messages) {
+            output.reset();
+            WritableUtils.writeCompressedByteArray(output, Serializer.serializeObject(message));
+            bytes = bytes + output.getLength();
+            input.reset(output.getData(), output.getLength());
+            final TraverserSet<Vertex> read = (TraverserSet<Vertex>) Serializer.deserializeObject(WritableUtils.readCompressedByteArray(input));
+            assertEquals(message.size(), read.size());
+        }
+        record("compressed Java serialization", bytes, System.nanoTime() - start);
+    }
+
+    private static void record(final String name, final long bytes, final long nanoseconds) {
+        final long[] statistic = statistics.computeIfAbsent(name, k -> new long[3]);
+        statistic[0] = statistic[0] + bytes;
+        statistic[1] = statistic[1] + messages.size();
+        statistic[2] = statistic[2] + nanoseconds;
+    }
+}
@@ -0,0 +1,158 @@
+package com.tinkerpop.gremlin.giraph.process.computer.util;
+
+import com.tinkerpop.gremlin.giraph.process.computer.GiraphMessageCombiner;
+import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.traversers.PathTraverser;
+import com.tinkerpop.gremlin.process.util.DefaultTraversalSideEffects;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GremlinWritableTest {
+
+    @Test
+    public void shouldWriteSmallObjectsWithKryo() throws IOException {
+        final List<Object> values = new ArrayList<>(Arrays.asList("marko", 29, 1.5d));
+        final DataOutputBuffer output = write(new GremlinWritable<>(values));
+        assertEquals(GremlinWritable.KRYO, output.getData()[0]);
+        assertTrue(output.getLength() <= GremlinWritable.COMPRESSION_THRESHOLD);
+        assertEquals(values, read(output).get());
+    }
+
+    @Test
+    public void shouldCompressLargeObjectsWrittenWithKryo() throws IOException {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            names.add("name-" + i);
+        }
+        final DataOutputBuffer output = write(new GremlinWritable<>(names));
+        assertEquals(GremlinWritable.KRYO_COMPRESSED, output.getData()[0]);
+        assertEquals(names, read(output).get());
+    }
+
+    @Test
+    public void shouldCompressLargeTraverserSets() throws IOException {
+        final DefaultTraversalSideEffects sideEffects = new DefaultTraversalSideEffects();
+        final TraverserSet<Vertex> traversers = new TraverserSet<>();
+        for (final Vertex vertex : TinkerFactory.createModern().V().toList()) {
+            for (int i = 0; i < 100; i++) {
+                final Traverser.Admin<Vertex> traverser = new PathTraverser<>(vertex, sideEffects);
+                traverser.incrLoops();
+                for (int j = 0; j < i; j++) {
+                    traverser.incrLoops();
+                }
+                traverser.setBulk(i + 1);
+                traverser.detach();
+                traversers.add(traverser);
+            }
+        }
+        final DataOutputBuffer output = write(new GremlinWritable<>(traversers));
+        assertEquals(GremlinWritable.KRYO_COMPRESSED, output.getData()[0]);
+        final TraverserSet<Vertex> read = (TraverserSet<Vertex>) read(output).get();
+        assertEquals(600, read.size());
+        assertEquals(traversers.stream().mapToLong(Traverser::bulk).sum(), read.stream().mapToLong(Traverser::bulk).sum());
+    }
+
+    @Test
+    public void shouldFallBackToJavaSerializationForObjectsThatKryoCanNotWrite() throws IOException {
+        final DataOutputBuffer output = write(new GremlinWritable<>(new Unregistered("marko", 29)));
+        assertEquals(GremlinWritable.JAVA_COMPRESSED, output.getData()[0]);
+        final Unregistered read = (Unregistered) read(output).get();
+        assertEquals("marko", read.name);
+        assertEquals(29, read.age);
+
+        // the kryo instance of the thread is still usable after the failed serialization
+        final DataOutputBuffer next = write(new GremlinWritable<>("stephen"));
+        assertEquals(GremlinWritable.KRYO, next.getData()[0]);
+        assertEquals("stephen", read(next).get());
+    }
+
+    @Test
+    public void shouldRoundTripTheInitialMessageOfTheCombiner() throws IOException {
+        final GremlinWritable message = new GiraphMessageCombiner().createInitialMessage();
+        assertNull(message.get());
+        final DataOutputBuffer output = write(message);
+        assertEquals(GremlinWritable.KRYO, output.getData()[0]);
+        final GremlinWritable read = new GremlinWritable<>("overwritten");
+        final DataInputBuffer input = new DataInputBuffer();
+        input.reset(output.getData(), output.getLength());
+        read.readFields(input);
+        assertNull(read.get());
+        assertEquals("null", read.toString());
+    }
+
+    @Test
+    public void shouldNotReadAnUnknownFormat() {
+        final DataInputBuffer input = new DataInputBuffer();
+        input.reset(new byte[]{9, 0, 0}, 3);
+        try {
+            new GremlinWritable<>().readFields(input);
+            fail("The format of the bytes is unknown");
+        } catch (final IOException e) {
+            assertEquals("The serialization format is unknown: 9", e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldReadConsecutiveWritablesOfEachFormat() throws IOException {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            names.add("name-" + i);
+        }
+        final List<Object> objects = Arrays.asList("marko", names, new Unregistered("stephen", 40), null, 7l);
+        final DataOutputBuffer output = new DataOutputBuffer();
+        for (final Object object : objects) {
+            new GremlinWritable<>(object).write(output);
+        }
+        final DataInputBuffer input = new DataInputBuffer();
+        input.reset(output.getData(), output.getLength());
+        final GremlinWritable<Object> writable = new GremlinWritable<>();
+        for (final Object object : objects) {
+            writable.readFields(input);
+            if (object instanceof Unregistered)
+                assertEquals("stephen", ((Unregistered) writable.get()).name);
+            else
+                assertEquals(object, writable.get());
+        }
+        assertEquals(output.getLength(), input.getPosition());
+    }
+
+    private static DataOutputBuffer write(final GremlinWritable<?> writable) throws IOException {
+        final DataOutputBuffer output = new DataOutputBuffer();
+        writable.write(output);
+        return output;
+    }
+
+    private static GremlinWritable<?> read(final DataOutputBuffer output) throws IOException {
+        final DataInputBuffer input = new DataInputBuffer();
+        input.reset(output.getData(), output.getLength());
+        final GremlinWritable<?> writable = new GremlinWritable<>();
+        writable.readFields(input);
+        assertEquals(output.getLength(), input.getPosition());
+        return writable;
+    }
+
+    private static class Unregistered implements Serializable {
+        private final String name;
+        private final int age;
+
+        private Unregistered(final String name, final int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.tinkerpop.gremlin.giraph.process.computer.util;
+
+import com.tinkerpop.gremlin.process.T;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.VertexProperty;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StarVertexWritableTest {
+
+    @Test
+    public void shouldRoundTripMultiPropertiesWithMetaProperties() throws IOException {
+        final TinkerGraph g = TinkerFactory.createTheCrew();
+        final TinkerVertex marko = (TinkerVertex) g.v(1);
+        final Vertex vertex = roundTrip(new StarVertexWritable(marko)).get();
+
+        assertEquals(1, vertex.id());
+        assertEquals("person", vertex.label());
+        assertEquals("marko", vertex.value("name"));
+        assertEquals(locations(marko), locations(vertex));
+
+        final Map<Object, Object> ids = new HashMap<>();
+        marko.iterators().<String>propertyIterator("location").forEachRemaining(p -> ids.put(p.value(), p.id()));
+        vertex.iterators().<String>propertyIterator("location").forEachRemaining(p -> assertEquals(ids.get(p.value()), p.id()));
+    }
+
+    @Test
+    public void shouldRoundTripHiddenProperties() throws IOException {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex v = g.addVertex(T.id, 1l, "name", "a", Graph.Key.hide("visible"), false);
+        v.property("location", "x", Graph.Key.hide("verified"), true);
+        final Vertex w = g.addVertex(T.id, 2l);
+        v.addEdge("knows", w, "weight", 0.5d, Graph.Key.hide("weight"), 1.5d);
+
+        final Vertex vertex = roundTrip(new StarVertexWritable((TinkerVertex) v)).get();
+        assertEquals(new HashSet<>(Arrays.asList("name", "location")), vertex.keys());
+        assertEquals(new HashSet<>(Arrays.asList("visible")), vertex.hiddenKeys());
+        assertFalse(vertex.<Boolean>value(Graph.Key.hide("visible")));
+        final VertexProperty<String> location = vertex.property("location");
+        assertTrue(location.<Boolean>value(Graph.Key.hide("verified")));
+        assertTrue(location.keys().isEmpty());
+
+        final Edge edge = vertex.iterators().edgeIterator(Direction.OUT).next();
+        assertEquals(0.5d, edge.<Double>value("weight"), 0.0d);
+        assertEquals(1.5d, edge.<Double>value(Graph.Key.hide("weight")), 0.0d);
+    }
+
+    @Test
+    public void shouldRoundTripEdgesWithProperties() throws IOException {
+        final TinkerGraph g = TinkerFactory.createTheCrew();
+        final TinkerVertex gremlin = (TinkerVertex) g.v(10);
+        final Vertex vertex = roundTrip(new StarVertexWritable(gremlin)).get();
+
+        assertEquals(edges(gremlin, Direction.IN), edges(vertex, Direction.IN));
+        assertEquals(edges(gremlin, Direction.OUT), edges(vertex, Direction.OUT));
+        // the adjacent vertices are only stubs of their ids
+        vertex.iterators().vertexIterator(Direction.IN).forEachRemaining(adjacent -> assertTrue(adjacent.keys().isEmpty()));
+    }
+
+    @Test
+    public void shouldRoundTripSelfLoops() throws IOException {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex v = g.addVertex(T.id, 1l);
+        v.addEdge("self", v, T.id, 10l, "weight", 1);
+        v.addEdge("knows", g.addVertex(T.id, 2l), T.id, 11l);
+
+        final Vertex vertex = roundTrip(new StarVertexWritable((TinkerVertex) v)).get();
+        assertEquals(2, count(vertex, Direction.OUT));
+        assertEquals(1, count(vertex, Direction.IN));
+        final Edge self = vertex.iterators().edgeIterator(Direction.IN).next();
+        assertEquals(10l, self.id());
+        assertEquals(1, (int) self.value("weight"));
+        assertEquals(vertex, self.iterators().vertexIterator(Direction.OUT).next());
+        assertEquals(2, vertex.graph().V().count().next().intValue());
+    }
+
+    @Test
+    public void shouldOnlyDecodeWhenTheVertexIsRequested() throws IOException {
+        final TinkerGraph g = TinkerFactory.createTheCrew();
+        final StarVertexWritable writable = roundTrip(new StarVertexWritable((TinkerVertex) g.v(7)));
+        assertFalse(writable.isDecoded());
+        assertTrue(writable.toString().startsWith("star["));
+        assertEquals("stephen", writable.get().value("name"));
+        assertTrue(writable.isDecoded());
+        assertTrue(writable.get() == writable.get());
+    }
+
+    @Test
+    public void shouldWriteTheReadBytesOfAVertexThatWasNotDecoded() throws IOException {
+        final TinkerGraph g = TinkerFactory.createTheCrew();
+        final byte[] bytes = write(new StarVertexWritable((TinkerVertex) g.v(8)));
+        final StarVertexWritable writable = read(bytes);
+        assertArrayEquals(bytes, write(writable));
+        assertFalse(writable.isDecoded());
+        assertEquals(locations(g.v(8)), locations(read(write(writable)).get()));
+    }
+
+    @Test
+    public void shouldReuseTheWritableForSmallerStars() throws IOException {
+        final TinkerGraph g = TinkerFactory.createTheCrew();
+        final byte[] marko = write(new StarVertexWritable((TinkerVertex) g.v(1)));
+        final byte[] tinkergraph = write(new StarVertexWritable((TinkerVertex) g.v(11)));
+        assertTrue(tinkergraph.length < marko.length);
+
+        final StarVertexWritable writable = read(marko);
+        final DataInputBuffer input = new DataInputBuffer();
+        input.reset(tinkergraph, tinkergraph.length);
+        writable.readFields(input);
+        assertArrayEquals(tinkergraph, write(writable));
+        assertEquals("tinkergraph", writable.get().value("name"));
+    }
+
+    private static StarVertexWritable roundTrip(final StarVertexWritable writable) throws IOException {
+        return read(write(writable));
+    }
+
+    private static byte[] write(final StarVertexWritable writable) throws IOException {
+        final DataOutputBuffer output = new DataOutputBuffer();
+        writable.write(output);
+        return Arrays.copyOf(output.getData(), output.getLength());
+    }
+
+    private static StarVertexWritable read(final byte[] bytes) throws IOException {
+        final DataInputBuffer input = new DataInputBuffer();
+        input.reset(bytes, bytes.length);
+        final StarVertexWritable writable = new StarVertexWritable();
+        writable.readFields(input);
+        return writable;
+    }
+
+    private static Set<List<Object>> locations(final Vertex vertex) {
+        final Set<List<Object>> locations = new HashSet<>();
+        vertex.iterators().<String>propertyIterator("location").forEachRemaining(p ->
+                locations.add(Arrays.asList(p.value(), p.value("startTime", null), p.value("endTime", null))));
+        return locations;
+    }
+
+    private static Set<List<Object>> edges(final Vertex vertex, final Direction direction) {
+        final Set<List<Object>> edges = new HashSet<>();
+        vertex.iterators().edgeIterator(direction).forEachRemaining(e -> {
+            final List<Object> edge = new ArrayList<>(Arrays.asList(e.id(), e.label(), e.iterators().vertexIterator(direction.opposite()).next().id()));
+            e.iterators().propertyIterator().forEachRemaining(p -> edge.addAll(Arrays.asList(p.key(), p.value())));
+            edges.add(edge);
+        });
+        return edges;
+    }
+
+    private static int count(final Vertex vertex, final Direction direction) {
+        final List<Edge> edges = new ArrayList<>();
+        vertex.iterators().edgeIterator(direction).forEachRemaining(edges::add);
+        return edges.size();
+    }
+}
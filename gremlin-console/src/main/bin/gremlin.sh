@@ -43,9 +43,6 @@ if [ -z "${SCRIPT_DEBUG:-}" ]; then
     SCRIPT_DEBUG=
 fi
 
-# Initialize the profiling switch
-PROFILING_ENABLED=false
-
 # Process options
 MAIN_CLASS=com.tinkerpop.gremlin.console.Console
 while getopts "elpv" opt; do
@@ -63,7 +60,8 @@ while getopts "elpv" opt; do
 	   SCRIPT_DEBUG=y
        fi
        ;;
-    p) PROFILING_ENABLED=true
+    # Deprecated - profiling is enabled per traversal with the profile() step so -p is ignored
+    p) echo "WARNING: the -p option is deprecated and ignored - use the profile() step to profile a traversal" >&2
        ;;
     v) MAIN_CLASS=com.tinkerpop.gremlin.Version
     esac
@@ -76,10 +74,6 @@ if [ -z "${JAVA_OPTIONS:-}" ]; then
     JAVA_OPTIONS="-Dlog4j.configuration=conf/log4j-repl.properties -Dgremlin.log4j.level=$GREMLIN_LOG_LEVEL"
 fi
 
-if [ "$PROFILING_ENABLED" = true ]; then
-    JAVA_OPTIONS="$JAVA_OPTIONS -Dtinkerpop.profiling=true"
-fi
-
 if [ -n "$SCRIPT_DEBUG" ]; then
     echo "CLASSPATH: $CLASSPATH"
     set -x
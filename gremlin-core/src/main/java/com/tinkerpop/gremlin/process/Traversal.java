@@ -402,8 +402,9 @@ public interface Traversal<S, E> extends Iterator<E>, Cloneable {
          * In a distributed {@link GraphComputer} traversal, the sideEffects of the traversal are not a single object within a single JVM.
          * Instead, the sideEffects are distributed across the graph and the pieces are stored on the computing vertices.
          * This method is necessary to call when the {@link Traversal} is processing the {@link Traverser}s at a particular {@link Vertex}.
+         * Once the vertex has been processed, the binding is removed by calling this method with {@code null}.
          *
-         * @param vertex the vertex where the traversal is currently executing.
+         * @param vertex the vertex where the traversal is currently executing or {@code null} to unbind the sideEffects
          */
         public void setLocalVertex(final Vertex vertex);
 
@@ -6,7 +6,7 @@ import java.util.concurrent.Future;
  * The {@link GraphComputer} is responsible for the execution of a {@link VertexProgram} and then a set of {@link MapReduce} jobs
  * over the vertices in the {@link com.tinkerpop.gremlin.structure.Graph}. It is up to the {@link GraphComputer} implementation to determine the
  * appropriate memory structures given the computing substrate. {@link GraphComputer} implementations also
- * maintains levels of memory {@link Isolation}: Bulk Synchronous and Dirty Bulk Synchronous.
+ * maintains levels of memory {@link Isolation}: Bulk Synchronous, Dirty Bulk Synchronous and Asynchronous.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Matthias Broecheler (me@matthiasb.com)
@@ -23,7 +23,14 @@ public interface GraphComputer {
          * Computations are carried out in an bulk asynchronous manner.
          * The results of a vertex property update are visible before the end of the round.
          */
-        DIRTY_BSP
+        DIRTY_BSP,
+        /**
+         * Computations are carried out asynchronously without a barrier between rounds.
+         * After the initial iteration, a message is delivered as soon as it is sent and only vertices that have received messages are executed.
+         * The computation terminates when no vertex has messages left to process.
+         * This suits monotone vertex programs (e.g. minimum label propagation) that only react to the messages that they receive.
+         */
+        ASYNCHRONOUS
     }
 
     /**
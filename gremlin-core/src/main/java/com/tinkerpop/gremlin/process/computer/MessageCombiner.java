@@ -0,0 +1,27 @@
+package com.tinkerpop.gremlin.process.computer;
+
+import java.io.Serializable;
+
+/**
+ * A MessageCombiner allows two messages in route to the same vertex to be aggregated into a single message.
+ * Message combining can reduce the number of messages sent between vertices and thus, reduce network traffic and memory usage.
+ * Not all messages can be combined and thus, this is an optional feature of a {@link VertexProgram}.
+ * The combine function must be commutative and associative as there are no guarantees on the order in which
+ * messages are combined nor on whether the messages of a particular vertex are combined at all.
+ * A combiner may mutate the first message it is given (e.g. by merging the second message into it) and thus, a message
+ * instance must not be shared: once sent, it must not be referenced by the sender nor be sent to another vertex.
+ */
+public interface MessageCombiner<M> extends Serializable {
+
+    /**
+     * Combine two messages and return a message containing the combination.
+     * In many instances, it is possible to simply merge the data in the second message into the first message.
+     * Such an optimization can limit the amount of object creation.
+     * The first message may thus be mutated and the second message may become a part of the combination.
+     *
+     * @param messageA the first message (which may be mutated)
+     * @param messageB the second message
+     * @return the combination of the two messages
+     */
+    public M combine(final M messageA, final M messageB);
+}
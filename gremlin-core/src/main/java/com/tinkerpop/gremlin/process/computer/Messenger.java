@@ -27,4 +27,13 @@ public interface Messenger<M> {
      */
     public void sendMessage(final MessageType messageType, final M message);
 
+    /**
+     * The currently executing vertex votes to halt. A halted vertex need not be executed in the following iterations
+     * until it is sent a message. A {@link GraphComputer} may ignore the vote and thus, a vertex that votes to halt
+     * must be unaffected by being executed without messages.
+     */
+    public default void voteToHalt() {
+
+    }
+
 }
@@ -5,6 +5,7 @@ import org.apache.commons.configuration.Configuration;
 
 import java.lang.reflect.Constructor;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -17,11 +18,15 @@ import java.util.Set;
  * Any local state/fields in a VertexProgram is static to the vertices within the same worker set.
  * It is not safe to assume that the VertexProgram's "worker" state will remain stable between iterations.
  * Hence, the existence of {@link VertexProgram#workerIterationStart} and {@link VertexProgram#workerIterationEnd}.
+ * When multiple workers on a single machine need VertexProgram instances, a {@link GraphComputer} may rebuild the
+ * VertexProgram via storeState()/loadState(). A VertexProgram can optionally provide a cheaper public clone() which
+ * is then used instead. Any state that is shared between clones (e.g. via a shallow copy) is shared between
+ * concurrent workers.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Matthias Broecheler (me@matthiasb.com)
  */
-public interface VertexProgram<M> {
+public interface VertexProgram<M> extends Cloneable {
 
     public static final String VERTEX_PROGRAM = "gremlin.vertexProgram";
 
@@ -130,11 +135,17 @@ public interface VertexProgram<M> {
         return Collections.emptySet();
     }
 
-    /*
-     * DO NOT USE YET.
+    /**
+     * Combine the messages in route to a particular vertex. Useful to reduce the amount of data transmitted over the wire.
+     * For example, instead of sending two objects that will ultimately be merged at the vertex destination, merge/combine into one and send that object.
+     * If no message combiner is provided, then no messages will be combined.
+     * The default implementation returns an empty {@link Optional}.
+     *
+     * @return the optional message combiner of the vertex program
+     */
     public default Optional<MessageCombiner<M>> getMessageCombiner() {
         return Optional.empty();
-    }*/
+    }
 
     /**
      * The set of {@link MapReduce} jobs that are associated with the {@link VertexProgram}.
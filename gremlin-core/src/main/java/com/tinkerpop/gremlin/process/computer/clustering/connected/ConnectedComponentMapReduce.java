@@ -0,0 +1,65 @@
+package com.tinkerpop.gremlin.process.computer.clustering.connected;
+
+import com.tinkerpop.gremlin.process.computer.MapReduce;
+import com.tinkerpop.gremlin.structure.Property;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.commons.configuration.Configuration;
+import org.javatuples.Pair;
+
+import java.io.Serializable;
+import java.util.Iterator;
+
+public class ConnectedComponentMapReduce implements MapReduce<Object, Serializable, Object, Serializable, Iterator<Pair<Object, Serializable>>> {
+
+    public static final String CONNECTED_COMPONENT_SIDE_EFFECT_KEY = "gremlin.connectedComponentMapReduce.sideEffectKey";
+    public static final String DEFAULT_SIDE_EFFECT_KEY = "connectedComponent";
+
+    private String sideEffectKey = DEFAULT_SIDE_EFFECT_KEY;
+
+    public ConnectedComponentMapReduce() {
+
+    }
+
+    public ConnectedComponentMapReduce(final String sideEffectKey) {
+        this.sideEffectKey = sideEffectKey;
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        configuration.setProperty(CONNECTED_COMPONENT_SIDE_EFFECT_KEY, this.sideEffectKey);
+    }
+
+    @Override
+    public void loadState(final Configuration configuration) {
+        this.sideEffectKey = configuration.getString(CONNECTED_COMPONENT_SIDE_EFFECT_KEY, DEFAULT_SIDE_EFFECT_KEY);
+    }
+
+    @Override
+    public boolean doStage(final Stage stage) {
+        return stage.equals(Stage.MAP);
+    }
+
+    @Override
+    public void map(final Vertex vertex, final MapEmitter<Object, Serializable> emitter) {
+        final Property<Serializable> component = vertex.property(ConnectedComponentVertexProgram.COMPONENT);
+        if (component.isPresent()) {
+            emitter.emit(vertex.id(), component.value());
+        }
+    }
+
+    @Override
+    public Iterator<Pair<Object, Serializable>> generateFinalResult(final Iterator<Pair<Object, Serializable>> keyValues) {
+        return keyValues;
+    }
+
+    @Override
+    public String getMemoryKey() {
+        return this.sideEffectKey;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.mapReduceString(this, this.sideEffectKey);
+    }
+}
@@ -0,0 +1,23 @@
+package com.tinkerpop.gremlin.process.computer.clustering.connected;
+
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+import java.io.Serializable;
+
+public final class ConnectedComponentMessageCombiner implements MessageCombiner<Serializable> {
+
+    private static final ConnectedComponentMessageCombiner INSTANCE = new ConnectedComponentMessageCombiner();
+
+    private ConnectedComponentMessageCombiner() {
+
+    }
+
+    @Override
+    public Serializable combine(final Serializable messageA, final Serializable messageB) {
+        return ConnectedComponentVertexProgram.compare(messageA, messageB) <= 0 ? messageA : messageB;
+    }
+
+    public static ConnectedComponentMessageCombiner instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,178 @@
+package com.tinkerpop.gremlin.process.computer.clustering.connected;
+
+import com.tinkerpop.gremlin.process.computer.Memory;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.process.computer.Messenger;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.commons.configuration.Configuration;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ConnectedComponentVertexProgram labels each vertex with the smallest vertex id of its weakly connected component.
+ * Each vertex starts with its own id as its component and a vertex only messages its adjacent vertices (in both
+ * directions) when its component gets smaller. Every vertex votes to halt and so, only vertices that are sent a
+ * component need to be executed. The computation halts when no component changes, which takes at most the diameter
+ * of the largest component in iterations, or after {@link #DEFAULT_MAX_ITERATIONS} iterations unless configured
+ * otherwise.
+ */
+public class ConnectedComponentVertexProgram implements VertexProgram<Serializable> {
+
+    public static final String COMPONENT = Graph.Key.hide("gremlin.connectedComponentVertexProgram.component");
+
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    private static final String MAX_ITERATIONS = "gremlin.connectedComponentVertexProgram.maxIterations";
+    private static final String VOTE_TO_HALT = "gremlin.connectedComponentVertexProgram.voteToHalt";
+
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+    private static final Set<String> ELEMENT_COMPUTE_KEYS = new HashSet<>(Arrays.asList(COMPONENT));
+    private static final Set<String> MEMORY_COMPUTE_KEYS = new HashSet<>(Arrays.asList(VOTE_TO_HALT));
+    private static final Optional<ConnectedComponentMessageCombiner> COMBINER = Optional.of(ConnectedComponentMessageCombiner.instance());
+
+    private ConnectedComponentVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Configuration configuration) {
+        this.maxIterations = configuration.getInt(MAX_ITERATIONS, DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        configuration.setProperty(VERTEX_PROGRAM, ConnectedComponentVertexProgram.class.getName());
+        configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+    }
+
+    @Override
+    public Set<String> getElementComputeKeys() {
+        return ELEMENT_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<String> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, true);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<Serializable> messenger, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            final Serializable component = (Serializable) vertex.id();
+            vertex.singleProperty(COMPONENT, component);
+            messenger.sendMessage(MessageType.Global.of(() -> vertex.iterators().vertexIterator(Direction.BOTH)), component);
+            memory.and(VOTE_TO_HALT, false);
+        } else {
+            Serializable component = vertex.value(COMPONENT);
+            boolean changed = false;
+            for (final Serializable message : messenger.receiveMessages(MessageType.Global.of())) {
+                if (compare(message, component) < 0) {
+                    component = message;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                vertex.singleProperty(COMPONENT, component);
+                messenger.sendMessage(MessageType.Global.of(() -> vertex.iterators().vertexIterator(Direction.BOTH)), component);
+                memory.and(VOTE_TO_HALT, false);
+            }
+        }
+        messenger.voteToHalt();
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        final boolean voteToHalt = memory.<Boolean>get(VOTE_TO_HALT) || memory.getIteration() >= this.maxIterations;
+        if (voteToHalt) {
+            return true;
+        } else {
+            memory.set(VOTE_TO_HALT, true);
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<MessageCombiner<Serializable>> getMessageCombiner() {
+        return (Optional) ConnectedComponentVertexProgram.COMBINER;
+    }
+
+    /**
+     * Compare two component ids by the name of their class and then by their value, so that ids of mixed classes are
+     * still totally ordered. Ids of a {@link Comparable} class are compared naturally and ids of any other class are
+     * compared by their string representation.
+     */
+    public static int compare(final Object componentA, final Object componentB) {
+        final int classComparison = componentA.getClass().getName().compareTo(componentB.getClass().getName());
+        if (0 != classComparison)
+            return classComparison;
+        else if (componentA instanceof Comparable)
+            return ((Comparable) componentA).compareTo(componentB);
+        else
+            return componentA.toString().compareTo(componentB.toString());
+    }
+
+    @Override
+    public ConnectedComponentVertexProgram clone() {
+        try {
+            return (ConnectedComponentVertexProgram) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "maxIterations=" + this.maxIterations);
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private Builder() {
+            super(ConnectedComponentVertexProgram.class);
+        }
+
+        public Builder maxIterations(final int iterations) {
+            this.configuration.setProperty(MAX_ITERATIONS, iterations);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresGlobalMessageTypes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.tinkerpop.gremlin.process.computer.clustering.kcore;
+
+import com.tinkerpop.gremlin.process.computer.MapReduce;
+import com.tinkerpop.gremlin.structure.Property;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.commons.configuration.Configuration;
+import org.javatuples.Pair;
+
+import java.util.Iterator;
+
+public class KCoreMapReduce implements MapReduce<Object, Long, Object, Long, Iterator<Pair<Object, Long>>> {
+
+    public static final String K_CORE_SIDE_EFFECT_KEY = "gremlin.kCoreMapReduce.sideEffectKey";
+    public static final String DEFAULT_SIDE_EFFECT_KEY = "kCore";
+
+    private String sideEffectKey = DEFAULT_SIDE_EFFECT_KEY;
+
+    public KCoreMapReduce() {
+
+    }
+
+    public KCoreMapReduce(final String sideEffectKey) {
+        this.sideEffectKey = sideEffectKey;
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        configuration.setProperty(K_CORE_SIDE_EFFECT_KEY, this.sideEffectKey);
+    }
+
+    @Override
+    public void loadState(final Configuration configuration) {
+        this.sideEffectKey = configuration.getString(K_CORE_SIDE_EFFECT_KEY, DEFAULT_SIDE_EFFECT_KEY);
+    }
+
+    @Override
+    public boolean doStage(final Stage stage) {
+        return stage.equals(Stage.MAP);
+    }
+
+    @Override
+    public void map(final Vertex vertex, final MapEmitter<Object, Long> emitter) {
+        final Property<Boolean> inCore = vertex.property(KCoreVertexProgram.IN_CORE);
+        if (inCore.isPresent() && inCore.value()) {
+            emitter.emit(vertex.id(), vertex.<Long>value(KCoreVertexProgram.DEGREE));
+        }
+    }
+
+    @Override
+    public Iterator<Pair<Object, Long>> generateFinalResult(final Iterator<Pair<Object, Long>> keyValues) {
+        return keyValues;
+    }
+
+    @Override
+    public String getMemoryKey() {
+        return this.sideEffectKey;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.mapReduceString(this, this.sideEffectKey);
+    }
+}
@@ -0,0 +1,21 @@
+package com.tinkerpop.gremlin.process.computer.clustering.kcore;
+
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+public final class KCoreMessageCombiner implements MessageCombiner<Long> {
+
+    private static final KCoreMessageCombiner INSTANCE = new KCoreMessageCombiner();
+
+    private KCoreMessageCombiner() {
+
+    }
+
+    @Override
+    public Long combine(final Long messageA, final Long messageB) {
+        return messageA + messageB;
+    }
+
+    public static KCoreMessageCombiner instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,193 @@
+package com.tinkerpop.gremlin.process.computer.clustering.kcore;
+
+import com.tinkerpop.gremlin.process.computer.Memory;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.process.computer.Messenger;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.commons.configuration.Configuration;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * KCoreVertexProgram determines the k-core of the graph: the largest subgraph in which every vertex has at least k
+ * incident edges (in both directions) to other vertices of the subgraph. The vertices with less than k edges are
+ * peeled off in rounds. A peeled vertex messages each of its adjacent vertices once per edge between them and a vertex
+ * deducts the messages that it receives from its degree. The computation halts when no vertex is peeled off and the
+ * remaining vertices are the k-core, each with its degree within the k-core.
+ */
+public class KCoreVertexProgram implements VertexProgram<Long> {
+
+    public static final String DEGREE = Graph.Key.hide("gremlin.kCoreVertexProgram.degree");
+    public static final String IN_CORE = Graph.Key.hide("gremlin.kCoreVertexProgram.inCore");
+
+    private static final String K = "gremlin.kCoreVertexProgram.k";
+    private static final String MAX_ITERATIONS = "gremlin.kCoreVertexProgram.maxIterations";
+    private static final String VOTE_TO_HALT = "gremlin.kCoreVertexProgram.voteToHalt";
+
+    private long k = 2l;
+    private int maxIterations = Integer.MAX_VALUE;
+
+    private static final Set<String> ELEMENT_COMPUTE_KEYS = new HashSet<>(Arrays.asList(DEGREE, IN_CORE));
+    private static final Set<String> MEMORY_COMPUTE_KEYS = new HashSet<>(Arrays.asList(VOTE_TO_HALT));
+    private static final Optional<KCoreMessageCombiner> COMBINER = Optional.of(KCoreMessageCombiner.instance());
+
+    private KCoreVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Configuration configuration) {
+        this.k = configuration.getLong(K, 2l);
+        this.maxIterations = configuration.getInt(MAX_ITERATIONS, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        configuration.setProperty(VERTEX_PROGRAM, KCoreVertexProgram.class.getName());
+        configuration.setProperty(K, this.k);
+        configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+    }
+
+    @Override
+    public Set<String> getElementComputeKeys() {
+        return ELEMENT_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<String> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, true);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<Long> messenger, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            long degree = 0l;
+            final Iterator<Edge> edges = vertex.iterators().edgeIterator(Direction.BOTH);
+            while (edges.hasNext()) {
+                if (!isSelfLoop(vertex, edges.next()))
+                    degree++;
+            }
+            this.update(vertex, messenger, memory, degree);
+        } else if (vertex.<Boolean>value(IN_CORE)) {
+            long removed = 0l;
+            for (final Long message : messenger.receiveMessages(MessageType.Global.of())) {
+                removed = removed + message;
+            }
+            if (removed > 0l)
+                this.update(vertex, messenger, memory, vertex.<Long>value(DEGREE) - removed);
+        }
+        messenger.voteToHalt();
+    }
+
+    private void update(final Vertex vertex, final Messenger<Long> messenger, final Memory memory, final long degree) {
+        vertex.singleProperty(DEGREE, degree);
+        if (degree >= this.k)
+            vertex.singleProperty(IN_CORE, true);
+        else {
+            // the vertex is peeled off and its adjacent vertices lose an edge for every edge that they share with it
+            vertex.singleProperty(IN_CORE, false);
+            final Iterator<Edge> edges = vertex.iterators().edgeIterator(Direction.BOTH);
+            while (edges.hasNext()) {
+                final Edge edge = edges.next();
+                if (!isSelfLoop(vertex, edge)) {
+                    final Vertex outVertex = edge.iterators().vertexIterator(Direction.OUT).next();
+                    messenger.sendMessage(MessageType.Global.of(vertex.equals(outVertex) ? edge.iterators().vertexIterator(Direction.IN).next() : outVertex), 1l);
+                }
+            }
+            memory.and(VOTE_TO_HALT, false);
+        }
+    }
+
+    private static boolean isSelfLoop(final Vertex vertex, final Edge edge) {
+        final Iterator<Vertex> vertices = edge.iterators().vertexIterator(Direction.BOTH);
+        return vertex.equals(vertices.next()) && vertex.equals(vertices.next());
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        final boolean voteToHalt = memory.<Boolean>get(VOTE_TO_HALT) || memory.getIteration() >= this.maxIterations;
+        if (voteToHalt) {
+            return true;
+        } else {
+            memory.set(VOTE_TO_HALT, true);
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<MessageCombiner<Long>> getMessageCombiner() {
+        return (Optional) KCoreVertexProgram.COMBINER;
+    }
+
+    @Override
+    public KCoreVertexProgram clone() {
+        try {
+            return (KCoreVertexProgram) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "k=" + this.k + ",maxIterations=" + this.maxIterations);
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private Builder() {
+            super(KCoreVertexProgram.class);
+        }
+
+        public Builder k(final long k) {
+            if (k < 0l)
+                throw new IllegalArgumentException("The k of the k-core must be non-negative: " + k);
+            this.configuration.setProperty(K, k);
+            return this;
+        }
+
+        public Builder maxIterations(final int iterations) {
+            this.configuration.setProperty(MAX_ITERATIONS, iterations);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresGlobalMessageTypes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
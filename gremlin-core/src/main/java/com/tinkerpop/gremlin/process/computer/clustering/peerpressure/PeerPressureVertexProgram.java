@@ -141,6 +141,15 @@ public class PeerPressureVertexProgram implements VertexProgram<Pair<Serializabl
         return largestKey;
     }
 
+    @Override
+    public PeerPressureVertexProgram clone() {
+        try {
+            return (PeerPressureVertexProgram) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public String toString() {
         return StringFactory.vertexProgramString(this, "distributeVote=" + this.distributeVote + ",maxIterations=" + this.maxIterations);
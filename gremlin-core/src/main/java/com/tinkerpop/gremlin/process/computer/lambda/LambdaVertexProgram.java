@@ -107,6 +107,15 @@ public class LambdaVertexProgram<M extends Serializable> implements VertexProgra
         return this.memoryComputeKeys;
     }
 
+    @Override
+    public LambdaVertexProgram<M> clone() {
+        try {
+            return (LambdaVertexProgram<M>) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public String toString() {
         return StringFactory.vertexProgramString(this, ""); // TODO: make a better toString();
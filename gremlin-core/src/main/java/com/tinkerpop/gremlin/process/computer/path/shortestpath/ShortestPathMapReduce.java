@@ -0,0 +1,64 @@
+package com.tinkerpop.gremlin.process.computer.path.shortestpath;
+
+import com.tinkerpop.gremlin.process.computer.MapReduce;
+import com.tinkerpop.gremlin.structure.Property;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.commons.configuration.Configuration;
+import org.javatuples.Pair;
+
+import java.util.Iterator;
+
+public class ShortestPathMapReduce implements MapReduce<Object, Double, Object, Double, Iterator<Pair<Object, Double>>> {
+
+    public static final String SHORTEST_PATH_SIDE_EFFECT_KEY = "gremlin.shortestPathMapReduce.sideEffectKey";
+    public static final String DEFAULT_SIDE_EFFECT_KEY = "shortestPath";
+
+    private String sideEffectKey = DEFAULT_SIDE_EFFECT_KEY;
+
+    public ShortestPathMapReduce() {
+
+    }
+
+    public ShortestPathMapReduce(final String sideEffectKey) {
+        this.sideEffectKey = sideEffectKey;
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        configuration.setProperty(SHORTEST_PATH_SIDE_EFFECT_KEY, this.sideEffectKey);
+    }
+
+    @Override
+    public void loadState(final Configuration configuration) {
+        this.sideEffectKey = configuration.getString(SHORTEST_PATH_SIDE_EFFECT_KEY, DEFAULT_SIDE_EFFECT_KEY);
+    }
+
+    @Override
+    public boolean doStage(final Stage stage) {
+        return stage.equals(Stage.MAP);
+    }
+
+    @Override
+    public void map(final Vertex vertex, final MapEmitter<Object, Double> emitter) {
+        final Property<Double> distance = vertex.property(ShortestPathVertexProgram.DISTANCE);
+        if (distance.isPresent()) {
+            emitter.emit(vertex.id(), distance.value());
+        }
+    }
+
+    @Override
+    public Iterator<Pair<Object, Double>> generateFinalResult(final Iterator<Pair<Object, Double>> keyValues) {
+        return keyValues;
+    }
+
+    @Override
+    public String getMemoryKey() {
+        return this.sideEffectKey;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.mapReduceString(this, this.sideEffectKey);
+    }
+}
@@ -0,0 +1,21 @@
+package com.tinkerpop.gremlin.process.computer.path.shortestpath;
+
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+public final class ShortestPathMessageCombiner implements MessageCombiner<Double> {
+
+    private static final ShortestPathMessageCombiner INSTANCE = new ShortestPathMessageCombiner();
+
+    private ShortestPathMessageCombiner() {
+
+    }
+
+    @Override
+    public Double combine(final Double messageA, final Double messageB) {
+        return messageA <= messageB ? messageA : messageB;
+    }
+
+    public static ShortestPathMessageCombiner instance() {
+        return INSTANCE;
+    }
+}
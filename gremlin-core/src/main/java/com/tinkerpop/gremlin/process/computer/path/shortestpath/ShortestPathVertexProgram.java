@@ -0,0 +1,230 @@
+package com.tinkerpop.gremlin.process.computer.path.shortestpath;
+
+import com.tinkerpop.gremlin.process.computer.Memory;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.process.computer.Messenger;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import com.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Edge;
+import com.tinkerpop.gremlin.structure.Graph;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.commons.configuration.Configuration;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ShortestPathVertexProgram computes the length of the shortest path from a source vertex to every vertex that it can
+ * reach by following edges in a direction (out by default). The length of a path is the number of its edges or, if a
+ * weight key is provided, the sum of the (non-negative) weights of its edges where an edge without the weight has a
+ * weight of 1. A vertex only messages its adjacent vertices when its distance gets shorter and the computation halts
+ * when no distance changes.
+ */
+public class ShortestPathVertexProgram implements VertexProgram<Double> {
+
+    public static final String DISTANCE = Graph.Key.hide("gremlin.shortestPathVertexProgram.distance");
+
+    private static final String SOURCE = "gremlin.shortestPathVertexProgram.source";
+    private static final String DIRECTION = "gremlin.shortestPathVertexProgram.direction";
+    private static final String WEIGHT_KEY = "gremlin.shortestPathVertexProgram.weightKey";
+    private static final String MAX_ITERATIONS = "gremlin.shortestPathVertexProgram.maxIterations";
+    private static final String VOTE_TO_HALT = "gremlin.shortestPathVertexProgram.voteToHalt";
+
+    private Object source;
+    private Direction direction = Direction.OUT;
+    private String weightKey = null;
+    private int maxIterations = Integer.MAX_VALUE;
+
+    private static final Set<String> ELEMENT_COMPUTE_KEYS = new HashSet<>(Arrays.asList(DISTANCE));
+    private static final Set<String> MEMORY_COMPUTE_KEYS = new HashSet<>(Arrays.asList(VOTE_TO_HALT));
+    private static final Optional<ShortestPathMessageCombiner> COMBINER = Optional.of(ShortestPathMessageCombiner.instance());
+
+    private ShortestPathVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Configuration configuration) {
+        try {
+            this.source = VertexProgramHelper.deserialize(configuration, SOURCE);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        this.direction = Direction.valueOf(configuration.getString(DIRECTION, Direction.OUT.name()));
+        this.weightKey = configuration.getString(WEIGHT_KEY, null);
+        this.maxIterations = configuration.getInt(MAX_ITERATIONS, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        configuration.setProperty(VERTEX_PROGRAM, ShortestPathVertexProgram.class.getName());
+        try {
+            VertexProgramHelper.serialize(this.source, configuration, SOURCE);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        configuration.setProperty(DIRECTION, this.direction.name());
+        if (null != this.weightKey)
+            configuration.setProperty(WEIGHT_KEY, this.weightKey);
+        configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+    }
+
+    @Override
+    public Set<String> getElementComputeKeys() {
+        return ELEMENT_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<String> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, true);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<Double> messenger, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            if (this.source.equals(vertex.id())) {
+                vertex.singleProperty(DISTANCE, 0.0d);
+                this.sendDistances(vertex, messenger, 0.0d);
+                memory.and(VOTE_TO_HALT, false);
+            }
+        } else {
+            double distance = vertex.<Double>property(DISTANCE).orElse(Double.POSITIVE_INFINITY);
+            boolean changed = false;
+            for (final Double message : messenger.receiveMessages(MessageType.Global.of())) {
+                if (message < distance) {
+                    distance = message;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                vertex.singleProperty(DISTANCE, distance);
+                this.sendDistances(vertex, messenger, distance);
+                memory.and(VOTE_TO_HALT, false);
+            }
+        }
+        messenger.voteToHalt();
+    }
+
+    private void sendDistances(final Vertex vertex, final Messenger<Double> messenger, final double distance) {
+        final Iterator<Edge> edges = vertex.iterators().edgeIterator(this.direction);
+        while (edges.hasNext()) {
+            final Edge edge = edges.next();
+            final double weight = null == this.weightKey ? 1.0d : edge.<Number>property(this.weightKey).orElse(1.0d).doubleValue();
+            if (weight < 0.0d)
+                throw new IllegalStateException("The weight of an edge must be non-negative: " + edge + "[" + weight + "]");
+            final Iterator<Vertex> adjacents = this.direction.equals(Direction.BOTH) ?
+                    edge.iterators().vertexIterator(Direction.BOTH) :
+                    edge.iterators().vertexIterator(this.direction.opposite());
+            while (adjacents.hasNext()) {
+                final Vertex adjacent = adjacents.next();
+                if (!adjacent.equals(vertex))
+                    messenger.sendMessage(MessageType.Global.of(adjacent), distance + weight);
+            }
+        }
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        final boolean voteToHalt = memory.<Boolean>get(VOTE_TO_HALT) || memory.getIteration() >= this.maxIterations;
+        if (voteToHalt) {
+            return true;
+        } else {
+            memory.set(VOTE_TO_HALT, true);
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<MessageCombiner<Double>> getMessageCombiner() {
+        return (Optional) ShortestPathVertexProgram.COMBINER;
+    }
+
+    @Override
+    public ShortestPathVertexProgram clone() {
+        try {
+            return (ShortestPathVertexProgram) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "source=" + this.source + ",direction=" + this.direction +
+                (null == this.weightKey ? "" : ",weightKey=" + this.weightKey) + ",maxIterations=" + this.maxIterations);
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private Builder() {
+            super(ShortestPathVertexProgram.class);
+        }
+
+        public Builder source(final Object sourceId) {
+            try {
+                VertexProgramHelper.serialize(sourceId, this.configuration, SOURCE);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            return this;
+        }
+
+        public Builder direction(final Direction direction) {
+            this.configuration.setProperty(DIRECTION, direction.name());
+            return this;
+        }
+
+        public Builder weightKey(final String weightKey) {
+            this.configuration.setProperty(WEIGHT_KEY, weightKey);
+            return this;
+        }
+
+        public Builder maxIterations(final int iterations) {
+            this.configuration.setProperty(MAX_ITERATIONS, iterations);
+            return this;
+        }
+
+        @Override
+        public <P extends VertexProgram> P create() {
+            if (!this.configuration.containsKey(SOURCE))
+                throw new IllegalStateException("The source vertex of the shortest paths must be provided");
+            return super.create();
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresGlobalMessageTypes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.tinkerpop.gremlin.process.computer.ranking.pagerank;
+
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+
+public final class PageRankMessageCombiner implements MessageCombiner<Double> {
+
+    private static final PageRankMessageCombiner INSTANCE = new PageRankMessageCombiner();
+
+    private PageRankMessageCombiner() {
+
+    }
+
+    @Override
+    public Double combine(final Double messageA, final Double messageB) {
+        return messageA + messageB;
+    }
+
+    public static PageRankMessageCombiner instance() {
+        return INSTANCE;
+    }
+}
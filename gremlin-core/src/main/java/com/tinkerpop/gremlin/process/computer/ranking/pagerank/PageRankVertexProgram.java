@@ -1,6 +1,7 @@
 package com.tinkerpop.gremlin.process.computer.ranking.pagerank;
 
 import com.tinkerpop.gremlin.process.computer.Memory;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
 import com.tinkerpop.gremlin.process.computer.MessageType;
 import com.tinkerpop.gremlin.process.computer.Messenger;
 import com.tinkerpop.gremlin.process.computer.VertexProgram;
@@ -13,15 +14,29 @@ import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.StringFactory;
-import com.tinkerpop.gremlin.util.StreamFactory;
 import org.apache.commons.configuration.Configuration;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
 /**
+ * PageRankVertexProgram computes the PageRank of each vertex by power iteration for a fixed number of iterations.
+ * <p/>
+ * With a convergence threshold, the computation also terminates as soon as the L1 norm of the changes to the ranks
+ * in an iteration is no greater than the threshold. The L1 norm is aggregated with {@link Memory#incr} in units of
+ * {@code threshold / 2^20} (rounded up), where a single vertex contributes at most one unit more than the threshold
+ * itself so that the aggregate can not overflow.
+ * <p/>
+ * With delta propagation, the vertices start at the teleportation rank and only propagate the changes to their ranks.
+ * A vertex whose rank changed by no more than epsilon in an iteration does not send messages and a vertex that
+ * receives no messages does not change. The computation terminates when the changes have died out (or have converged
+ * to the threshold, if one is provided). Delta propagation converges to the same ranks as the power iteration, but
+ * vertices stop messaging as soon as their rank settles.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class PageRankVertexProgram implements VertexProgram<Double> {
@@ -35,13 +50,22 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private static final String ALPHA = "gremlin.pageRankVertexProgram.alpha";
     private static final String TOTAL_ITERATIONS = "gremlin.pageRankVertexProgram.totalIterations";
     private static final String INCIDENT_TRAVERSAL_SUPPLIER = "gremlin.pageRankVertexProgram.incidentTraversalSupplier";
+    private static final String CONVERGENCE = "gremlin.pageRankVertexProgram.convergence";
+    private static final String DELTA_EPSILON = "gremlin.pageRankVertexProgram.deltaEpsilon";
+    private static final String L1_DELTA = "gremlin.pageRankVertexProgram.l1Delta";
+
+    private static final long THRESHOLD_UNITS = 1l << 20;
 
     private LambdaHolder<Supplier<CountTraversal<Vertex, Edge>>> traversalSupplier;
     private double vertexCountAsDouble = 1;
     private double alpha = 0.85d;
     private int totalIterations = 30;
+    private double convergence = -1.0d;
+    private double deltaEpsilon = -1.0d;
 
     private static final Set<String> COMPUTE_KEYS = new HashSet<>(Arrays.asList(PAGE_RANK, EDGE_COUNT));
+    private static final Set<String> MEMORY_COMPUTE_KEYS = Collections.singleton(L1_DELTA);
+    private static final Optional<PageRankMessageCombiner> COMBINER = Optional.of(PageRankMessageCombiner.instance());
 
     private PageRankVertexProgram() {
 
@@ -57,6 +81,9 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         this.vertexCountAsDouble = configuration.getDouble(VERTEX_COUNT, 1.0d);
         this.alpha = configuration.getDouble(ALPHA, 0.85d);
         this.totalIterations = configuration.getInt(TOTAL_ITERATIONS, 30);
+        this.deltaEpsilon = configuration.getDouble(DELTA_EPSILON, -1.0d);
+        // delta propagation terminates once the changes have died out unless a convergence threshold is provided
+        this.convergence = configuration.getDouble(CONVERGENCE, this.isDeltaPropagation() ? 0.0d : -1.0d);
     }
 
     @Override
@@ -65,6 +92,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         configuration.setProperty(VERTEX_COUNT, this.vertexCountAsDouble);
         configuration.setProperty(ALPHA, this.alpha);
         configuration.setProperty(TOTAL_ITERATIONS, this.totalIterations);
+        configuration.setProperty(CONVERGENCE, this.convergence);
+        configuration.setProperty(DELTA_EPSILON, this.deltaEpsilon);
         if (null != this.traversalSupplier) {
             this.traversalSupplier.storeState(configuration);
         }
@@ -76,34 +105,102 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     }
 
     @Override
-    public void setup(final Memory memory) {
+    public Set<String> getMemoryComputeKeys() {
+        return this.isConverging() ? MEMORY_COMPUTE_KEYS : Collections.emptySet();
+    }
 
+    @Override
+    public void setup(final Memory memory) {
+        if (this.isConverging())
+            memory.set(L1_DELTA, 0l);
     }
 
     @Override
     public void execute(final Vertex vertex, Messenger<Double> messenger, final Memory memory) {
         if (memory.isInitialIteration()) {
-            double initialPageRank = 1.0d / this.vertexCountAsDouble;
-            double edgeCount = Double.valueOf(this.messageType.<CountTraversal<Vertex, Edge>>edges(vertex).count().next());
+            final double initialPageRank = this.isDeltaPropagation() ?
+                    (1.0d - this.alpha) / this.vertexCountAsDouble :
+                    1.0d / this.vertexCountAsDouble;
+            final double edgeCount = (double) this.messageType.<CountTraversal<Vertex, Edge>>edges(vertex).count().next();
             vertex.singleProperty(PAGE_RANK, initialPageRank);
             vertex.singleProperty(EDGE_COUNT, edgeCount);
             messenger.sendMessage(this.messageType, initialPageRank / edgeCount);
         } else {
-            double newPageRank = StreamFactory.stream(messenger.receiveMessages(this.messageType)).reduce(0.0d, (a, b) -> a + b);
-            newPageRank = (this.alpha * newPageRank) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
-            vertex.singleProperty(PAGE_RANK, newPageRank);
-            messenger.sendMessage(this.messageType, newPageRank / vertex.<Double>property(EDGE_COUNT).orElse(0.0d));
+            double incoming = 0.0d;
+            boolean received = false;
+            for (final Double message : messenger.receiveMessages(this.messageType)) {
+                incoming = incoming + message;
+                received = true;
+            }
+            if (this.isDeltaPropagation()) {
+                if (!received)
+                    return;
+                final double delta = this.alpha * incoming;
+                vertex.singleProperty(PAGE_RANK, vertex.<Double>value(PAGE_RANK) + delta);
+                if (this.isConverging())
+                    memory.incr(L1_DELTA, this.l1Units(delta));
+                if (Math.abs(delta) > this.deltaEpsilon)
+                    messenger.sendMessage(this.messageType, delta / vertex.<Double>value(EDGE_COUNT));
+            } else {
+                final double newPageRank = (this.alpha * incoming) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
+                if (this.isConverging())
+                    memory.incr(L1_DELTA, this.l1Units(newPageRank - vertex.<Double>value(PAGE_RANK)));
+                vertex.singleProperty(PAGE_RANK, newPageRank);
+                messenger.sendMessage(this.messageType, newPageRank / vertex.<Double>property(EDGE_COUNT).orElse(0.0d));
+            }
         }
     }
 
     @Override
     public boolean terminate(final Memory memory) {
-        return memory.getIteration() >= this.totalIterations;
+        if (memory.getIteration() >= this.totalIterations)
+            return true;
+        else if (!this.isConverging())
+            return false;
+        final long l1Delta = memory.<Number>get(L1_DELTA).longValue();
+        memory.set(L1_DELTA, 0l);
+        // the initial iteration only initializes the ranks
+        return !memory.isInitialIteration() && l1Delta <= (0.0d == this.convergence ? 0l : THRESHOLD_UNITS);
+    }
+
+    @Override
+    public Optional<MessageCombiner<Double>> getMessageCombiner() {
+        return (Optional) PageRankVertexProgram.COMBINER;
+    }
+
+    private boolean isConverging() {
+        return this.convergence >= 0.0d;
+    }
+
+    private boolean isDeltaPropagation() {
+        return this.deltaEpsilon >= 0.0d;
+    }
+
+    /**
+     * The units of the L1 norm that a change to the rank of a vertex contributes (see the class documentation).
+     */
+    private long l1Units(final double delta) {
+        final double absoluteDelta = Math.abs(delta);
+        if (0.0d == this.convergence)
+            return absoluteDelta > 0.0d ? 1l : 0l;
+        else
+            return (long) Math.min(Math.ceil(absoluteDelta / this.convergence * THRESHOLD_UNITS), THRESHOLD_UNITS + 1);
+    }
+
+    @Override
+    public PageRankVertexProgram clone() {
+        try {
+            return (PageRankVertexProgram) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
     }
 
     @Override
     public String toString() {
-        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ",iterations=" + this.totalIterations);
+        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ",iterations=" + this.totalIterations +
+                (this.isDeltaPropagation() ? ",deltaEpsilon=" + this.deltaEpsilon : "") +
+                (this.isConverging() ? ",convergence=" + this.convergence : ""));
     }
 
     //////////////////////////////
@@ -128,6 +225,28 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             return this;
         }
 
+        /**
+         * Terminate the computation once the L1 norm of the changes to the ranks in an iteration is no greater than
+         * the threshold. The number of iterations remains an upper bound.
+         */
+        public Builder convergence(final double threshold) {
+            if (threshold < 0.0d)
+                throw new IllegalArgumentException("The convergence threshold must be non-negative: " + threshold);
+            this.configuration.setProperty(CONVERGENCE, threshold);
+            return this;
+        }
+
+        /**
+         * Only propagate the changes to the ranks and stop propagating the change of a vertex once it is no greater
+         * than epsilon.
+         */
+        public Builder delta(final double epsilon) {
+            if (epsilon < 0.0d)
+                throw new IllegalArgumentException("The delta epsilon must be non-negative: " + epsilon);
+            this.configuration.setProperty(DELTA_EPSILON, epsilon);
+            return this;
+        }
+
         public Builder incident(final String scriptEngine, final String traversalScript) {
             LambdaHolder.storeState(this.configuration, LambdaHolder.Type.SCRIPT, INCIDENT_TRAVERSAL_SUPPLIER, new String[]{scriptEngine, traversalScript});
             return this;
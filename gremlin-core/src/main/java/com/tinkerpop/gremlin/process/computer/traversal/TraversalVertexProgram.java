@@ -7,6 +7,7 @@ import com.tinkerpop.gremlin.process.Traverser;
 import com.tinkerpop.gremlin.process.TraverserGenerator;
 import com.tinkerpop.gremlin.process.computer.MapReduce;
 import com.tinkerpop.gremlin.process.computer.Memory;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
 import com.tinkerpop.gremlin.process.computer.MessageType;
 import com.tinkerpop.gremlin.process.computer.Messenger;
 import com.tinkerpop.gremlin.process.computer.VertexProgram;
@@ -30,8 +31,8 @@ import org.apache.commons.configuration.Configuration;
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 
@@ -41,21 +42,24 @@ import java.util.function.Supplier;
  * For each traverser that is local to the vertex, the vertex looks up its current location in the traversal and processes that step.
  * If the outputted traverser of the step references a local structure on the vertex (e.g. the vertex, an incident edge, its properties, or an arbitrary object),
  * then the vertex continues to compute the next traverser. If the traverser references another location in the graph,
- * then the traverser is sent to that location in the graph via a message. The messages of TraversalVertexProgram are traversers.
+ * then the traverser is sent to that location in the graph via a message. The messages of TraversalVertexProgram are traverser sets
+ * which hold all the traversers a vertex sends to a particular vertex (merged by bulk) and which are further combined by {@link TraverserMessageCombiner}.
  * This continues until all traversers in the computation have halted.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class TraversalVertexProgram implements VertexProgram<Traverser.Admin<?>> {
+public final class TraversalVertexProgram implements VertexProgram<TraverserSet<Object>> {
 
     // TODO: if not an adjacent traversal, use Local message type -- a dual messaging system.
 
     public static final String HALTED_TRAVERSERS = Graph.Key.hide("gremlin.traversalVertexProgram.haltedTraversers");
     private static final String VOTE_TO_HALT = "gremlin.traversalVertexProgram.voteToHalt";
     public static final String TRAVERSAL_SUPPLIER = "gremlin.traversalVertexProgram.traversalSupplier";
+    private static final Optional<TraverserMessageCombiner> COMBINER = Optional.of(TraverserMessageCombiner.instance());
 
     private LambdaHolder<Supplier<Traversal>> traversalSupplier;
     private Traversal traversal;
+    private TraverserExecutor traverserExecutor;
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private static final Set<String> MEMORY_COMPUTE_KEYS = new HashSet<String>() {{
         add(VOTE_TO_HALT);
@@ -71,6 +75,7 @@ public final class TraversalVertexProgram implements VertexProgram<Traverser.Adm
     private TraversalVertexProgram(final Configuration configuration) {
         this.traversalSupplier = LambdaHolder.loadState(configuration, TRAVERSAL_SUPPLIER);
         this.traversal = this.traversalSupplier.get().get();
+        this.traverserExecutor = new TraverserExecutor(this.traversal);
         if (null == this.traversalSupplier) {
             throw new IllegalArgumentException("The configuration does not have a traversal supplier");
         }
@@ -91,7 +96,7 @@ public final class TraversalVertexProgram implements VertexProgram<Traverser.Adm
      * @return a sideEffect API to get and put sideEffect data onto the vertex
      */
     public static Traversal.SideEffects getLocalSideEffects(final Vertex localVertex) {
-        return new DefaultTraversalSideEffects(localVertex);    // TODO: use a worker static object
+        return new DefaultTraversalSideEffects(localVertex);
     }
 
     /**
@@ -113,6 +118,7 @@ public final class TraversalVertexProgram implements VertexProgram<Traverser.Adm
     public void loadState(final Configuration configuration) {
         this.traversalSupplier = LambdaHolder.loadState(configuration, TRAVERSAL_SUPPLIER);
         this.traversal = this.traversalSupplier.get().get();
+        this.traverserExecutor = new TraverserExecutor(this.traversal);
     }
 
     @Override
@@ -127,8 +133,18 @@ public final class TraversalVertexProgram implements VertexProgram<Traverser.Adm
     }
 
     @Override
-    public void execute(final Vertex vertex, final Messenger<Traverser.Admin<?>> messenger, Memory memory) {
+    public void execute(final Vertex vertex, final Messenger<TraverserSet<Object>> messenger, Memory memory) {
         this.traversal.sideEffects().setLocalVertex(vertex);
+        try {
+            this.executeAtVertex(vertex, messenger, memory);
+        } finally {
+            this.traversal.sideEffects().setLocalVertex(null);
+        }
+        // the traversers of a vertex are all processed and it only has work to do when it is sent more traversers
+        messenger.voteToHalt();
+    }
+
+    private void executeAtVertex(final Vertex vertex, final Messenger<TraverserSet<Object>> messenger, final Memory memory) {
         if (memory.isInitialIteration()) {
             final TraverserSet<Object> haltedTraversers = new TraverserSet<>();
             vertex.property(HALTED_TRAVERSERS, haltedTraversers);
@@ -139,7 +155,7 @@ public final class TraversalVertexProgram implements VertexProgram<Traverser.Adm
             final GraphStep<Element> startStep = (GraphStep<Element>) this.traversal.getSteps().get(0);   // TODO: make this generic to Traversal
             final TraverserGenerator traverserGenerator = TraversalStrategies.GlobalCache.getStrategies(this.traversal.getClass()).getTraverserGenerator(this.traversal, TraversalEngine.COMPUTER);
             final String future = startStep.getNextStep() instanceof EmptyStep ? Traverser.Admin.HALT : startStep.getNextStep().getLabel();
-            final AtomicBoolean voteToHalt = new AtomicBoolean(true);
+            final TraverserSet<Object> aliveTraversers = new TraverserSet<>();
             final Iterator<? extends Element> starts = startStep.returnsVertices() ? new SingleIterator<>(vertex) : vertex.iterators().edgeIterator(Direction.OUT);
             starts.forEachRemaining(element -> {
                 final Traverser.Admin<Element> traverser = traverserGenerator.generate(element, startStep);
@@ -147,17 +163,22 @@ public final class TraversalVertexProgram implements VertexProgram<Traverser.Adm
                 traverser.detach();
                 if (traverser.isHalted())
                     haltedTraversers.add((Traverser.Admin) traverser);
-                else {
-                    voteToHalt.set(false);
-                    messenger.sendMessage(MessageType.Global.of(vertex), traverser);
-                }
+                else
+                    aliveTraversers.add((Traverser.Admin) traverser);
             });
-            memory.and(VOTE_TO_HALT, voteToHalt.get());
+            if (!aliveTraversers.isEmpty())
+                messenger.sendMessage(MessageType.Global.of(vertex), aliveTraversers);
+            memory.and(VOTE_TO_HALT, aliveTraversers.isEmpty());
         } else {
-            memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, messenger, this.traversal));
+            memory.and(VOTE_TO_HALT, this.traverserExecutor.execute(vertex, messenger));
         }
     }
 
+    @Override
+    public Optional<MessageCombiner<TraverserSet<Object>>> getMessageCombiner() {
+        return (Optional) TraversalVertexProgram.COMBINER;
+    }
+
     @Override
     public boolean terminate(final Memory memory) {
         final boolean voteToHalt = memory.<Boolean>get(VOTE_TO_HALT);
@@ -184,6 +205,18 @@ public final class TraversalVertexProgram implements VertexProgram<Traverser.Adm
         return this.mapReducers;
     }
 
+    @Override
+    public TraversalVertexProgram clone() {
+        try {
+            final TraversalVertexProgram clone = (TraversalVertexProgram) super.clone();
+            clone.traversal = this.traversal.clone();
+            clone.traverserExecutor = new TraverserExecutor(clone.traversal);
+            return clone;
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public String toString() {
         final String traversalString = this.traversal.toString().substring(1);
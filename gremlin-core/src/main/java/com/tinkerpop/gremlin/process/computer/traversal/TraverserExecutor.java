@@ -5,6 +5,7 @@ import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.Traverser;
 import com.tinkerpop.gremlin.process.computer.MessageType;
 import com.tinkerpop.gremlin.process.computer.Messenger;
+import com.tinkerpop.gremlin.process.util.DefaultTraversalSideEffects;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
 import com.tinkerpop.gremlin.process.util.TraverserSet;
 import com.tinkerpop.gremlin.structure.Direction;
@@ -14,58 +15,111 @@ import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.referenced.ReferencedElement;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
+ * A TraverserExecutor processes the traversers at a vertex for a {@link TraversalVertexProgram}.
+ * Each worker owns its own executor (along with its own clone of the traversal) and the executor reuses its traverser
+ * sets, its index of steps by label and its view of the local sideEffects across the vertices and iterations that the
+ * worker executes.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TraverserExecutor {
 
-    public static boolean execute(final Vertex vertex, final Messenger<Traverser.Admin<?>> messenger, final Traversal traversal) {
+    private static final MessageType.Global RECEIVE_MESSAGE_TYPE = MessageType.Global.of();
+
+    private final Traversal traversal;
+    private final Map<String, Step<?, ?>> steps = new HashMap<>();
+    private final TraverserSet<Object> aliveTraversers = new TraverserSet<>();
+    private final TraverserSet<Object> toProcessTraversers = new TraverserSet<>();
+    // outgoing traversers are buffered by their hosting vertex so that equal traversers are sent as one (by bulk)
+    private final Map<Vertex, TraverserSet<Object>> outgoingTraversers = new HashMap<>();
+    // the sideEffects of the vertex being executed which is only bound while the traversers are at the vertex
+    private final DefaultTraversalSideEffects localSideEffects = new DefaultTraversalSideEffects();
+
+    public TraverserExecutor(final Traversal traversal) {
+        this.traversal = traversal;
+    }
+
+    public boolean execute(final Vertex vertex, final Messenger<TraverserSet<Object>> messenger) {
 
         final TraverserSet<Object> haltedTraversers = vertex.value(TraversalVertexProgram.HALTED_TRAVERSERS);
-        final AtomicBoolean voteToHalt = new AtomicBoolean(true);
+        boolean voteToHalt = true;
 
-        final TraverserSet<Object> aliveTraversers = new TraverserSet<>();
-        // gather incoming traversers into a traverser set and gain the 'weighted-set' optimization
-        messenger.receiveMessages(MessageType.Global.of()).forEach(traverser -> {
-            traverser.attach(vertex);
-            aliveTraversers.add((Traverser.Admin) traverser);
-        });
+        this.localSideEffects.setLocalVertex(vertex);
+        try {
+            // gather incoming traversers into a traverser set and gain the 'weighted-set' optimization
+            for (final TraverserSet<Object> traverserSet : messenger.receiveMessages(RECEIVE_MESSAGE_TYPE)) {
+                for (final Traverser.Admin<Object> traverser : traverserSet) {
+                    traverser.attach(vertex);
+                    traverser.setSideEffects(this.localSideEffects);
+                    this.aliveTraversers.add(traverser);
+                }
+            }
 
-        // while there are still local traversers, process them until they leave the vertex or halt (i.e. isHalted()).
-        while (!aliveTraversers.isEmpty()) {
-            final TraverserSet<Object> toProcessTraversers = new TraverserSet<>();
-            // process all the local objects and send messages or store locally again
-            aliveTraversers.forEach(traverser -> {
-                if (traverser.get() instanceof Element || traverser.get() instanceof Property) {      // GRAPH OBJECT
-                    // if the element is remote, then message, else store it locally for re-processing
-                    final Vertex hostingVertex = TraverserExecutor.getHostingVertex(traverser.get());
-                    if (!vertex.equals(hostingVertex) || traverser.get() instanceof ReferencedElement) {
-                        voteToHalt.set(false);
-                        traverser.detach();
-                        messenger.sendMessage(MessageType.Global.of(hostingVertex), traverser);
-                    } else
-                        toProcessTraversers.add(traverser);
-                } else                                                                              // STANDARD OBJECT
-                    toProcessTraversers.add(traverser);
-            });
+            // while there are still local traversers, process them until they leave the vertex or halt (i.e. isHalted()).
+            while (!this.aliveTraversers.isEmpty()) {
+                // process all the local objects and send messages or store locally again
+                for (final Traverser.Admin<Object> traverser : this.aliveTraversers) {
+                    if (traverser.get() instanceof Element || traverser.get() instanceof Property) {      // GRAPH OBJECT
+                        // if the element is remote, then message, else store it locally for re-processing
+                        final Vertex hostingVertex = TraverserExecutor.getHostingVertex(traverser.get());
+                        if (!vertex.equals(hostingVertex) || traverser.get() instanceof ReferencedElement) {
+                            voteToHalt = false;
+                            traverser.detach();
+                            traverser.setSideEffects(this.traversal.sideEffects());
+                            TraverserSet<Object> outgoing = this.outgoingTraversers.get(hostingVertex);
+                            if (null == outgoing) {
+                                outgoing = new TraverserSet<>();
+                                this.outgoingTraversers.put(hostingVertex, outgoing);
+                            }
+                            outgoing.add(traverser);
+                        } else
+                            this.toProcessTraversers.add(traverser);
+                    } else                                                                              // STANDARD OBJECT
+                        this.toProcessTraversers.add(traverser);
+                }
+
+                // process local traversers and if alive, repeat, else halt.
+                this.aliveTraversers.clear();
+                for (final Traverser.Admin<Object> start : this.toProcessTraversers) {
+                    final Step<Object, Object> step = this.getStep(start.getFuture());
+                    step.addStart(start);
+                    while (step.hasNext()) {
+                        final Traverser.Admin<Object> end = step.next().asAdmin();
+                        if (end.isHalted()) {
+                            end.detach();
+                            end.setSideEffects(this.traversal.sideEffects());
+                            haltedTraversers.add(end);
+                        } else
+                            this.aliveTraversers.add(end);
+                    }
+                }
+                this.toProcessTraversers.clear();
+            }
+            // the sent traverser sets are owned by the messenger and thus, only the map is reused
+            for (final Map.Entry<Vertex, TraverserSet<Object>> entry : this.outgoingTraversers.entrySet()) {
+                messenger.sendMessage(MessageType.Global.of(entry.getKey()), entry.getValue());
+            }
+        } finally {
+            // the worker thread must not hold onto the vertex (and thus, the graph) once the vertex is executed
+            this.localSideEffects.setLocalVertex(null);
+            this.aliveTraversers.clear();
+            this.toProcessTraversers.clear();
+            this.outgoingTraversers.clear();
+        }
+        return voteToHalt;
+    }
 
-            // process local traversers and if alive, repeat, else halt.
-            aliveTraversers.clear();
-            toProcessTraversers.forEach(start -> {
-                final Step<?, ?> step = TraversalHelper.getStep(start.getFuture(), traversal);
-                step.addStart((Traverser.Admin) start);
-                step.forEachRemaining(end -> {
-                    if (end.asAdmin().isHalted()) {
-                        end.asAdmin().detach();
-                        haltedTraversers.add((Traverser.Admin) end);
-                    } else
-                        aliveTraversers.add((Traverser.Admin) end);
-                });
-            });
+    private Step<Object, Object> getStep(final String label) {
+        Step<?, ?> step = this.steps.get(label);
+        if (null == step) {
+            step = TraversalHelper.getStep(label, this.traversal);
+            this.steps.put(label, step);
         }
-        return voteToHalt.get();
+        return (Step<Object, Object>) step;
     }
 
     private final static Vertex getHostingVertex(final Object object) {
@@ -78,4 +132,4 @@ public final class TraverserExecutor {
         else
             throw new IllegalStateException("The host of the object is unknown: " + object.toString() + ":" + object.getClass().getCanonicalName());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.tinkerpop.gremlin.process.computer.traversal;
+
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
+
+/**
+ * Combines the {@link TraverserSet} messages of {@link TraversalVertexProgram} by merging the traversers of the second
+ * message into the first. Equal traversers heading to the same vertex are thus merged into a single traverser by bulk.
+ */
+public final class TraverserMessageCombiner implements MessageCombiner<TraverserSet<Object>> {
+
+    private static final TraverserMessageCombiner INSTANCE = new TraverserMessageCombiner();
+
+    private TraverserMessageCombiner() {
+
+    }
+
+    @Override
+    public TraverserSet<Object> combine(final TraverserSet<Object> messageA, final TraverserSet<Object> messageB) {
+        messageA.addAll(messageB);
+        return messageA;
+    }
+
+    public static TraverserMessageCombiner instance() {
+        return INSTANCE;
+    }
+}
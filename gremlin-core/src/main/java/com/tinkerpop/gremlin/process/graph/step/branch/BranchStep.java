@@ -114,6 +114,14 @@ public class BranchStep<S> extends AbstractStep<S, S> implements EngineDependent
         }
     }
 
+    @Override
+    public BranchStep<S> clone() throws CloneNotSupportedException {
+        final BranchStep<S> clone = (BranchStep<S>) super.clone();
+        if (null != this.functionRing) clone.functionRing = new FunctionRing<>(this.functionRing.functions);
+        if (null != this.graphComputerQueue) clone.graphComputerQueue = new TraverserSet<>();
+        return clone;
+    }
+
     /*@Override
     public String toString() {
       // TODO
@@ -50,6 +50,14 @@ public final class JumpStep<S> extends AbstractStep<S, S> implements EngineDepen
         }
     }
 
+    @Override
+    public JumpStep<S> clone() throws CloneNotSupportedException {
+        final JumpStep<S> clone = (JumpStep<S>) super.clone();
+        clone.jumpToStep = null;
+        if (null != this.queue) clone.queue = new TraverserSet<>();
+        return clone;
+    }
+
     @Override
     protected Traverser<S> processNextStart() {
         return this.onGraphComputer ? computerAlgorithm() : standardAlgorithm();
@@ -63,7 +71,7 @@ public final class JumpStep<S> extends AbstractStep<S, S> implements EngineDepen
         }
         while (true) {
             final Traverser.Admin<S> traverser = this.starts.next();
-            if (PROFILING_ENABLED) TraversalMetrics.start(this);
+            if (this.profiling) TraversalMetrics.start(this);
             if (this.jumpBack) traverser.incrLoops();
             if (doJump(traverser)) {
                 traverser.setFuture(this.jumpLabel);
@@ -72,17 +80,17 @@ public final class JumpStep<S> extends AbstractStep<S, S> implements EngineDepen
                     final Traverser.Admin<S> emitTraverser = traverser.makeSibling();
                     if (this.jumpBack) emitTraverser.resetLoops();
                     emitTraverser.setFuture(this.getNextStep().getLabel());
-                    if (PROFILING_ENABLED) TraversalMetrics.finish(this, traverser);
+                    if (this.profiling) TraversalMetrics.finish(this, traverser);
                     return emitTraverser;
                 }
             } else {
                 if (this.jumpBack) traverser.resetLoops();
                 traverser.setFuture(this.getNextStep().getLabel());
-                if (PROFILING_ENABLED) TraversalMetrics.finish(this, traverser);
+                if (this.profiling) TraversalMetrics.finish(this, traverser);
                 return traverser;
             }
 
-            if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+            if (this.profiling) TraversalMetrics.stop(this);
         }
     }
 
@@ -93,11 +101,11 @@ public final class JumpStep<S> extends AbstractStep<S, S> implements EngineDepen
         while (true) {
             if (!this.queue.isEmpty()) {
                 Traverser.Admin<S> ret = this.queue.remove();
-                if (PROFILING_ENABLED) TraversalMetrics.finish(this, ret);
+                if (this.profiling) TraversalMetrics.finish(this, ret);
                 return ret;
             } else {
                 final Traverser.Admin<S> traverser = this.starts.next();
-                if (PROFILING_ENABLED) TraversalMetrics.start(this);
+                if (this.profiling) TraversalMetrics.start(this);
 
                 if (this.jumpBack) traverser.incrLoops();
                 if (doJump(traverser)) {
@@ -115,7 +123,7 @@ public final class JumpStep<S> extends AbstractStep<S, S> implements EngineDepen
                     this.queue.add(traverser);
                 }
 
-                if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+                if (this.profiling) TraversalMetrics.stop(this);
             }
         }
     }
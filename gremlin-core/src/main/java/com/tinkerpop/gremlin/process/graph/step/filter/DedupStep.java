@@ -26,12 +26,17 @@ public final class DedupStep<S> extends FilterStep<S> implements Reversible, Red
         if (null == uniqueFunction) {
             this.setPredicate(traverser -> {
                 traverser.asAdmin().setBulk(1);
-                return set.add(traverser.get());
+                synchronized (set) {
+                    return set.add(traverser.get());
+                }
             });
         } else {
             this.setPredicate(traverser -> {
                 traverser.asAdmin().setBulk(1);
-                return set.add(this.uniqueFunction.apply(traverser));
+                final Object object = this.uniqueFunction.apply(traverser);
+                synchronized (set) {
+                    return set.add(object);
+                }
             });
         }
     }
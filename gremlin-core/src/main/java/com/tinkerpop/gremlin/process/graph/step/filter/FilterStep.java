@@ -26,12 +26,12 @@ public class FilterStep<S> extends AbstractStep<S, S> {
     protected Traverser<S> processNextStart() {
         while (true) {
             final Traverser.Admin<S> traverser = this.starts.next();
-            if (PROFILING_ENABLED) TraversalMetrics.start(this);
+            if (this.profiling) TraversalMetrics.start(this);
             if (this.predicate.test(traverser)) {
-                if (PROFILING_ENABLED) TraversalMetrics.finish(this, traverser);
+                if (this.profiling) TraversalMetrics.finish(this, traverser);
                 return traverser;
             }
-            if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+            if (this.profiling) TraversalMetrics.stop(this);
         }
     }
 }
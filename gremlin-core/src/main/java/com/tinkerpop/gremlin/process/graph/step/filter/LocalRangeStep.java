@@ -55,42 +55,45 @@ public final class LocalRangeStep<S extends Element> extends FilterStep<S> imple
                 throw new IllegalStateException("Only edges and properties can be subject to local range filtering");
             }
 
-            if (this.doneElements.contains(previousElement))
-                return false;
+            // OLAP workers may share this step, so the per-element counters are guarded
+            synchronized (this.bulkSet) {
+                if (this.doneElements.contains(previousElement))
+                    return false;
+
+                ////////////////
+                final long previousElementCounter = this.bulkSet.get(previousElement);
+
+                if (this.high != -1 && previousElementCounter >= this.high) {
+                    this.doneElements.add(previousElement);
+                    this.bulkSet.remove(previousElement);
+                    return false;
+                }
 
-            ////////////////
-            final long previousElementCounter = this.bulkSet.get(previousElement);
+                long avail = traverser.bulk();
+                if (previousElementCounter + avail <= this.low) {
+                    // Will not surpass the low w/ this traverser. Skip and filter the whole thing.
+                    this.bulkSet.add(previousElement, avail);
+                    return false;
+                }
 
-            if (this.high != -1 && previousElementCounter >= this.high) {
-                this.doneElements.add(previousElement);
-                this.bulkSet.remove(previousElement);
-                return false;
-            }
+                // Skip for the low and trim for the high. Both can happen at once.
 
-            long avail = traverser.bulk();
-            if (previousElementCounter + avail <= this.low) {
-                // Will not surpass the low w/ this traverser. Skip and filter the whole thing.
-                this.bulkSet.add(previousElement, avail);
-                return false;
-            }
+                long toSkip = 0;
+                if (previousElementCounter < this.low) {
+                    toSkip = this.low - previousElementCounter;
+                }
 
-            // Skip for the low and trim for the high. Both can happen at once.
+                long toTrim = 0;
+                if (this.high != -1 && previousElementCounter + avail >= this.high) {
+                    toTrim = previousElementCounter + avail - this.high;
+                }
 
-            long toSkip = 0;
-            if (previousElementCounter < this.low) {
-                toSkip = this.low - previousElementCounter;
-            }
+                long toEmit = avail - toSkip - toTrim;
+                this.bulkSet.add(previousElement, toEmit);
+                traverser.asAdmin().setBulk(toEmit);
 
-            long toTrim = 0;
-            if (this.high != -1 && previousElementCounter + avail >= this.high) {
-                toTrim = previousElementCounter + avail - this.high;
+                return true;
             }
-
-            long toEmit = avail - toSkip - toTrim;
-            this.bulkSet.add(previousElement, toEmit);
-            traverser.asAdmin().setBulk(toEmit);
-
-            return true;
         });
     }
 
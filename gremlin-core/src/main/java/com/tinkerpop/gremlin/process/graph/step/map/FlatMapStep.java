@@ -30,15 +30,15 @@ public class FlatMapStep<S, E> extends AbstractStep<S, E> {
     protected Traverser<E> processNextStart() {
         while (true) {
             if (this.iterator.hasNext()) {
-                if (PROFILING_ENABLED) TraversalMetrics.start(FlatMapStep.this);
+                if (this.profiling) TraversalMetrics.start(FlatMapStep.this);
                 final Traverser<E> end = this.head.makeChild(this.label, this.iterator.next());
-                if (PROFILING_ENABLED) TraversalMetrics.finish(FlatMapStep.this, this.head);
+                if (this.profiling) TraversalMetrics.finish(FlatMapStep.this, this.head);
                 return end;
             } else {
                 this.head = this.starts.next();
-                if (PROFILING_ENABLED) TraversalMetrics.start(this);
+                if (this.profiling) TraversalMetrics.start(this);
                 this.iterator = this.function.apply(this.head);
-                if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+                if (this.profiling) TraversalMetrics.stop(this);
             }
         }
     }
@@ -22,16 +22,16 @@ public class MapStep<S, E> extends AbstractStep<S, E> {
     protected Traverser<E> processNextStart() {
         while (true) {
             final Traverser.Admin<S> traverser = this.starts.next();
-            if (PROFILING_ENABLED) TraversalMetrics.start(this);
+            if (this.profiling) TraversalMetrics.start(this);
 
             final E end = this.function.apply(traverser);
             if (NO_OBJECT != end) {
                 final Traverser.Admin<E> endTraverser = traverser.makeChild(this.label, end);
-                if (PROFILING_ENABLED) TraversalMetrics.finish(this, endTraverser);
+                if (this.profiling) TraversalMetrics.finish(this, endTraverser);
                 return endTraverser;
             }
 
-            if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+            if (this.profiling) TraversalMetrics.stop(this);
         }
     }
 
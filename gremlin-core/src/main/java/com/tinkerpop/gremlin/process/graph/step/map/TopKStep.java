@@ -0,0 +1,127 @@
+package com.tinkerpop.gremlin.process.graph.step.map;
+
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.graph.marker.Barrier;
+import com.tinkerpop.gremlin.process.graph.marker.Comparing;
+import com.tinkerpop.gremlin.process.graph.marker.Reversible;
+import com.tinkerpop.gremlin.process.util.AbstractStep;
+import com.tinkerpop.gremlin.process.util.TraversalHelper;
+import com.tinkerpop.gremlin.process.util.TraversalMetrics;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * A barrier that emits the first {@code k} objects (by bulk) of its starts in the order of its comparators.
+ * It is equivalent to an {@link OrderStep} (or {@link OrderByStep}) whose output is limited to {@code k} objects, but
+ * it only holds the best {@code k} traversers in a bounded heap. Ties are broken by arrival order, as with the
+ * stable sort of {@link OrderStep}.
+ */
+public final class TopKStep<S> extends AbstractStep<S, S> implements Barrier, Reversible, Comparing<S> {
+
+    private final long k;
+    private final Comparator<Traverser<S>>[] comparators;
+    private final Comparator<Ranked<S>> worstFirst;
+    private PriorityQueue<Ranked<S>> heap;
+    private TraverserSet<S> traverserSet = new TraverserSet<>();
+    private long heapBulk = 0l;
+    private long arrivals = 0l;
+
+    public TopKStep(final Traversal traversal, final long k, final Comparator<Traverser<S>>... comparators) {
+        super(traversal);
+        if (k < 0)
+            throw new IllegalArgumentException("The number of objects to keep must be non-negative: " + k);
+        this.k = k;
+        this.comparators = comparators;
+        final Comparator<Traverser<S>> chainedComparator = Stream.of(this.comparators).reduce((a, b) -> a.thenComparing(b)).get();
+        this.worstFirst = ((Comparator<Ranked<S>>) (a, b) -> chainedComparator.compare(a.traverser, b.traverser))
+                .thenComparing((a, b) -> Long.compare(a.arrival, b.arrival))
+                .reversed();
+        this.heap = new PriorityQueue<>(this.worstFirst);
+    }
+
+    @Override
+    public Traverser<S> processNextStart() {
+        if (this.profiling) TraversalMetrics.start(this);
+        if (this.starts.hasNext()) {
+            this.starts.forEachRemaining(this::offer);
+            this.drain();
+        }
+        final Traverser.Admin<S> traverser = this.traverserSet.remove().makeSibling();
+        if (this.profiling) TraversalMetrics.finish(this, traverser);
+        return traverser;
+    }
+
+    @Override
+    public Comparator<Traverser<S>>[] getComparators() {
+        return this.comparators;
+    }
+
+    public long getK() {
+        return this.k;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.heap.clear();
+        this.traverserSet.clear();
+        this.heapBulk = 0l;
+        this.arrivals = 0l;
+    }
+
+    @Override
+    public TopKStep<S> clone() throws CloneNotSupportedException {
+        final TopKStep<S> clone = (TopKStep<S>) super.clone();
+        clone.heap = new PriorityQueue<>(this.worstFirst);
+        clone.traverserSet = new TraverserSet<>();
+        clone.heapBulk = 0l;
+        clone.arrivals = 0l;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return TraversalHelper.makeStepString(this, this.k);
+    }
+
+    private void offer(final Traverser<S> traverser) {
+        final long bulk = traverser.bulk();
+        if (0l == bulk || 0l == this.k)
+            return;
+        final Ranked<S> ranked = new Ranked<>(traverser.asAdmin(), this.arrivals++);
+        // once k objects are held, a traverser that is not better than the worst of them can not make the cut
+        if (this.heapBulk >= this.k && this.worstFirst.compare(ranked, this.heap.peek()) < 0)
+            return;
+        this.heap.add(ranked);
+        this.heapBulk = this.heapBulk + bulk;
+        // evict the worst traversers as long as the better ones still account for k objects
+        while (this.heapBulk - this.heap.peek().traverser.bulk() >= this.k) {
+            this.heapBulk = this.heapBulk - this.heap.poll().traverser.bulk();
+        }
+    }
+
+    private void drain() {
+        final Ranked<S>[] ranked = this.heap.toArray(new Ranked[this.heap.size()]);
+        Arrays.sort(ranked, this.worstFirst.reversed());
+        for (final Ranked<S> r : ranked) {
+            this.traverserSet.add(r.traverser);
+        }
+        this.heap.clear();
+        this.heapBulk = 0l;
+    }
+
+    private static final class Ranked<S> {
+        private final Traverser.Admin<S> traverser;
+        private final long arrival;
+
+        private Ranked(final Traverser.Admin<S> traverser, final long arrival) {
+            this.traverser = traverser;
+            this.arrival = arrival;
+        }
+    }
+}
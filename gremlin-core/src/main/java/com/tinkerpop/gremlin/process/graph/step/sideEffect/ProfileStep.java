@@ -19,11 +19,9 @@ public final class ProfileStep<S> extends SideEffectStep<S> implements SideEffec
 
     public ProfileStep(final Traversal traversal) {
         super(traversal);
-        if (!PROFILING_ENABLED) {
-            throw new IllegalStateException("The profile()-step can only be used when profiling is enabled via " +
-                    "'gremlin.sh -p' or directly via -Dtinkerpop.profiling=true");
-        }
         TraversalHelper.verifySideEffectKeyIsNotAStepLabel(METRICS_KEY, this.traversal);
+        TraversalMetrics.enable(this.traversal);
+        this.profiling = true;
     }
 
     @Override
@@ -42,11 +42,11 @@ public final class SideEffectCapStep<S, E> extends AbstractStep<S, E> implements
             } catch (final NoSuchElementException ignored) {
             }
 
-            if (PROFILING_ENABLED) TraversalMetrics.start(this);
+            if (this.profiling) TraversalMetrics.start(this);
             this.done = true;
             traverser.setBulk(1l);
             final Traverser.Admin<E> returnTraverser = traverser.makeChild(this.getLabel(), traverser.sideEffects().<E>get(this.sideEffectKey));
-            if (PROFILING_ENABLED) TraversalMetrics.finish(this, traverser);
+            if (this.profiling) TraversalMetrics.finish(this, traverser);
             return returnTraverser;
         } else {
             throw FastNoSuchElementException.instance();
@@ -13,7 +13,7 @@ import java.util.function.Consumer;
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public abstract class BarrierStep<S> extends AbstractStep<S, S> implements Barrier {
-    private final TraverserSet<S> traverserSet = new TraverserSet<>();
+    private TraverserSet<S> traverserSet = new TraverserSet<>();
     private Consumer<TraverserSet<S>> barrierConsumer;
 
     public BarrierStep(final Traversal traversal) {
@@ -27,15 +27,15 @@ public abstract class BarrierStep<S> extends AbstractStep<S, S> implements Barri
     @Override
     public Traverser<S> processNextStart() {
         if (this.starts.hasNext()) {
-            if (PROFILING_ENABLED) TraversalMetrics.start(this);
+            if (this.profiling) TraversalMetrics.start(this);
             this.starts.forEachRemaining(this.traverserSet::add);
             this.barrierConsumer.accept(this.traverserSet);
         } else {
-            if (PROFILING_ENABLED) TraversalMetrics.start(this);
+            if (this.profiling) TraversalMetrics.start(this);
         }
 
         final Traverser.Admin<S> traverser = this.traverserSet.remove().makeSibling();
-        if (PROFILING_ENABLED) TraversalMetrics.finish(this, traverser);
+        if (this.profiling) TraversalMetrics.finish(this, traverser);
         return traverser;
 
     }
@@ -45,4 +45,11 @@ public abstract class BarrierStep<S> extends AbstractStep<S, S> implements Barri
         super.reset();
         this.traverserSet.clear();
     }
+
+    @Override
+    public BarrierStep<S> clone() throws CloneNotSupportedException {
+        final BarrierStep<S> clone = (BarrierStep<S>) super.clone();
+        clone.traverserSet = new TraverserSet<>();
+        return clone;
+    }
 }
@@ -0,0 +1,66 @@
+package com.tinkerpop.gremlin.process.graph.strategy;
+
+import com.tinkerpop.gremlin.process.Step;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.TraversalEngine;
+import com.tinkerpop.gremlin.process.TraversalStrategy;
+import com.tinkerpop.gremlin.process.graph.marker.Comparing;
+import com.tinkerpop.gremlin.process.graph.step.filter.RangeStep;
+import com.tinkerpop.gremlin.process.graph.step.map.OrderByStep;
+import com.tinkerpop.gremlin.process.graph.step.map.OrderStep;
+import com.tinkerpop.gremlin.process.graph.step.map.TopKStep;
+import com.tinkerpop.gremlin.process.util.TraversalHelper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Replaces an {@link OrderStep} or {@link OrderByStep} that is followed by a bounded {@link RangeStep} with a
+ * {@link TopKStep} that only holds the traversers which can make it into the range. The {@link RangeStep} remains to
+ * skip the low end of the range.
+ */
+public class TopKStrategy extends AbstractTraversalStrategy {
+
+    private static final TopKStrategy INSTANCE = new TopKStrategy();
+    private static final Set<Class<? extends TraversalStrategy>> PRIORS = new HashSet<>();
+
+    static {
+        PRIORS.add(IdentityRemovalStrategy.class);
+        PRIORS.add(DedupOptimizerStrategy.class);
+    }
+
+    private TopKStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal<?, ?> traversal, final TraversalEngine engine) {
+        if (engine.equals(TraversalEngine.COMPUTER) || !TraversalHelper.hasStepOfClass(RangeStep.class, traversal))
+            return;
+
+        final List<Step> orderSteps = new ArrayList<>();
+        orderSteps.addAll(TraversalHelper.getStepsOfClass(OrderStep.class, traversal));
+        orderSteps.addAll(TraversalHelper.getStepsOfClass(OrderByStep.class, traversal));
+        for (final Step orderStep : orderSteps) {
+            if (orderStep.getNextStep() instanceof RangeStep) {
+                final long high = ((RangeStep) orderStep.getNextStep()).getHighRange();
+                if (-1 != high) {
+                    final TopKStep topKStep = new TopKStep(traversal, high, ((Comparing) orderStep).getComparators());
+                    if (TraversalHelper.isLabeled(orderStep))
+                        topKStep.setLabel(orderStep.getLabel());
+                    TraversalHelper.replaceStep(orderStep, topKStep, traversal);
+                }
+            }
+        }
+    }
+
+    public static TopKStrategy instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Set<Class<? extends TraversalStrategy>> applyPrior() {
+        return PRIORS;
+    }
+}
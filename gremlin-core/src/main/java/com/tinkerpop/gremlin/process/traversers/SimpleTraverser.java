@@ -4,7 +4,6 @@ package com.tinkerpop.gremlin.process.traversers;
 import com.tinkerpop.gremlin.process.Path;
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.Traverser;
-import com.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import com.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
@@ -158,7 +157,7 @@ public class SimpleTraverser<T> implements Traverser<T>, Traverser.Admin<T> {
             this.t = (T) ReferencedFactory.attach((ReferencedProperty) this.t, vertex);
         }
         // you do not want to attach a path because it will reference graph objects not at the current vertex
-        this.sideEffects = TraversalVertexProgram.getLocalSideEffects(vertex);
+        // the local sideEffects of the vertex are set by the executing worker (see setSideEffects())
         return this;
     }
 
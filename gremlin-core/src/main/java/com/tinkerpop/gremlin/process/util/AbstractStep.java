@@ -4,6 +4,7 @@ import com.tinkerpop.gremlin.process.traversers.PathTraverser;
 import com.tinkerpop.gremlin.process.Step;
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.graph.step.sideEffect.ProfileStep;
 import com.tinkerpop.gremlin.structure.Graph;
 
 import java.util.Iterator;
@@ -23,12 +24,18 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
-    protected final static boolean PROFILING_ENABLED = "true".equals(System.getProperty(TraversalMetrics.PROFILING_ENABLED));
-    
+
+    /**
+     * Whether the step records its {@link TraversalMetrics}.  A step of a profiled traversal is profiled from its
+     * construction on and the steps that exist when profiling is enabled are marked by {@link TraversalMetrics#enable}.
+     */
+    protected boolean profiling;
+
     public AbstractStep(final Traversal traversal) {
         this.traversal = traversal;
         this.starts = new ExpandableStepIterator<S>((Step) this);
         this.label = Graph.System.system(Integer.toString(this.traversal.getSteps().size()));
+        this.profiling = this.traversal.sideEffects().exists(ProfileStep.METRICS_KEY);
     }
 
     @Override
@@ -1,44 +1,67 @@
 package com.tinkerpop.gremlin.process.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.AbstractSet;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
-import java.util.stream.Collectors;
+import java.util.Spliterators;
 
 /**
  * BulkSet is a weighted set. Objects are added along with a bulk counter the denotes how many times the object was added to the set.
  * Given that count-based compression (vs. enumeration) can yield large sets, methods exist that are long-based (2^64).
+ * <p/>
+ * The objects and their primitive bulks are kept in insertion ordered arrays and are located by an open-addressing
+ * (linear probing) table of indices into those arrays. The total bulk is maintained as objects are added and removed
+ * so that sizing the set is constant time. Bulks are expected to be non-negative.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
-    private final Map<S, Long> map = new LinkedHashMap<>();
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int EMPTY = 0;
+    private static final int REMOVED = -1;
+    private static final long HOLE = -1l;
+
+    private Object[] objects = null;  // lazily allocated as many bulk sets remain empty
+    private long[] bulks = null;      // the bulk of the object at the same index or HOLE if it was removed
+    private transient int[] table = null;  // index + 1 of the object in the arrays, always twice their length
+    private int tail = 0;             // the next index to append to
+    private int distinct = 0;
+    private long total = 0l;
+    private transient int modCount = 0;
 
     @Override
     public int size() {
-        return this.map.values().stream().collect(Collectors.summingLong(Long::longValue)).intValue();
+        return (int) this.total;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return 0 == this.distinct;
     }
 
     public long longSize() {
-        return this.map.values().stream().collect(Collectors.summingLong(Long::longValue));
+        return this.total;
+    }
+
+    /**
+     * Get the number of distinct objects in the set (i.e. ignoring their bulks).
+     */
+    public int distinctSize() {
+        return this.distinct;
     }
 
     @Override
     public boolean contains(final Object s) {
-        return this.map.containsKey(s);
+        return this.slot(s) >= 0;
     }
 
     @Override
@@ -49,7 +72,11 @@ public class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
     @Override
     public boolean addAll(final Collection<? extends S> collection) {
         if (collection instanceof BulkSet) {
-            ((BulkSet<S>) collection).map.forEach(this::add);
+            final BulkSet<S> bulkSet = (BulkSet<S>) collection;
+            for (int index = 0; index < bulkSet.tail; index++) {
+                if (HOLE != bulkSet.bulks[index])
+                    this.add((S) bulkSet.objects[index], bulkSet.bulks[index]);
+            }
         } else {
             collection.iterator().forEachRemaining(this::add);
         }
@@ -57,38 +84,63 @@ public class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
     }
 
     public boolean add(final S s, final long bulk) {
-        if (this.map.containsKey(s)) {
-            this.map.put(s, this.map.get(s) + bulk);
-            return false;
-        } else {
-            this.map.put(s, bulk);
-            return true;
+        if (null == this.objects)
+            this.allocate(INITIAL_CAPACITY);
+        final int hash = hash(s);
+        int mask = this.table.length - 1;
+        for (int i = hash & mask; EMPTY != this.table[i]; i = (i + 1) & mask) {
+            if (REMOVED != this.table[i] && Objects.equals(this.objects[this.table[i] - 1], s)) {
+                this.bulks[this.table[i] - 1] += bulk;
+                this.total += bulk;
+                return false;
+            }
+        }
+        if (this.tail == this.objects.length) {
+            this.rehash();
+            mask = this.table.length - 1;
         }
+        // tombstones are not reused so the probe sequence of an object never passes its own slot
+        int i = hash & mask;
+        while (EMPTY != this.table[i]) {
+            i = (i + 1) & mask;
+        }
+        this.table[i] = this.tail + 1;
+        this.objects[this.tail] = s;
+        this.bulks[this.tail++] = bulk;
+        this.distinct++;
+        this.total += bulk;
+        this.modCount++;
+        return true;
     }
 
     public long get(final S s) {
-        final Long bulk = this.map.get(s);
-        return null == bulk ? 0 : bulk;
+        final int slot = this.slot(s);
+        return slot < 0 ? 0 : this.bulks[this.table[slot] - 1];
     }
 
-    /*public void set(final S s, final long bulk) {
-        this.map.remove(s);
-        this.map.put(s, bulk);
-    }*/
-
     @Override
     public boolean remove(final Object s) {
-        return this.map.remove(s) != null;
+        final int slot = this.slot(s);
+        if (slot < 0)
+            return false;
+        this.removeSlot(slot);
+        return true;
     }
 
     @Override
     public void clear() {
-        this.map.clear();
+        this.objects = null;
+        this.bulks = null;
+        this.table = null;
+        this.tail = 0;
+        this.distinct = 0;
+        this.total = 0l;
+        this.modCount++;
     }
 
     @Override
     public Spliterator<S> spliterator() {
-        return this.toList().spliterator();
+        return Spliterators.spliterator(this.iterator(), this.total, Spliterator.ORDERED);
     }
 
     @Override
@@ -96,7 +148,7 @@ public class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
         Objects.requireNonNull(collection);
         boolean modified = false;
         for (final Object object : collection) {
-            if (null != this.map.remove(object))
+            if (this.remove(object))
                 modified = true;
         }
         return modified;
@@ -104,55 +156,159 @@ public class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
 
     @Override
     public int hashCode() {
-        return this.map.hashCode();
+        int hashCode = 0;
+        for (int index = 0; index < this.tail; index++) {
+            if (HOLE != this.bulks[index])
+                hashCode = hashCode + (Objects.hashCode(this.objects[index]) ^ Long.hashCode(this.bulks[index]));
+        }
+        return hashCode;
     }
 
     @Override
     public boolean equals(final Object object) {
-        return this.map.equals(object);
+        if (this == object)
+            return true;
+        if (!(object instanceof BulkSet))
+            return false;
+        final BulkSet<S> other = (BulkSet<S>) object;
+        if (this.distinct != other.distinct || this.total != other.total)
+            return false;
+        for (int index = 0; index < this.tail; index++) {
+            if (HOLE != this.bulks[index]) {
+                final int slot = other.slot(this.objects[index]);
+                if (slot < 0 || other.bulks[other.table[slot] - 1] != this.bulks[index])
+                    return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
-        return this.map.toString();
-    }
-
-    private List<S> toList() {
-        final List<S> list = new ArrayList<>();
-        this.map.forEach((k, v) -> {
-            for (long i = 0; i < v; i++) {
-                list.add(k);
+        final StringBuilder builder = new StringBuilder("{");
+        for (int index = 0; index < this.tail; index++) {
+            if (HOLE != this.bulks[index]) {
+                if (builder.length() > 1)
+                    builder.append(", ");
+                builder.append(this.objects[index]).append('=').append(this.bulks[index]);
             }
-        });
-        return list;
+        }
+        return builder.append('}').toString();
     }
 
     @Override
     public Iterator<S> iterator() {
         return new Iterator<S>() {
-            final Iterator<Map.Entry<S, Long>> entryIterator = map.entrySet().iterator();
-            S lastObject = null;
-            long lastCount = 0l;
+            private int index = 0;
+            private long lastCount = 0l;
+            private final int expectedModCount = modCount;
 
+            @Override
             public boolean hasNext() {
-                return this.lastCount > 0l || this.entryIterator.hasNext();
+                if (this.expectedModCount != modCount)
+                    throw new ConcurrentModificationException();
+                if (this.lastCount > 0l)
+                    return true;
+                while (this.index < tail && bulks[this.index] <= 0l) {  // skip the holes and the empty bulks
+                    this.index++;
+                }
+                return this.index < tail;
             }
 
             @Override
             public S next() {
-                if (this.lastCount > 0l) {
-                    this.lastCount--;
-                    return this.lastObject;
-                }
-                final Map.Entry<S, Long> entry = entryIterator.next();
-                if (entry.getValue() == 1) {
-                    return entry.getKey();
-                } else {
-                    this.lastObject = entry.getKey();
-                    this.lastCount = entry.getValue() - 1;
-                    return this.lastObject;
-                }
+                if (!this.hasNext())
+                    throw FastNoSuchElementException.instance();
+                if (0l == this.lastCount)
+                    this.lastCount = bulks[this.index++];
+                this.lastCount--;
+                return (S) objects[this.index - 1];
             }
         };
     }
+
+    ////////////
+
+    private static int hash(final Object s) {
+        final int h = Objects.hashCode(s) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int slot(final Object s) {
+        if (null == this.table)
+            return -1;
+        final int mask = this.table.length - 1;
+        for (int i = hash(s) & mask; EMPTY != this.table[i]; i = (i + 1) & mask) {
+            if (REMOVED != this.table[i] && Objects.equals(this.objects[this.table[i] - 1], s))
+                return i;
+        }
+        return -1;
+    }
+
+    private void removeSlot(final int slot) {
+        final int index = this.table[slot] - 1;
+        this.total -= this.bulks[index];
+        this.objects[index] = null;
+        this.bulks[index] = HOLE;
+        this.table[slot] = REMOVED;
+        this.distinct--;
+        this.modCount++;
+        if (0 == this.distinct) {
+            // nothing is left to index so start over without the accumulated tombstones
+            this.clear();
+        }
+    }
+
+    /**
+     * Compact the objects into arrays that are at least twice the number of distinct objects and re-index them.
+     * This is called when the arrays are full and amortizes the holes that removals leave behind.
+     */
+    private void rehash() {
+        final Object[] oldObjects = this.objects;
+        final long[] oldBulks = this.bulks;
+        final int oldTail = this.tail;
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < this.distinct * 2) {
+            capacity <<= 1;
+        }
+        final boolean inPlace = capacity == oldObjects.length;
+        if (!inPlace)
+            this.allocate(capacity);
+        int index = 0;
+        for (int i = 0; i < oldTail; i++) {
+            if (HOLE != oldBulks[i]) {
+                this.objects[index] = oldObjects[i];
+                this.bulks[index++] = oldBulks[i];
+            }
+        }
+        if (inPlace)
+            Arrays.fill(this.objects, index, oldTail, null);
+        this.tail = index;
+        Arrays.fill(this.table, EMPTY);
+        final int mask = this.table.length - 1;
+        for (index = 0; index < this.tail; index++) {
+            int i = hash(this.objects[index]) & mask;
+            while (EMPTY != this.table[i]) {
+                i = (i + 1) & mask;
+            }
+            this.table[i] = index + 1;
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.objects = new Object[capacity];
+        this.bulks = new long[capacity];
+        this.table = new int[capacity * 2];
+    }
+
+    /**
+     * The table is not serialized as the hash codes of the objects may differ in the deserializing JVM.
+     */
+    private void readObject(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        if (null != this.objects) {
+            this.table = new int[this.objects.length * 2];
+            this.rehash();
+        }
+    }
 }
@@ -19,13 +19,15 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
 
     private Map<String, Object> objectMap = new HashMap<>();
     private Map<String, Supplier> supplierMap = new HashMap<>();
+    // the local vertex binding is per-thread as OLAP workers may share the same side-effects while executing different vertices
+    private transient volatile ThreadLocal<Map<String, Object>> localObjectMap = new ThreadLocal<>();
 
     public DefaultTraversalSideEffects() {
 
     }
 
     public DefaultTraversalSideEffects(final Vertex localVertex) {
-        this.setLocalVertex(localVertex);
+        this.objectMap = DefaultTraversalSideEffects.getLocalObjectMap(localVertex);
     }
 
     /**
@@ -57,7 +59,7 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
      */
     @Override
     public boolean exists(final String key) {
-        return this.objectMap.containsKey(key) || this.supplierMap.containsKey(key);
+        return this.getObjectMap().containsKey(key) || this.supplierMap.containsKey(key);
     }
 
     /**
@@ -66,7 +68,7 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
     @Override
     public void set(final String key, final Object value) {
         SideEffectHelper.validateSideEffect(key, value);
-        this.objectMap.put(key, value);
+        this.getObjectMap().put(key, value);
     }
 
     /**
@@ -74,13 +76,13 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
      */
     @Override
     public <V> V get(final String key) throws IllegalArgumentException {
-        final V value = (V) this.objectMap.get(key);
+        final V value = (V) this.getObjectMap().get(key);
         if (null != value)
             return value;
         else {
             if (this.supplierMap.containsKey(key)) {
                 final V v = (V) this.supplierMap.get(key).get();
-                this.objectMap.put(key, v);
+                this.getObjectMap().put(key, v);
                 return v;
             } else {
                 throw Traversal.SideEffects.Exceptions.sideEffectDoesNotExist(key);
@@ -93,15 +95,15 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
      */
     @Override
     public <V> V getOrCreate(final String key, final Supplier<V> orCreate) {
-        if (this.objectMap.containsKey(key))
-            return (V) this.objectMap.get(key);
+        if (this.getObjectMap().containsKey(key))
+            return (V) this.getObjectMap().get(key);
         else if (this.supplierMap.containsKey(key)) {
             final V value = (V) this.supplierMap.get(key).get();
-            this.objectMap.put(key, value);
+            this.getObjectMap().put(key, value);
             return value;
         } else {
             final V value = orCreate.get();
-            this.objectMap.put(key, value);
+            this.getObjectMap().put(key, value);
             return value;
         }
     }
@@ -111,7 +113,7 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
      */
     @Override
     public void remove(final String key) {
-        this.objectMap.remove(key);
+        this.getObjectMap().remove(key);
         this.supplierMap.remove(key);
     }
 
@@ -121,7 +123,7 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
     @Override
     public Set<String> keys() {
         final Set<String> keys = new HashSet<>();
-        keys.addAll(this.objectMap.keySet());
+        keys.addAll(this.getObjectMap().keySet());
         keys.addAll(this.supplierMap.keySet());
         return keys;
     }
@@ -131,12 +133,33 @@ public class DefaultTraversalSideEffects implements Traversal.SideEffects {
      */
     @Override
     public void setLocalVertex(final Vertex vertex) {
+        if (null == vertex) {
+            // the binding is removed so that the thread does not hold onto the vertex (and its graph) once it is processed
+            if (null != this.localObjectMap) this.localObjectMap.remove();
+            return;
+        }
+        if (null == this.localObjectMap) {
+            synchronized (this) {
+                if (null == this.localObjectMap)
+                    this.localObjectMap = new ThreadLocal<>();
+            }
+        }
+        this.localObjectMap.set(DefaultTraversalSideEffects.getLocalObjectMap(vertex));
+    }
+
+    private Map<String, Object> getObjectMap() {
+        final Map<String, Object> local = null == this.localObjectMap ? null : this.localObjectMap.get();
+        return null == local ? this.objectMap : local;
+    }
+
+    private static Map<String, Object> getLocalObjectMap(final Vertex vertex) {
         final Property<Map<String, Object>> property = vertex.property(SIDE_EFFECTS);
         if (property.isPresent()) {
-            this.objectMap = property.value();
+            return property.value();
         } else {
-            this.objectMap = new HashMap<>();
-            vertex.property(SIDE_EFFECTS, this.objectMap);
+            final Map<String, Object> objectMap = new HashMap<>();
+            vertex.property(SIDE_EFFECTS, objectMap);
+            return objectMap;
         }
     }
 
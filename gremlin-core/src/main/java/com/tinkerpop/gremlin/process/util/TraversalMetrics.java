@@ -10,15 +10,20 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
 
 /**
  * @author Bob Briody (http://bobbriody.com)
  */
 public final class TraversalMetrics implements Serializable {
+    /**
+     * The system property that used to enable profiling for the whole JVM.  It is no longer read as a traversal is
+     * profiled with the {@code profile()} step or with {@link #enable(Traversal)}.
+     *
+     * @deprecated profiling is enabled per traversal and thus, this property is ignored
+     */
+    @Deprecated
     public static final String PROFILING_ENABLED = "tinkerpop.profiling";
     private static final String[] HEADERS = {"Step", "Count", "Traversers", "Time (ms)", "% Dur"};
-    private static final WeakHashMap<Traversal, Boolean> PROFILING_CACHE = new WeakHashMap<Traversal, Boolean>();
 
     private long totalStepDuration;
 
@@ -28,39 +33,33 @@ public final class TraversalMetrics implements Serializable {
 
     }
 
-    public static final void start(final Step<?, ?> step) {
-        if (!profiling(step.getTraversal())) {
-            return;
-        }
+    /**
+     * Profile the traversal from here on.  The metrics are collected in the sideEffects of the traversal under
+     * {@link ProfileStep#METRICS_KEY}.  Only the steps of a profiled traversal pay for the timing of their
+     * executions.
+     *
+     * @param traversal the traversal to profile
+     */
+    public static void enable(final Traversal<?, ?> traversal) {
+        if (!traversal.sideEffects().exists(ProfileStep.METRICS_KEY))
+            traversal.sideEffects().set(ProfileStep.METRICS_KEY, new TraversalMetrics());
+        traversal.getSteps().stream()
+                .filter(step -> step instanceof AbstractStep)
+                .forEach(step -> ((AbstractStep) step).profiling = true);
+    }
 
+    public static final void start(final Step<?, ?> step) {
         step.getTraversal().sideEffects().getOrCreate(ProfileStep.METRICS_KEY, TraversalMetrics::new).startInternal(step);
     }
 
     public static final void stop(final Step<?, ?> step) {
-        if (!profiling(step.getTraversal())) {
-            return;
-        }
-
         step.getTraversal().sideEffects().<TraversalMetrics>get(ProfileStep.METRICS_KEY).stopInternal(step);
     }
 
     public static final void finish(final Step<?, ?> step, final Traverser.Admin<?> traverser) {
-        if (!profiling(step.getTraversal())) {
-            return;
-        }
-
         step.getTraversal().sideEffects().<TraversalMetrics>get(ProfileStep.METRICS_KEY).finishInternal(step, traverser);
     }
 
-     private static boolean profiling(final Traversal<?, ?> traversal) {
-        Boolean profiling;
-        if ((profiling = PROFILING_CACHE.get(traversal)) != null)
-            return profiling;
-        profiling = TraversalHelper.hasStepOfClass(ProfileStep.class, traversal);
-        PROFILING_CACHE.put(traversal, profiling);
-        return profiling;
-    }
-
     private void startInternal(final Step<?, ?> step) {
         StepTimer stepMetrics = this.stepTimers.get(step.getLabel());
         if (null == stepMetrics) {
@@ -115,6 +114,7 @@ public final class TraversalMetrics implements Serializable {
     }
 
     public double getTotalStepDurationMs() {
+        computeTotals();
         return this.totalStepDuration / 1000000.0d;
     }
 
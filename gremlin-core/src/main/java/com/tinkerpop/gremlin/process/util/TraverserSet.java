@@ -2,56 +2,124 @@ package com.tinkerpop.gremlin.process.util;
 
 import com.tinkerpop.gremlin.process.Traverser;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.AbstractSet;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
+ * A set of traversers that merges the bulk of equal traversers and is a FIFO queue in insertion order.
+ * The traversers are kept in an insertion ordered array and are located by an open-addressing (linear probing) table
+ * of indices into that array. Adding merges bulks in place, popping the head is constant time and sorting sorts the
+ * array in place. Removed traversers leave a hole in the array (and a tombstone in the table) until the array is
+ * compacted when it is full.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements Set<Traverser.Admin<S>>, Queue<Traverser.Admin<S>>, Serializable {
 
-    private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = new LinkedHashMap<>();
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int RETAINED_CAPACITY = 1024;  // clearing retains arrays up to this capacity for reuse
+    private static final int EMPTY = 0;
+    private static final int REMOVED = -1;
+
+    private Traverser.Admin<S>[] traversers = null;  // lazily allocated as many traverser sets remain empty
+    private transient int[] table = null;             // index + 1 of the traverser in the array, always twice its length
+    private int head = 0;                             // no traversers are before the head
+    private int tail = 0;                             // the next index to append to
+    private int size = 0;
+    private transient int modCount = 0;
 
     @Override
     public Iterator<Traverser.Admin<S>> iterator() {
-        return this.map.keySet().iterator();
+        return new Iterator<Traverser.Admin<S>>() {
+            private int index = head;
+            private int last = -1;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                if (this.expectedModCount != modCount)
+                    throw new ConcurrentModificationException();
+                while (this.index < tail && null == traversers[this.index]) {
+                    this.index++;
+                }
+                return this.index < tail;
+            }
+
+            @Override
+            public Traverser.Admin<S> next() {
+                if (!this.hasNext())
+                    throw FastNoSuchElementException.instance();
+                this.last = this.index;
+                return traversers[this.index++];
+            }
+
+            @Override
+            public void remove() {
+                if (this.last < 0)
+                    throw new IllegalStateException("The iterator has no current traverser to remove");
+                if (this.expectedModCount != modCount)
+                    throw new ConcurrentModificationException();
+                removeSlot(slotOf(this.last));
+                this.last = -1;
+                this.expectedModCount = modCount;
+            }
+        };
     }
 
     @Override
     public int size() {
-        return this.map.size();
+        return this.size;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return 0 == this.size;
     }
 
     @Override
     public boolean contains(final Object traverser) {
-        return this.map.containsKey(traverser);
+        return this.slot(traverser) >= 0;
     }
 
     @Override
     public boolean add(final Traverser.Admin<S> traverser) {
-        final Traverser.Admin<S> existing = this.map.get(traverser);
-        if (null == existing) {
-            this.map.put(traverser, traverser);
-            return true;
-        } else {
-            existing.setBulk(existing.bulk() + traverser.bulk());
-            return false;
+        if (null == this.traversers)
+            this.allocate(INITIAL_CAPACITY);
+        final int hash = hash(traverser);
+        int mask = this.table.length - 1;
+        for (int i = hash & mask; EMPTY != this.table[i]; i = (i + 1) & mask) {
+            if (REMOVED != this.table[i]) {
+                final Traverser.Admin<S> existing = this.traversers[this.table[i] - 1];
+                if (existing.equals(traverser)) {
+                    existing.setBulk(existing.bulk() + traverser.bulk());
+                    return false;
+                }
+            }
+        }
+        if (this.tail == this.traversers.length) {
+            this.rehash();
+            mask = this.table.length - 1;
+        }
+        // tombstones are not reused so the probe sequence of a traverser never passes its own slot
+        int i = hash & mask;
+        while (EMPTY != this.table[i]) {
+            i = (i + 1) & mask;
         }
+        this.table[i] = this.tail + 1;
+        this.traversers[this.tail++] = traverser;
+        this.size++;
+        this.modCount++;
+        return true;
     }
 
     @Override
@@ -61,49 +129,179 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public Traverser.Admin<S> remove() {  // pop, exception if empty
-        return this.map.remove(this.iterator().next());
+        final Traverser.Admin<S> traverser = this.element();
+        this.removeSlot(this.slotOf(this.head));
+        return traverser;
     }
 
     @Override
     public Traverser.Admin<S> poll() {  // pop, null if empty
-        return this.map.isEmpty() ? null : this.remove();
+        return 0 == this.size ? null : this.remove();
     }
 
     @Override
     public Traverser.Admin<S> element() { // peek, exception if empty
-        return this.iterator().next();
+        if (0 == this.size)
+            throw FastNoSuchElementException.instance();
+        while (null == this.traversers[this.head]) {
+            this.head++;
+        }
+        return this.traversers[this.head];
     }
 
     @Override
     public Traverser.Admin<S> peek() { // peek, null if empty
-        return this.map.isEmpty() ? null : this.iterator().next();
+        return 0 == this.size ? null : this.element();
     }
 
     @Override
     public boolean remove(final Object traverser) {
-        return this.map.remove(traverser) != null;
+        final int slot = this.slot(traverser);
+        if (slot < 0)
+            return false;
+        this.removeSlot(slot);
+        return true;
     }
 
     @Override
     public void clear() {
-        this.map.clear();
+        if (null != this.traversers && this.traversers.length <= RETAINED_CAPACITY) {
+            Arrays.fill(this.table, EMPTY);
+            Arrays.fill(this.traversers, this.head, this.tail, null);
+        } else {
+            this.traversers = null;
+            this.table = null;
+        }
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+        this.modCount++;
     }
 
     @Override
     public Spliterator<Traverser.Admin<S>> spliterator() {
-        return this.map.keySet().spliterator();
+        return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.DISTINCT);
     }
 
-    @Override
-    public String toString() {
-        return this.map.keySet().toString();
+    public void sort(final Comparator<Traverser<S>> comparator) {
+        if (this.size < 2)
+            return;
+        this.compact(this.traversers);
+        Arrays.sort(this.traversers, 0, this.size, comparator);
+        this.index();
+        this.modCount++;
     }
 
-    public void sort(final Comparator<Traverser<S>> comparator) {
-        final List<Traverser.Admin<S>> list = new ArrayList<>(this.map.keySet());
-        Collections.sort(list, comparator);
-        this.map.clear();
-        list.forEach(traverser -> this.map.put(traverser, traverser));
+    ////////////
+
+    private static int hash(final Object traverser) {
+        final int h = traverser.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
     }
 
+    private int slot(final Object traverser) {
+        if (null == this.table || null == traverser)
+            return -1;
+        final int mask = this.table.length - 1;
+        for (int i = hash(traverser) & mask; EMPTY != this.table[i]; i = (i + 1) & mask) {
+            if (REMOVED != this.table[i] && this.traversers[this.table[i] - 1].equals(traverser))
+                return i;
+        }
+        return -1;
+    }
+
+    private int slotOf(final int index) {
+        final int mask = this.table.length - 1;
+        int i = hash(this.traversers[index]) & mask;
+        while (this.table[i] != index + 1) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void removeSlot(final int slot) {
+        this.traversers[this.table[slot] - 1] = null;
+        this.table[slot] = REMOVED;
+        this.size--;
+        this.modCount++;
+        if (0 == this.size) {
+            // nothing is left to index so start over without the accumulated tombstones
+            if (this.traversers.length > INITIAL_CAPACITY) {
+                this.traversers = null;
+                this.table = null;
+            } else {
+                Arrays.fill(this.table, EMPTY);
+                Arrays.fill(this.traversers, 0, this.tail, null);
+            }
+            this.head = 0;
+            this.tail = 0;
+        }
+    }
+
+    /**
+     * Compact the traversers into an array that is at least twice the size of the set and re-index them.
+     * This is called when the array is full and amortizes the holes that removals leave behind.
+     */
+    private void rehash() {
+        final Traverser.Admin<S>[] old = this.traversers;
+        final int oldHead = this.head;
+        final int oldTail = this.tail;
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < this.size * 2) {
+            capacity <<= 1;
+        }
+        if (capacity == old.length)
+            this.compact(old);
+        else {
+            this.allocate(capacity);
+            int index = 0;
+            for (int i = oldHead; i < oldTail; i++) {
+                if (null != old[i])
+                    this.traversers[index++] = old[i];
+            }
+            this.head = 0;
+            this.tail = index;
+        }
+        this.index();
+    }
+
+    private void compact(final Traverser.Admin<S>[] array) {
+        int index = 0;
+        for (int i = this.head; i < this.tail; i++) {
+            if (null != array[i])
+                array[index++] = array[i];
+        }
+        Arrays.fill(array, index, this.tail, null);
+        this.head = 0;
+        this.tail = index;
+    }
+
+    private void index() {
+        Arrays.fill(this.table, EMPTY);
+        final int mask = this.table.length - 1;
+        for (int index = 0; index < this.tail; index++) {
+            int i = hash(this.traversers[index]) & mask;
+            while (EMPTY != this.table[i]) {
+                i = (i + 1) & mask;
+            }
+            this.table[i] = index + 1;
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.traversers = new Traverser.Admin[capacity];
+        this.table = new int[capacity * 2];
+    }
+
+    /**
+     * The table is not serialized as the hash codes of the traversers may differ in the deserializing JVM.
+     */
+    private void readObject(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        if (null != this.traversers) {
+            this.table = new int[this.traversers.length * 2];
+            this.compact(this.traversers);
+            this.index();
+        }
+    }
 }
@@ -29,7 +29,7 @@ public class StrategyWrappedGraphStep<E extends Element> extends GraphStep<E> {
 
     @Override
     public void generateTraversers(final TraverserGenerator traverserGenerator) {
-        if (PROFILING_ENABLED) TraversalMetrics.start(this);
+        if (this.profiling) TraversalMetrics.start(this);
         try {
             this.start = Vertex.class.isAssignableFrom(this.returnClass) ?
                     new StrategyWrappedVertex.StrategyWrappedVertexIterator((Iterator) this.graphTraversal, this.strategyWrappedGraph) :
@@ -38,7 +38,7 @@ public class StrategyWrappedGraphStep<E extends Element> extends GraphStep<E> {
         } catch (final Exception e) {
             throw new IllegalStateException(e.getMessage(), e);
         } finally {
-            if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+            if (this.profiling) TraversalMetrics.stop(this);
         }
     }
 }
@@ -24,6 +24,7 @@ public class Tokens {
     public static final String ARGS_LANGUAGE = "language";
     public static final String ARGS_BATCH_SIZE = "batchSize";
     public static final String ARGS_SESSION = "session";
+    public static final String ARGS_PROFILE = "profile";
 
     public static final String ARGS_COORDINATES_GROUP = "group";
     public static final String ARGS_COORDINATES_ARTIFACT = "artifact";
@@ -32,6 +33,8 @@ public class Tokens {
     public static final String ARGS_INFO_TYPE_DEPDENENCIES = "dependencies";
     public static final String ARGS_INFO_TYPE_IMPORTS = "imports";
 
+    public static final String META_METRICS = "metrics";
+
     public static final List<String> INFO_TYPES = Arrays.asList(ARGS_INFO_TYPE_DEPDENENCIES,
             ARGS_INFO_TYPE_IMPORTS);
 }
@@ -0,0 +1,133 @@
+package com.tinkerpop.gremlin.driver.ser;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.tinkerpop.gremlin.driver.MessageSerializer;
+import com.tinkerpop.gremlin.driver.message.ResponseMessage;
+import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
+import org.javatuples.Pair;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The configuration of the {@link GremlinKryo} instance and the mime types that the Kryo message serializers share,
+ * leaving the envelope of the messages to the versions that extend it.
+ */
+public abstract class AbstractKryoMessageSerializer implements MessageSerializer {
+    protected static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final String TOKEN_EXTENDED_VERSION = "extendedVersion";
+    private static final String TOKEN_CUSTOM = "custom";
+    private static final String TOKEN_SERIALIZE_RESULT_TO_STRING = "serializeResultToString";
+
+    private GremlinKryo gremlinKryo;
+    protected final ThreadLocal<Kryo> kryoThreadLocal = new ThreadLocal<Kryo>() {
+        @Override
+        protected Kryo initialValue() {
+            return gremlinKryo.createKryo();
+        }
+    };
+
+    protected boolean serializeToString;
+
+    /**
+     * Creates an instance with a provided custom configured {@link GremlinKryo} instance. Note that this instance
+     * will be overriden by {@link #configure} is called.
+     */
+    protected AbstractKryoMessageSerializer(final GremlinKryo kryo) {
+        this.gremlinKryo = kryo;
+    }
+
+    /**
+     * The mime type of the version, which is suffixed with "-stringd" when the results are serialized to strings.
+     */
+    abstract String obtainMimeType();
+
+    @Override
+    public void configure(final Map<String, Object> config) {
+        final byte extendedVersion;
+        try {
+            extendedVersion = Byte.parseByte(config.getOrDefault(TOKEN_EXTENDED_VERSION, GremlinKryo.DEFAULT_EXTENDED_VERSION).toString());
+        } catch (Exception ex) {
+            throw new IllegalStateException(String.format("Invalid configuration value of [%s] for [%s] setting on %s serialization configuration",
+                    config.getOrDefault(TOKEN_EXTENDED_VERSION, ""), TOKEN_EXTENDED_VERSION, this.getClass().getName()), ex);
+        }
+
+        final GremlinKryo.Builder builder = GremlinKryo.build(GremlinKryo.Version.V_1_0_0).extendedVersion(extendedVersion);
+
+        final List<String> classNameList;
+        try {
+            classNameList = (List<String>) config.getOrDefault(TOKEN_CUSTOM, new ArrayList<String>());
+        } catch (Exception ex) {
+            throw new IllegalStateException(String.format("Invalid configuration value of [%s] for [%s] setting on %s serialization configuration",
+                    config.getOrDefault(TOKEN_CUSTOM, ""), TOKEN_CUSTOM, this.getClass().getName()), ex);
+        }
+
+        if (!classNameList.isEmpty()) {
+            final List<Pair<Class, Function<Kryo,Serializer>>> classList = classNameList.stream().map(serializerDefinition -> {
+                String className;
+                Optional<String> serializerName;
+                if (serializerDefinition.contains(";")) {
+                    final String[] split = serializerDefinition.split(";");
+                    if (split.length != 2)
+                        throw new IllegalStateException(String.format("Invalid format for serializer definition [%s] - expected <class>:<serializer-class>", serializerDefinition));
+
+                    className = split[0];
+                    serializerName = Optional.of(split[1]);
+                } else {
+                    serializerName = Optional.empty();
+                    className = serializerDefinition;
+                }
+
+                try {
+                    final Class clazz = Class.forName(className);
+                    final Serializer serializer;
+                    if (serializerName.isPresent()) {
+                        final Class serializerClazz = Class.forName(serializerName.get());
+                        serializer = (Serializer) serializerClazz.newInstance();
+                    } else
+                        serializer = null;
+
+                    return Pair.<Class, Function<Kryo,Serializer>>with(clazz, kryo -> serializer);
+                } catch (Exception ex) {
+                    throw new IllegalStateException("Class could not be found", ex);
+                }
+            }).collect(Collectors.toList());
+
+            classList.forEach(c -> builder.addCustom(c.getValue0(), c.getValue1()));
+        }
+
+        this.serializeToString = Boolean.parseBoolean(config.getOrDefault(TOKEN_SERIALIZE_RESULT_TO_STRING, "false").toString());
+
+        this.gremlinKryo = builder.create();
+    }
+
+    @Override
+    public String[] mimeTypesSupported() {
+        return new String[]{mimeType()};
+    }
+
+    protected String mimeType() {
+        return this.serializeToString ? obtainMimeType() + "-stringd" : obtainMimeType();
+    }
+
+    protected Object serializeResultToString(final ResponseMessage msg) {
+        if (msg.getResult() == null) return "null";
+        if (msg.getResult().getData() == null) return "null";
+
+        // the IteratorHandler should return a collection so keep it as such
+        final Object o = msg.getResult().getData();
+        if (o instanceof Collection) {
+            return ((Collection) o).stream().map(Object::toString).collect(Collectors.toList());
+        } else {
+            return o.toString();
+        }
+    }
+}
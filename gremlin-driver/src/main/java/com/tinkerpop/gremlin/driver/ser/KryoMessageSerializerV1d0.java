@@ -1,10 +1,8 @@
 package com.tinkerpop.gremlin.driver.ser;
 
 import com.esotericsoftware.kryo.Kryo;
-import com.esotericsoftware.kryo.Serializer;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
-import com.tinkerpop.gremlin.driver.MessageSerializer;
 import com.tinkerpop.gremlin.driver.message.RequestMessage;
 import com.tinkerpop.gremlin.driver.message.ResponseMessage;
 import com.tinkerpop.gremlin.driver.message.ResponseStatusCode;
@@ -12,50 +10,25 @@ import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.util.ReferenceCountUtil;
-import org.javatuples.Pair;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
-import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
-public class KryoMessageSerializerV1d0 implements MessageSerializer {
-    private GremlinKryo gremlinKryo;
-    private ThreadLocal<Kryo> kryoThreadLocal = new ThreadLocal<Kryo>() {
-        @Override
-        protected Kryo initialValue() {
-            return gremlinKryo.createKryo();
-        }
-    };
-
-    private static final Charset UTF8 = Charset.forName("UTF-8");
-
-    private static final String MIME_TYPE = SerTokens.MIME_KRYO_V1D0;
-    private static final String MIME_TYPE_STRINGD = SerTokens.MIME_KRYO_V1D0 + "-stringd";
-
-    private static final String TOKEN_EXTENDED_VERSION = "extendedVersion";
-    private static final String TOKEN_CUSTOM = "custom";
-    private static final String TOKEN_SERIALIZE_RESULT_TO_STRING = "serializeResultToString";
-
-    private boolean serializeToString;
+public class KryoMessageSerializerV1d0 extends AbstractKryoMessageSerializer {
 
     /**
      * Creates an instance with a standard {@link GremlinKryo} instance. Note that this instance
      * will be overriden by {@link #configure} is called.
      */
     public KryoMessageSerializerV1d0() {
-        gremlinKryo = GremlinKryo.build(GremlinKryo.Version.V_1_0_0).create();
+        super(GremlinKryo.build(GremlinKryo.Version.V_1_0_0).create());
     }
 
     /**
@@ -63,71 +36,12 @@ public class KryoMessageSerializerV1d0 implements MessageSerializer {
      * will be overriden by {@link #configure} is called.
      */
     public KryoMessageSerializerV1d0(final GremlinKryo kryo) {
-        this.gremlinKryo = kryo;
-    }
-
-    @Override
-    public void configure(final Map<String, Object> config) {
-        final byte extendedVersion;
-        try {
-            extendedVersion = Byte.parseByte(config.getOrDefault(TOKEN_EXTENDED_VERSION, GremlinKryo.DEFAULT_EXTENDED_VERSION).toString());
-        } catch (Exception ex) {
-            throw new IllegalStateException(String.format("Invalid configuration value of [%s] for [%s] setting on %s serialization configuration",
-                    config.getOrDefault(TOKEN_EXTENDED_VERSION, ""), TOKEN_EXTENDED_VERSION, this.getClass().getName()), ex);
-        }
-
-        final GremlinKryo.Builder builder = GremlinKryo.build(GremlinKryo.Version.V_1_0_0).extendedVersion(extendedVersion);
-
-        final List<String> classNameList;
-        try {
-            classNameList = (List<String>) config.getOrDefault(TOKEN_CUSTOM, new ArrayList<String>());
-        } catch (Exception ex) {
-            throw new IllegalStateException(String.format("Invalid configuration value of [%s] for [%s] setting on %s serialization configuration",
-                    config.getOrDefault(TOKEN_CUSTOM, ""), TOKEN_CUSTOM, this.getClass().getName()), ex);
-        }
-
-        if (!classNameList.isEmpty()) {
-            final List<Pair<Class, Function<Kryo,Serializer>>> classList = classNameList.stream().map(serializerDefinition -> {
-                String className;
-                Optional<String> serializerName;
-                if (serializerDefinition.contains(";")) {
-                    final String[] split = serializerDefinition.split(";");
-                    if (split.length != 2)
-                        throw new IllegalStateException(String.format("Invalid format for serializer definition [%s] - expected <class>:<serializer-class>", serializerDefinition));
-
-                    className = split[0];
-                    serializerName = Optional.of(split[1]);
-                } else {
-                    serializerName = Optional.empty();
-                    className = serializerDefinition;
-                }
-
-                try {
-                    final Class clazz = Class.forName(className);
-                    final Serializer serializer;
-                    if (serializerName.isPresent()) {
-                        final Class serializerClazz = Class.forName(serializerName.get());
-                        serializer = (Serializer) serializerClazz.newInstance();
-                    } else
-                        serializer = null;
-
-                    return Pair.<Class, Function<Kryo,Serializer>>with(clazz, kryo -> serializer);
-                } catch (Exception ex) {
-                    throw new IllegalStateException("Class could not be found", ex);
-                }
-            }).collect(Collectors.toList());
-
-            classList.forEach(c -> builder.addCustom(c.getValue0(), c.getValue1()));
-        }
-
-        this.serializeToString = Boolean.parseBoolean(config.getOrDefault(TOKEN_SERIALIZE_RESULT_TO_STRING, "false").toString());
-
-        this.gremlinKryo = builder.create();
+        super(kryo);
     }
 
     @Override
-    public String[] mimeTypesSupported() {
-        return new String[]{this.serializeToString ? MIME_TYPE_STRINGD : MIME_TYPE};
+    String obtainMimeType() {
+        return SerTokens.MIME_KRYO_V1D0;
     }
 
     @Override
@@ -222,7 +136,7 @@ public class KryoMessageSerializerV1d0 implements MessageSerializer {
             final Kryo kryo = kryoThreadLocal.get();
             try (final OutputStream baos = new ByteArrayOutputStream()) {
                 final Output output = new Output(baos);
-                final String mimeType = serializeToString ? MIME_TYPE_STRINGD : MIME_TYPE;
+                final String mimeType = mimeType();
                 output.writeByte(mimeType.length());
                 output.write(mimeType.getBytes(UTF8));
 
@@ -250,17 +164,4 @@ public class KryoMessageSerializerV1d0 implements MessageSerializer {
             throw new SerializationException(ex);
         }
     }
-
-    private Object serializeResultToString(final ResponseMessage msg) {
-        if (msg.getResult() == null) return "null";
-        if (msg.getResult().getData() == null) return "null";
-
-        // the IteratorHandler should return a collection so keep it as such
-        final Object o = msg.getResult().getData();
-        if (o instanceof Collection) {
-            return ((Collection) o).stream().map(Object::toString).collect(Collectors.toList());
-        } else {
-            return o.toString();
-        }
-    }
 }
@@ -0,0 +1,203 @@
+package com.tinkerpop.gremlin.driver.ser;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.tinkerpop.gremlin.driver.message.RequestMessage;
+import com.tinkerpop.gremlin.driver.message.ResponseMessage;
+import com.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serializes messages with Kryo straight to and from the Netty {@link ByteBuf}. The envelope of a response is the
+ * request id, the status code, message and attributes followed by the result data and meta, while the envelope of a
+ * request is the mime type, the request id, the processor, the op and the args. As this envelope is not compatible
+ * with the one of {@link KryoMessageSerializerV1d0}, it is negotiated under its own mime type.
+ */
+public class KryoMessageSerializerV1d1 extends AbstractKryoMessageSerializer {
+    private static final int BUFFER_SIZE = 4096;
+
+    /**
+     * The Kryo {@link Input} and {@link Output} buffers of a thread are reused for every message.
+     */
+    private static final ThreadLocal<Input> inputThreadLocal = ThreadLocal.withInitial(() -> new Input(BUFFER_SIZE));
+    private static final ThreadLocal<Output> outputThreadLocal = ThreadLocal.withInitial(() -> new Output(BUFFER_SIZE));
+
+    /**
+     * Creates an instance with a standard {@link GremlinKryo} instance. Note that this instance
+     * will be overriden by {@link #configure} is called.
+     */
+    public KryoMessageSerializerV1d1() {
+        super(GremlinKryo.build(GremlinKryo.Version.V_1_0_0).create());
+    }
+
+    /**
+     * Creates an instance with a provided custom configured {@link GremlinKryo} instance. Note that this instance
+     * will be overriden by {@link #configure} is called.
+     */
+    public KryoMessageSerializerV1d1(final GremlinKryo kryo) {
+        super(kryo);
+    }
+
+    @Override
+    String obtainMimeType() {
+        return SerTokens.MIME_KRYO_V1D1;
+    }
+
+    @Override
+    public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
+        try {
+            final Kryo kryo = kryoThreadLocal.get();
+            final Input input = readFrom(msg);
+            try {
+                final ResponseMessage.Builder builder = ResponseMessage.build(readUUID(input));
+                builder.code(ResponseStatusCode.getFromValue(input.readInt(true)))
+                        .statusMessage(Optional.ofNullable(input.readString()).orElse(""))
+                        .statusAttributes((Map<String, Object>) kryo.readClassAndObject(input))
+                        .result(kryo.readClassAndObject(input))
+                        .responseMetaData((Map<String, Object>) kryo.readClassAndObject(input));
+                return builder.create();
+            } finally {
+                release(input);
+            }
+        } catch (Exception ex) {
+            logger.warn("Response [{}] could not be deserialized by {}.", msg, KryoMessageSerializerV1d1.class.getName());
+            throw new SerializationException(ex);
+        }
+    }
+
+    @Override
+    public ByteBuf serializeResponseAsBinary(final ResponseMessage responseMessage, final ByteBufAllocator allocator) throws SerializationException {
+        ByteBuf encodedMessage = null;
+        try {
+            final Kryo kryo = kryoThreadLocal.get();
+            encodedMessage = allocator.buffer();
+            final Output output = writeTo(encodedMessage);
+            try {
+                writeUUID(output, responseMessage.getRequestId());
+                output.writeInt(responseMessage.getStatus().getCode().getValue(), true);
+                output.writeString(responseMessage.getStatus().getMessage());
+                kryo.writeClassAndObject(output, responseMessage.getStatus().getAttributes());
+                kryo.writeClassAndObject(output, serializeToString ? serializeResultToString(responseMessage) : responseMessage.getResult().getData());
+                kryo.writeClassAndObject(output, responseMessage.getResult().getMeta());
+                output.flush();
+            } finally {
+                release(output);
+            }
+
+            return encodedMessage;
+        } catch (Exception ex) {
+            if (encodedMessage != null) ReferenceCountUtil.release(encodedMessage);
+
+            logger.warn("Response [{}] could not be serialized by {}.", responseMessage.toString(), KryoMessageSerializerV1d1.class.getName());
+            throw new SerializationException(ex);
+        }
+    }
+
+    @Override
+    public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
+        try {
+            final Kryo kryo = kryoThreadLocal.get();
+            final Input input = readFrom(msg);
+            try {
+                final UUID requestId = readUUID(input);
+                final String processor = input.readString();
+                final RequestMessage.Builder builder = RequestMessage.build(input.readString())
+                        .overrideRequestId(requestId)
+                        .processor(processor);
+                final Map<String, Object> args = (Map<String, Object>) kryo.readClassAndObject(input);
+                args.forEach(builder::addArg);
+                return builder.create();
+            } finally {
+                release(input);
+            }
+        } catch (Exception ex) {
+            logger.warn("Request [{}] could not be deserialized by {}.", msg, KryoMessageSerializerV1d1.class.getName());
+            throw new SerializationException(ex);
+        }
+    }
+
+    @Override
+    public ByteBuf serializeRequestAsBinary(final RequestMessage requestMessage, final ByteBufAllocator allocator) throws SerializationException {
+        ByteBuf encodedMessage = null;
+        try {
+            final Kryo kryo = kryoThreadLocal.get();
+            encodedMessage = allocator.buffer();
+            final Output output = writeTo(encodedMessage);
+            try {
+                final String mimeType = mimeType();
+                output.writeByte(mimeType.length());
+                output.write(mimeType.getBytes(UTF8));
+
+                writeUUID(output, requestMessage.getRequestId());
+                output.writeString(requestMessage.getProcessor());
+                output.writeString(requestMessage.getOp());
+                kryo.writeClassAndObject(output, requestMessage.getArgs());
+                output.flush();
+            } finally {
+                release(output);
+            }
+
+            return encodedMessage;
+        } catch (Exception ex) {
+            if (encodedMessage != null) ReferenceCountUtil.release(encodedMessage);
+
+            logger.warn("Request [{}] could not be serialized by {}.", requestMessage.toString(), KryoMessageSerializerV1d1.class.getName());
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Points the thread's {@link Output} at the {@link ByteBuf} so that Kryo flushes its buffer straight into it.
+     */
+    private Output writeTo(final ByteBuf buffer) {
+        final Output output = outputThreadLocal.get();
+        output.setOutputStream(new ByteBufOutputStream(buffer));
+        return output;
+    }
+
+    private static void release(final Output output) {
+        output.setOutputStream(null);
+    }
+
+    /**
+     * An {@link Input} over all readable bytes of the {@link ByteBuf}. A heap buffer is read in place and any other
+     * buffer is streamed through the thread's {@link Input}, so the message is never copied into an intermediate array.
+     */
+    private static Input readFrom(final ByteBuf msg) {
+        if (msg.hasArray()) {
+            final Input input = new Input(msg.array(), msg.arrayOffset() + msg.readerIndex(), msg.readableBytes());
+            msg.readerIndex(msg.writerIndex());
+            return input;
+        } else {
+            final Input input = inputThreadLocal.get();
+            input.setInputStream(new ByteBufInputStream(msg));
+            return input;
+        }
+    }
+
+    private static void release(final Input input) {
+        input.setInputStream(null);
+    }
+
+    private static void writeUUID(final Output output, final UUID uuid) {
+        output.writeBoolean(uuid != null);
+        if (uuid != null) {
+            output.writeLong(uuid.getMostSignificantBits());
+            output.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID readUUID(final Input input) {
+        return input.readBoolean() ? new UUID(input.readLong(), input.readLong()) : null;
+    }
+}
@@ -10,7 +10,8 @@ import com.tinkerpop.gremlin.driver.MessageSerializer;
 public enum Serializers {
     JSON(SerTokens.MIME_JSON),
     JSON_V1D0(SerTokens.MIME_JSON_V1D0),
-    KRYO_V1D0(SerTokens.MIME_KRYO_V1D0);
+    KRYO_V1D0(SerTokens.MIME_KRYO_V1D0),
+    KRYO_V1D1(SerTokens.MIME_KRYO_V1D1);
 
     private String value;
 
@@ -44,6 +45,8 @@ public enum Serializers {
                 return new JsonMessageSerializerGremlinV1d0();
             case SerTokens.MIME_KRYO_V1D0:
                 return new KryoMessageSerializerV1d0();
+            case SerTokens.MIME_KRYO_V1D1:
+                return new KryoMessageSerializerV1d1();
             default:
                 throw new RuntimeException("Could not create a simple MessageSerializer instance of " + value);
         }
@@ -0,0 +1,14 @@
+package com.tinkerpop.gremlin.driver.ser;
+
+import com.tinkerpop.gremlin.driver.MessageSerializer;
+
+/**
+ * Serializer tests that cover non-lossy serialization/deserialization methods.
+ */
+public class KryoMessageSerializerV1d1Test extends AbstractKryoMessageSerializerTest {
+
+    @Override
+    protected MessageSerializer createSerializer() {
+        return new KryoMessageSerializerV1d1();
+    }
+}
@@ -45,6 +45,21 @@ public abstract class GroovyRangeTest {
         public Traversal<Vertex, Vertex> get_g_V_asXaX_both_jumpXa_3X_rangeX5_11X() {
             g.V().as('a').both().jump('a', 3)[5..11];
         }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_out_name_order_limitX2X() {
+            g.V.out.name.order().limit(2)
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_out_name_order_rangeX3_5X() {
+            g.V.out.name.order().range(3, 5)
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_name_orderXlengthX_rangeX2_4X() {
+            g.V.name.order { a, b -> a.get().length() <=> b.get().length() }.range(2, 4)
+        }
     }
 
     public static class ComputerTestImpl extends RangeTest {
@@ -83,5 +98,20 @@ public abstract class GroovyRangeTest {
         public Traversal<Vertex, Vertex> get_g_V_asXaX_both_jumpXa_3X_rangeX5_11X() {
             ComputerTestHelper.compute("g.V().as('a').both().jump('a', 3).range(5, 11)", g);
         }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_out_name_order_limitX2X() {
+            ComputerTestHelper.compute("g.V.out.name.order().limit(2)", g);
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_out_name_order_rangeX3_5X() {
+            ComputerTestHelper.compute("g.V.out.name.order().range(3, 5)", g);
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_name_orderXlengthX_rangeX2_4X() {
+            ComputerTestHelper.compute("g.V.name.order { a, b -> a.get().length() <=> b.get().length() }.range(2, 4)", g);
+        }
     }
 }
@@ -28,12 +28,14 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -492,6 +494,152 @@ public class GremlinGroovyScriptEngineTest extends AbstractGremlinTest {
         }
     }
 
+    @Test
+    public void shouldEvictLeastRecentlyUsedClass() throws Exception {
+        final ScriptClassCache cache = new ScriptClassCache(2, ScriptClassCache.Policy.LRU);
+        final GremlinGroovyScriptEngine scriptEngine = new GremlinGroovyScriptEngine(
+                new DefaultImportCustomizerProvider(), null, cache, false);
+
+        assertEquals(2, scriptEngine.eval("1+1"));
+        assertEquals(2, scriptEngine.eval("1+1"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        assertEquals(4, scriptEngine.eval("2+2"));
+        assertEquals(2, scriptEngine.eval("1+1"));
+        assertEquals(6, scriptEngine.eval("3+3"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.size());
+
+        // 2+2 was the least recently used so 1+1 should still be cached
+        assertEquals(2, scriptEngine.eval("1+1"));
+        assertEquals(3, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertTrue(cache.getCompileTimeNanos() > 0);
+    }
+
+    @Test
+    public void shouldEvictLeastFrequentlyUsedClass() throws Exception {
+        final ScriptClassCache cache = new ScriptClassCache(2, ScriptClassCache.Policy.LFU);
+        final GremlinGroovyScriptEngine scriptEngine = new GremlinGroovyScriptEngine(
+                new DefaultImportCustomizerProvider(), null, cache, false);
+
+        scriptEngine.eval("1+1");
+        scriptEngine.eval("1+1");
+        scriptEngine.eval("2+2");
+        scriptEngine.eval("3+3");
+        assertEquals(1, cache.getEvictions());
+
+        // 2+2 was only used once so 1+1 should still be cached
+        scriptEngine.eval("1+1");
+        assertEquals(2, cache.getHits());
+        scriptEngine.eval("2+2");
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotEvictTheJustCompiledClassForLeastFrequentlyUsed() throws Exception {
+        final ScriptClassCache cache = new ScriptClassCache(2, ScriptClassCache.Policy.LFU);
+        for (int i = 0; i < 5; i++) {
+            cache.getOrCompile("1+1", script -> Integer.class);
+            cache.getOrCompile("2+2", script -> Long.class);
+        }
+
+        // the new class has not been used yet but it displaces the least frequently used of the others
+        cache.getOrCompile("3+3", script -> Short.class);
+        assertEquals(1, cache.getEvictions());
+        assertEquals(Short.class, cache.getOrCompile("3+3", script -> Byte.class));
+        assertEquals(9, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void shouldAgeTheFrequenciesOfLeastFrequentlyUsedClasses() throws Exception {
+        final ScriptClassCache cache = new ScriptClassCache(2, ScriptClassCache.Policy.LFU);
+        for (int i = 0; i < 100; i++) {
+            cache.getOrCompile("1+1", script -> Integer.class);
+            cache.getOrCompile("2+2", script -> Long.class);
+        }
+
+        // the classes that were used often a long time ago give way to the classes that are used now
+        for (int i = 0; i < 50; i++) {
+            cache.getOrCompile("3+3", script -> Short.class);
+            cache.getOrCompile("4+4", script -> Byte.class);
+        }
+        assertEquals(4, cache.getMisses());
+        assertEquals(2, cache.getEvictions());
+        cache.getOrCompile("1+1", script -> Integer.class);
+        assertEquals(5, cache.getMisses());
+    }
+
+    @Test
+    public void shouldCompileScriptOnceWhenMissedConcurrently() throws Exception {
+        final ScriptClassCache cache = new ScriptClassCache();
+        final AtomicInteger compilations = new AtomicInteger(0);
+        final List<Class> classes = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException ie) {
+                    return;
+                }
+
+                classes.add(cache.getOrCompile("1+1", script -> {
+                    compilations.incrementAndGet();
+                    try {
+                        // a slow compilation so that the other threads miss the script in the meantime
+                        Thread.sleep(100);
+                    } catch (InterruptedException ie) {
+                        throw new RuntimeException(ie);
+                    }
+                    return Integer.class;
+                }));
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        latch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8, classes.size());
+        assertTrue(classes.stream().allMatch(Integer.class::equals));
+        assertEquals(1, compilations.get());
+        assertEquals(1, cache.getMisses());
+        assertEquals(7, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldShareClassOfScriptsThatOnlyDifferByLiterals() throws Exception {
+        final ScriptClassCache cache = new ScriptClassCache();
+        final GremlinGroovyScriptEngine scriptEngine = new GremlinGroovyScriptEngine(
+                new DefaultImportCustomizerProvider(), null, cache, true);
+
+        assertEquals(3, scriptEngine.eval("1 + 2"));
+        assertEquals(7, scriptEngine.eval("3 + 4"));
+        assertEquals("ab", scriptEngine.eval("'a' + 'b'"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getHits());
+
+        assertEquals("c\nd", scriptEngine.eval("'c' + '\\n' + \"d\""));
+
+        // literals that are map keys remain in place
+        assertEquals(2l, scriptEngine.eval("[a:1l, 'b':2l]['b']"));
+        assertEquals(1l, scriptEngine.eval("[a:1l, 'b':2l].a"));
+
+        // local variables and bindings still resolve alongside the lifted literals
+        final Bindings bindings = scriptEngine.createBindings();
+        bindings.put("x", 10);
+        assertEquals(15, scriptEngine.eval("def y = 5; x + y", bindings));
+        assertEquals(new java.math.BigDecimal("1.5"), scriptEngine.eval("1.5"));
+    }
+
     @Test
     public void shouldSecureAll() throws Exception {
         GroovyInterceptor.getApplicableInterceptors().forEach(GroovyInterceptor::unregister);
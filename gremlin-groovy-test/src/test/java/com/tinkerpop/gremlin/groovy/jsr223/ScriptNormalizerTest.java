@@ -0,0 +1,147 @@
+package com.tinkerpop.gremlin.groovy.jsr223;
+
+import org.javatuples.Pair;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ScriptNormalizerTest {
+
+    private static GremlinGroovyScriptEngine engine;
+
+    @BeforeClass
+    public static void setup() {
+        engine = new GremlinGroovyScriptEngine();
+    }
+
+    @Test
+    public void shouldLeaveCommentsInPlace() throws Exception {
+        assertNormalized("1 + 2 // 'x' 3", "_p0 + _p1 // 'x' 3", 1, 2);
+        assertNormalized("/* 'x' 1 */ 'a'", "/* 'x' 1 */ _p0", "a");
+        assertNormalized("'a' /* 1\n'b' */ + 'c'", "_p0 /* 1\n'b' */ + _p1", "a", "c");
+        assertUnchanged("/* 'x' 1");
+    }
+
+    @Test
+    public void shouldNotNormalizeSlashyStrings() throws Exception {
+        assertUnchanged("'abc' ==~ /a.c/");
+        assertUnchanged("def x = /1/; x");
+        assertUnchanged("[/1/, 2]");
+        assertUnchanged("return /1/");
+        assertUnchanged("$/1/$");
+    }
+
+    @Test
+    public void shouldNormalizeDivisionRatherThanSlashyStrings() throws Exception {
+        assertNormalized("6 / 2", "_p0 / _p1", 6, 2);
+        assertNormalized("(6) / 2", "(_p0) / _p1", 6, 2);
+        assertNormalized("[6, 8].collect { it / 2 }", "[_p0, _p1].collect { it / _p2 }", 6, 8, 2);
+        assertNormalized("def x = 6; x / 2", "def x = _p0; x / _p1", 6, 2);
+    }
+
+    @Test
+    public void shouldNotNormalizeGStringsOrTripleQuotedStrings() throws Exception {
+        assertUnchanged("\"a${1}\"");
+        assertUnchanged("\"a\\$1\"");
+        assertUnchanged("'''a''' + 1");
+        assertUnchanged("\"\"\"a\"\"\" + 1");
+        assertUnchanged("'''a\nb''' + 1");
+        assertNormalized("\"a\" + 'b'", "_p0 + _p1", "a", "b");
+    }
+
+    @Test
+    public void shouldUnescapeStrings() throws Exception {
+        assertNormalized("'it\\'s'", "_p0", "it's");
+        assertNormalized("\"a\\tb\\u0041\"", "_p0", "a\tbA");
+        assertNormalized("'\\\\' + 'a'", "_p0 + _p1", "\\", "a");
+        // an escape which is not supported is left in place
+        assertNormalized("'\\0' + 'a'", "'\\0' + _p0", "a");
+        assertUnchanged("'abc");
+        assertUnchanged("'a\nb'");
+    }
+
+    @Test
+    public void shouldLeaveLiteralsFollowedByAColonInPlace() throws Exception {
+        assertNormalized("true ? 'a' : 'b'", "true ? 'a' : _p0", "b");
+        assertNormalized("false ? 1 : 2", "false ? 1 : _p0", 2);
+        assertNormalized("null ?: 'b'", "null ?: _p0", "b");
+        assertNormalized("['a': 1, b: 2, 3: 'c']", "['a': _p0, b: _p1, 3: _p2]", 1, 2, "c");
+        assertNormalized("def r = 'none'; switch (2) { case 1: r = 'one'; break; case 'two': r = 'two'; break; default: r = 'other' }; r",
+                "def r = _p0; switch (_p1) { case 1: r = _p2; break; case 'two': r = _p3; break; default: r = _p4 }; r",
+                "none", 2, "one", "two", "other");
+    }
+
+    @Test
+    public void shouldLeaveQuotedMethodNamesInPlace() throws Exception {
+        assertNormalized("'abc'.'toUpperCase'()", "_p0.'toUpperCase'()", "abc");
+    }
+
+    @Test
+    public void shouldGiveNumbersTheTypesOfGroovy() throws Exception {
+        assertNormalized("1l + 2L", "_p0 + _p1", 1l, 2l);
+        assertNormalized("1i + 2", "_p0 + _p1", 1, 2);
+        assertNormalized("1.5f + 1.5d", "_p0 + _p1", 1.5f, 1.5d);
+        assertNormalized("1.5g + 10g + 1.5", "_p0 + _p1 + _p2", new BigDecimal("1.5"), new BigInteger("10"), new BigDecimal("1.5"));
+        assertNormalized("3000000000 + 99999999999999999999", "_p0 + _p1", 3000000000l, new BigInteger("99999999999999999999"));
+        assertNormalized("1e3 + 2.5e-1", "_p0 + _p1", new BigDecimal("1e3"), new BigDecimal("2.5e-1"));
+        assertNormalized("10_000 + 1", "_p0 + _p1", 10000, 1);
+        assertNormalized("1.abs()", "_p0.abs()", 1);
+    }
+
+    @Test
+    public void shouldLeaveHexAndOctalNumbersInPlace() throws Exception {
+        assertNormalized("0x1F + 1", "0x1F + _p0", 1);
+        assertNormalized("0xFFL + 1", "0xFFL + _p0", 1);
+        assertNormalized("017 + 1", "017 + _p0", 1);
+        assertNormalized("0 + 1", "_p0 + _p1", 0, 1);
+    }
+
+    @Test
+    public void shouldNormalizeRanges() throws Exception {
+        // the upper bound follows a dot and is left in place just as a property would be
+        assertNormalized("(1..10).sum()", "(_p0..10).sum()", 1);
+        assertNormalized("(1..<3).size()", "(_p0..<_p1).size()", 1, 3);
+        assertNormalized("[1, 2, 3, 4][1..2]", "[_p0, _p1, _p2, _p3][_p4..2]", 1, 2, 3, 4, 1);
+    }
+
+    @Test
+    public void shouldNotNormalizeScriptsWithClassesOrKeywordsItCanNotHandle() throws Exception {
+        assertUnchanged("'a'.class");
+        assertUnchanged("String.class.name + 'a'");
+        assertUnchanged("class A { def x = 1 }; new A().x");
+        assertUnchanged("enum E { A }; E.A.name() + 'a'");
+        assertUnchanged("import java.util.concurrent.atomic.AtomicInteger; new AtomicInteger(1).get()");
+        assertUnchanged("@groovy.transform.Field def x = 1; x");
+        assertUnchanged("def _p0 = 1; _p0 + 2");
+    }
+
+    /**
+     * Asserts the normalized script and its parameters and that it evaluates to what the script evaluates to.
+     */
+    private static void assertNormalized(final String script, final String expected, final Object... values) throws ScriptException {
+        final Pair<String, Map<String, Object>> normalized = ScriptNormalizer.normalize(script);
+        assertEquals(expected, normalized.getValue0());
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            parameters.put(ScriptNormalizer.PARAMETER_PREFIX + i, values[i]);
+        }
+        // the boxed numbers are only equal if their types are too
+        assertEquals(parameters, normalized.getValue1());
+        assertEquals(engine.eval(script), engine.eval(normalized.getValue0(), new SimpleBindings(new LinkedHashMap<>(normalized.getValue1()))));
+    }
+
+    private static void assertUnchanged(final String script) {
+        final Pair<String, Map<String, Object>> normalized = ScriptNormalizer.normalize(script);
+        assertEquals(script, normalized.getValue0());
+        assertTrue(normalized.getValue1().isEmpty());
+    }
+}
@@ -6,8 +6,11 @@ import com.tinkerpop.gremlin.groovy.loaders.GremlinLoader;
 import com.tinkerpop.gremlin.process.T;
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentVertexProgram;
+import com.tinkerpop.gremlin.process.computer.clustering.kcore.KCoreVertexProgram;
 import com.tinkerpop.gremlin.process.computer.clustering.peerpressure.PeerPressureVertexProgram;
 import com.tinkerpop.gremlin.process.computer.lambda.LambdaVertexProgram;
+import com.tinkerpop.gremlin.process.computer.path.shortestpath.ShortestPathVertexProgram;
 import com.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
 import com.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import com.tinkerpop.gremlin.process.util.TraversalMetrics;
@@ -74,6 +77,9 @@ public abstract class AbstractImportCustomizerProvider implements ImportCustomiz
         imports.add(AbstractGenerator.class.getPackage().getName() + DOT_STAR);
         imports.add(PeerPressureVertexProgram.class.getPackage().getName() + DOT_STAR);
         imports.add(PageRankVertexProgram.class.getPackage().getName() + DOT_STAR);
+        imports.add(ConnectedComponentVertexProgram.class.getPackage().getName() + DOT_STAR);
+        imports.add(KCoreVertexProgram.class.getPackage().getName() + DOT_STAR);
+        imports.add(ShortestPathVertexProgram.class.getPackage().getName() + DOT_STAR);
         imports.add(TraversalVertexProgram.class.getPackage().getName() + DOT_STAR);
         imports.add(LambdaVertexProgram.class.getPackage().getName() + DOT_STAR);
 
@@ -5,6 +5,7 @@ import com.tinkerpop.gremlin.groovy.SecurityCustomizerProvider;
 import com.tinkerpop.gremlin.groovy.jsr223.DependencyManager;
 import com.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import com.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngineFactory;
+import com.tinkerpop.gremlin.groovy.jsr223.ScriptClassCache;
 import com.tinkerpop.gremlin.groovy.plugin.GremlinPlugin;
 import org.kohsuke.groovy.sandbox.GroovyInterceptor;
 import org.slf4j.Logger;
@@ -85,6 +86,13 @@ public class ScriptEngines implements AutoCloseable {
         }
     }
 
+    /**
+     * Get the {@code ScriptEngine} configured for a particular language.
+     */
+    public Optional<ScriptEngine> getScriptEngine(final String language) {
+        return Optional.ofNullable(scriptEngines.get(language));
+    }
+
     /**
      * Reload a {@code ScriptEngine} with fresh imports.  Waits for any existing script evaluations to complete but
      * then blocks other operations until complete.
@@ -265,8 +273,14 @@ public class ScriptEngines implements AutoCloseable {
                 }
             }
 
+            final int classCacheSize = Integer.parseInt(config.getOrDefault("classCacheSize", ScriptClassCache.DEFAULT_MAXIMUM_SIZE).toString());
+            final ScriptClassCache.Policy classCachePolicy = ScriptClassCache.Policy.valueOf(
+                    config.getOrDefault("classCachePolicy", ScriptClassCache.Policy.LRU).toString().toUpperCase());
+            final boolean normalizeLiterals = Boolean.parseBoolean(config.getOrDefault("normalizeLiterals", false).toString());
+
             return Optional.of((ScriptEngine) new GremlinGroovyScriptEngine(
-                    new DefaultImportCustomizerProvider(imports, staticImports), securityCustomizerProvider));
+                    new DefaultImportCustomizerProvider(imports, staticImports), securityCustomizerProvider,
+                    new ScriptClassCache(classCacheSize, classCachePolicy), normalizeLiterals));
         } else {
             final ScriptEngineManager manager = new ScriptEngineManager();
             return Optional.ofNullable(manager.getEngineByName(language));
@@ -25,6 +25,7 @@ import org.codehaus.groovy.runtime.MetaClassHelper;
 import org.codehaus.groovy.runtime.MethodClosure;
 import org.codehaus.groovy.syntax.SyntaxException;
 import org.codehaus.groovy.util.ReferenceBundle;
+import org.javatuples.Pair;
 
 import javax.script.Bindings;
 import javax.script.CompiledScript;
@@ -38,6 +39,7 @@ import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -74,9 +76,14 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     };
 
     /**
-     * Script to generated Class map.
+     * Script to generated Class cache.
      */
-    private ManagedConcurrentValueMap<String, Class> classMap = new ManagedConcurrentValueMap<>(ReferenceBundle.getSoftBundle());
+    private final ScriptClassCache classCache;
+
+    /**
+     * Determines if literals are lifted into bindings with the {@link ScriptNormalizer} before compilation.
+     */
+    private final boolean normalizeLiterals;
 
     /**
      * Global closures map - this is used to simulate a single global functions namespace
@@ -113,9 +120,21 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     }
 
     public GremlinGroovyScriptEngine(final ImportCustomizerProvider importCustomizerProvider, final SecurityCustomizerProvider securityCustomizerProvider) {
+        this(importCustomizerProvider, securityCustomizerProvider, new ScriptClassCache(), false);
+    }
+
+    /**
+     * @param classCache        holds the classes compiled from the evaluated scripts
+     * @param normalizeLiterals lift the literals of scripts into bindings so that scripts which only differ by their
+     *                          literals share a compiled class
+     */
+    public GremlinGroovyScriptEngine(final ImportCustomizerProvider importCustomizerProvider, final SecurityCustomizerProvider securityCustomizerProvider,
+                                     final ScriptClassCache classCache, final boolean normalizeLiterals) {
         GremlinLoader.load();
         this.importCustomizerProvider = importCustomizerProvider;
         this.securityProvider = Optional.ofNullable(securityCustomizerProvider);
+        this.classCache = classCache;
+        this.normalizeLiterals = normalizeLiterals;
         createClassLoader();
     }
 
@@ -200,6 +219,10 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         return loadedPlugins;
     }
 
+    public ScriptClassCache getClassCache() {
+        return classCache;
+    }
+
     @Override
     public void close() throws Exception {
         this.securityProvider.ifPresent(SecurityCustomizerProvider::unregisterInterceptors);
@@ -212,7 +235,7 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
 
         // must clear the local cache here because the the classloader has been reset.  therefore, classes previously
         // referenced before that might not have evaluated might cleanly evaluate now.
-        this.classMap.clear();
+        this.classCache.clear();
         this.globalClosures.clear();
 
         this.loadedPlugins.clear();
@@ -250,9 +273,11 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         } catch (ClassCastException cce) { /*ignore.*/ }
 
         try {
-            final Class clazz = getScriptClass(script);
+            final Pair<String, Map<String, Object>> normalized = normalizeLiterals ?
+                    ScriptNormalizer.normalize(script) : Pair.with(script, Collections.emptyMap());
+            final Class clazz = getScriptClass(normalized.getValue0());
             if (null == clazz) throw new ScriptException("Script class is null");
-            return eval(clazz, context);
+            return eval(clazz, context, normalized.getValue1());
         } catch (SyntaxException e) {
             throw new ScriptException(e.getMessage(), e.getSourceLocator(), e.getLine());
         } catch (Exception e) {
@@ -325,15 +350,18 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     Class getScriptClass(final String script) throws SyntaxException, CompilationFailedException, IOException {
         ensureSandbox();
 
-        Class clazz = classMap.get(script);
-        if (clazz != null) return clazz;
-
-        clazz = loader.parseClass(script, generateScriptName());
-        classMap.put(script, clazz);
-        return clazz;
+        return classCache.getOrCompile(script, s -> loader.parseClass(s, generateScriptName()));
     }
 
     Object eval(final Class scriptClass, final ScriptContext context) throws ScriptException {
+        return eval(scriptClass, context, Collections.emptyMap());
+    }
+
+    /**
+     * Evaluates the script class where the parameters lifted from the script by the {@link ScriptNormalizer} take
+     * precedence over the attributes of the context.
+     */
+    private Object eval(final Class scriptClass, final ScriptContext context, final Map<String, Object> parameters) throws ScriptException {
         ensureSandbox();
 
         context.setAttribute("context", context, ScriptContext.ENGINE_SCOPE);
@@ -342,6 +370,7 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         final Binding binding = new Binding() {
             @Override
             public Object getVariable(final String name) {
+                if (parameters.containsKey(name)) return parameters.get(name);
                 synchronized (context) {
                     final int scope = context.getAttributesScope(name);
                     if (scope != -1) {
@@ -0,0 +1,197 @@
+package com.tinkerpop.gremlin.groovy.jsr223;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the classes compiled from scripts by the {@link GremlinGroovyScriptEngine}.  Once the cache
+ * exceeds its maximum size, the least recently used ({@link Policy#LRU}) or the least frequently used
+ * ({@link Policy#LFU}) class is evicted.  The hits, misses, evictions and the time spent compiling the missed
+ * scripts are counted so that they can be reported by the host of the {@code ScriptEngine}.
+ * <p/>
+ * A class that was just compiled is never the one that is evicted for it, so that a new script gets the chance to be
+ * used again before it competes with the classes that are already cached.  The frequencies of the {@link Policy#LFU}
+ * classes are halved at every {@link #AGING_PERIOD} accesses per cached class, so that classes which were used often
+ * a long time ago are evicted in the end.
+ * <p/>
+ * A hit does not take a lock.  A script is compiled once by the first thread to miss it while the other threads
+ * that miss it at the same time wait for that compilation.
+ */
+public class ScriptClassCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final int AGING_PERIOD = 10;
+
+    public enum Policy {
+        LRU, LFU
+    }
+
+    private final int maximumSize;
+    private final Policy policy;
+
+    /**
+     * Orders the entries from the first to be evicted to the last.
+     */
+    private final Comparator<Entry> evictionOrder;
+
+    /**
+     * Script to compiled class map.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * A logical clock that orders the insertions of and the accesses to the entries.
+     */
+    private final AtomicLong clock = new AtomicLong(0l);
+    private final Object evictionLock = new Object();
+    private long agedAt = 0l;
+
+    private final AtomicLong hits = new AtomicLong(0l);
+    private final AtomicLong misses = new AtomicLong(0l);
+    private final AtomicLong evictions = new AtomicLong(0l);
+    private final AtomicLong compileTime = new AtomicLong(0l);
+
+    public ScriptClassCache() {
+        this(DEFAULT_MAXIMUM_SIZE, Policy.LRU);
+    }
+
+    public ScriptClassCache(final int maximumSize, final Policy policy) {
+        if (maximumSize < 1) throw new IllegalArgumentException("maximumSize must be greater than zero");
+        if (null == policy) throw new IllegalArgumentException("policy cannot be null");
+
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        this.evictionOrder = policy == Policy.LRU ?
+                Comparator.comparingLong(entry -> entry.lastAccess) :
+                Comparator.<Entry>comparingLong(entry -> entry.frequency.get()).thenComparingLong(entry -> entry.inserted);
+    }
+
+    /**
+     * Gets the class compiled for the script, compiling and caching it if the script is not cached.
+     *
+     * @param compiler compiles the class of the script on a miss
+     */
+    public Class getOrCompile(final String script, final Function<String, Class> compiler) {
+        final Entry cached = entries.get(script);
+        if (null != cached) {
+            final Class clazz = cached.clazz;
+            if (null != clazz) {
+                hits.incrementAndGet();
+                cached.access();
+                return clazz;
+            }
+        }
+
+        return compile(script, compiler);
+    }
+
+    /**
+     * Removes all classes from the cache without counting them as evictions.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * The total time in nanoseconds spent compiling the scripts that were not in the cache.
+     */
+    public long getCompileTimeNanos() {
+        return compileTime.get();
+    }
+
+    private Class compile(final String script, final Function<String, Class> compiler) {
+        final Entry entry = entries.computeIfAbsent(script, s -> new Entry(clock.incrementAndGet()));
+        synchronized (entry) {
+            if (null != entry.clazz) {
+                // compiled by another thread while this one waited
+                hits.incrementAndGet();
+                entry.access();
+                return entry.clazz;
+            }
+
+            misses.incrementAndGet();
+            final long start = System.nanoTime();
+            try {
+                entry.clazz = compiler.apply(script);
+            } catch (RuntimeException ex) {
+                entries.remove(script, entry);
+                throw ex;
+            } finally {
+                compileTime.addAndGet(System.nanoTime() - start);
+            }
+        }
+
+        if (entries.size() > maximumSize) evict(entry);
+        return entry.clazz;
+    }
+
+    /**
+     * Evicts classes until the cache is within its maximum size, but never the class that was just compiled.
+     */
+    private void evict(final Entry compiled) {
+        synchronized (evictionLock) {
+            final long period = (long) maximumSize * AGING_PERIOD;
+            final long periods = (clock.get() - agedAt) / period;
+            if (policy == Policy.LFU && periods > 0) {
+                final int shift = (int) Math.min(63l, periods);
+                entries.values().forEach(entry -> entry.frequency.updateAndGet(frequency -> frequency >> shift));
+                agedAt = agedAt + periods * period;
+            }
+
+            while (entries.size() > maximumSize) {
+                Map.Entry<String, Entry> victim = null;
+                for (Map.Entry<String, Entry> kv : entries.entrySet()) {
+                    if (kv.getValue() != compiled && (null == victim || evictionOrder.compare(kv.getValue(), victim.getValue()) < 0))
+                        victim = kv;
+                }
+
+                if (null == victim) return;
+                if (entries.remove(victim.getKey(), victim.getValue())) evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private class Entry {
+        private final long inserted;
+        private final AtomicLong frequency = new AtomicLong(0l);
+        private volatile long lastAccess;
+        private volatile Class clazz = null;
+
+        private Entry(final long inserted) {
+            this.inserted = inserted;
+            this.lastAccess = inserted;
+        }
+
+        private void access() {
+            frequency.incrementAndGet();
+            lastAccess = clock.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.tinkerpop.gremlin.groovy.jsr223;
+
+import org.javatuples.Pair;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lifts the string and number literals of a script into parameters so that scripts that only differ by their
+ * literals (e.g. {@code g.v(1).out('knows')} and {@code g.v(2).out('created')}) normalize to the same script and
+ * thus share one compiled class.  The literals are replaced by variables named with the {@link #PARAMETER_PREFIX}
+ * and their values are returned to be bound when the normalized script is evaluated.
+ * <p/>
+ * Only literals whose meaning can not change as a variable are lifted.  Literals that are followed by a colon (map
+ * keys, case labels) and quoted method names are left in place.  Scripts with GStrings, slashy or multi-line
+ * strings, annotations, imports or type declarations are returned as they are.
+ */
+public final class ScriptNormalizer {
+
+    public static final String PARAMETER_PREFIX = "_p";
+
+    private static final Pattern NUMBER = Pattern.compile("\\d[\\d_]*(\\.\\d[\\d_]*)?([eE][+-]?\\d+)?[lLiIgGdDfF]?");
+
+    private static final Set<String> UNSUPPORTED_KEYWORDS = new HashSet<String>() {{
+        add("class");
+        add("interface");
+        add("enum");
+        add("trait");
+        add("import");
+        add("package");
+    }};
+
+    /**
+     * The characters after which a forward slash starts a slashy string rather than a division.
+     */
+    private static final String SLASHY_PRECEDENTS = "(,=:[!&|?{};~+-*%<>^";
+
+    /**
+     * The keywords after which a forward slash starts a slashy string rather than a division.
+     */
+    private static final Set<String> SLASHY_KEYWORDS = new HashSet<>(Arrays.asList("return", "case", "assert", "in", "else", "throw"));
+
+    private ScriptNormalizer() {}
+
+    /**
+     * Normalizes the script.
+     *
+     * @return the normalized script and the values of its parameters or the script and no parameters if the
+     * script could not be normalized
+     */
+    public static Pair<String, Map<String, Object>> normalize(final String script) {
+        final Pair<String, Map<String, Object>> unchanged = Pair.with(script, Collections.emptyMap());
+        final StringBuilder normalized = new StringBuilder(script.length());
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+
+        // the last character that is not whitespace or part of a comment and whether it ended a slashy keyword
+        char previous = 0;
+        boolean previousKeyword = false;
+        int i = 0;
+        while (i < script.length()) {
+            final char c = script.charAt(i);
+            final char next = i + 1 < script.length() ? script.charAt(i + 1) : 0;
+            int end;
+
+            if (Character.isWhitespace(c)) {
+                normalized.append(c);
+                i++;
+                continue;
+            } else if (c == '/' && next == '/') {
+                end = script.indexOf('\n', i);
+                if (end == -1) end = script.length();
+                normalized.append(script, i, end);
+                i = end;
+                continue;
+            } else if (c == '/' && next == '*') {
+                end = script.indexOf("*/", i + 2);
+                if (end == -1) return unchanged;
+                normalized.append(script, i, end + 2);
+                i = end + 2;
+                continue;
+            } else if ((c == '/' && (previous == 0 || previousKeyword || SLASHY_PRECEDENTS.indexOf(previous) >= 0)) || (c == '$' && next == '/')) {
+                return unchanged;
+            } else if (c == '@') {
+                return unchanged;
+            } else if (c == '\'' || c == '"') {
+                if (script.startsWith("'''", i) || script.startsWith("\"\"\"", i)) return unchanged;
+                end = endOfString(script, i);
+                if (end == -1) return unchanged;
+
+                // a GString may nest quotes within its expressions so its end is not known
+                final String literal = script.substring(i, end);
+                if (c == '"' && literal.indexOf('$') >= 0) return unchanged;
+
+                final String value = unescape(literal.substring(1, literal.length() - 1));
+                if (null == value || previous == '.' || nextSignificant(script, end) == ':')
+                    normalized.append(literal);
+                else
+                    normalized.append(parameterize(parameters, value));
+            } else if (Character.isDigit(c)) {
+                final Matcher matcher = NUMBER.matcher(script).region(i, script.length());
+                matcher.lookingAt();
+                end = matcher.end();
+                if (end < script.length() && Character.isJavaIdentifierPart(script.charAt(end))) {
+                    // hex, binary and the like - leave the whole token in place
+                    while (end < script.length() && Character.isJavaIdentifierPart(script.charAt(end))) end++;
+                    normalized.append(script, i, end);
+                } else {
+                    final String literal = script.substring(i, end);
+                    final Object value = toNumber(literal);
+                    if (null == value || previous == '.' || nextSignificant(script, end) == ':')
+                        normalized.append(literal);
+                    else
+                        normalized.append(parameterize(parameters, value));
+                }
+            } else if (Character.isJavaIdentifierStart(c)) {
+                end = i + 1;
+                while (end < script.length() && Character.isJavaIdentifierPart(script.charAt(end))) end++;
+                final String identifier = script.substring(i, end);
+                if (UNSUPPORTED_KEYWORDS.contains(identifier) || identifier.startsWith(PARAMETER_PREFIX))
+                    return unchanged;
+                normalized.append(identifier);
+            } else {
+                end = i + 1;
+                normalized.append(c);
+            }
+
+            previous = script.charAt(end - 1);
+            previousKeyword = Character.isJavaIdentifierStart(c) && SLASHY_KEYWORDS.contains(script.substring(i, end));
+            i = end;
+        }
+
+        return parameters.isEmpty() ? unchanged : Pair.with(normalized.toString(), parameters);
+    }
+
+    private static String parameterize(final Map<String, Object> parameters, final Object value) {
+        final String name = PARAMETER_PREFIX + parameters.size();
+        parameters.put(name, value);
+        return name;
+    }
+
+    /**
+     * The index after the closing quote of the single line string that starts at the index or -1 if there is none.
+     */
+    private static int endOfString(final String script, final int start) {
+        final char quote = script.charAt(start);
+        for (int i = start + 1; i < script.length(); i++) {
+            final char c = script.charAt(i);
+            if (c == '\\')
+                i++;
+            else if (c == quote)
+                return i + 1;
+            else if (c == '\n')
+                return -1;
+        }
+        return -1;
+    }
+
+    private static char nextSignificant(final String script, final int start) {
+        for (int i = start; i < script.length(); i++) {
+            if (!Character.isWhitespace(script.charAt(i))) return script.charAt(i);
+        }
+        return 0;
+    }
+
+    /**
+     * Unescapes the content of a string literal or returns {@code null} if it has an escape that is not supported.
+     */
+    private static String unescape(final String content) {
+        final StringBuilder sb = new StringBuilder(content.length());
+        for (int i = 0; i < content.length(); i++) {
+            final char c = content.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            if (++i == content.length()) return null;
+            final char escaped = content.charAt(i);
+            switch (escaped) {
+                case 'b': sb.append('\b'); break;
+                case 't': sb.append('\t'); break;
+                case 'n': sb.append('\n'); break;
+                case 'f': sb.append('\f'); break;
+                case 'r': sb.append('\r'); break;
+                case '"':
+                case '\'':
+                case '\\':
+                case '$':
+                    sb.append(escaped);
+                    break;
+                case 'u':
+                    if (i + 5 > content.length()) return null;
+                    try {
+                        sb.append((char) Integer.parseInt(content.substring(i + 1, i + 5), 16));
+                    } catch (NumberFormatException nfe) {
+                        return null;
+                    }
+                    i = i + 4;
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Converts a number literal to the value Groovy would give it or returns {@code null} if it is an octal literal.
+     */
+    private static Object toNumber(final String literal) {
+        if (literal.length() > 1 && literal.charAt(0) == '0' && Character.isDigit(literal.charAt(1))) return null;
+
+        final char suffix = Character.toLowerCase(literal.charAt(literal.length() - 1));
+        final String number = (Character.isDigit(suffix) ? literal : literal.substring(0, literal.length() - 1)).replace("_", "");
+        final boolean decimal = number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0;
+        try {
+            switch (suffix) {
+                case 'l':
+                    return Long.parseLong(number);
+                case 'i':
+                    return Integer.parseInt(number);
+                case 'g':
+                    return decimal ? new BigDecimal(number) : new BigInteger(number);
+                case 'd':
+                    return Double.parseDouble(number);
+                case 'f':
+                    return Float.parseFloat(number);
+                default:
+                    if (decimal) return new BigDecimal(number);
+                    final BigInteger value = new BigInteger(number);
+                    if (value.bitLength() < 32)
+                        return value.intValue();
+                    else if (value.bitLength() < 64)
+                        return value.longValue();
+                    else
+                        return value;
+            }
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
+}
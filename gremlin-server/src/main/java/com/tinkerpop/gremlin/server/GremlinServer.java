@@ -1,6 +1,9 @@
 package com.tinkerpop.gremlin.server;
 
+import com.codahale.metrics.MetricRegistry;
 import com.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import com.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import com.tinkerpop.gremlin.groovy.jsr223.ScriptClassCache;
 import com.tinkerpop.gremlin.server.util.MetricManager;
 import com.tinkerpop.gremlin.structure.Graph;
 import io.netty.bootstrap.ServerBootstrap;
@@ -19,9 +22,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Start and stop Gremlin Server.
@@ -36,6 +43,7 @@ public class GremlinServer {
     }
 
     private static final Logger logger = LoggerFactory.getLogger(GremlinServer.class);
+    private static final String GREMLIN_GROOVY = "gremlin-groovy";
     private final Settings settings;
     private Optional<Graphs> graphs = Optional.empty();
     private Channel ch;
@@ -141,9 +149,34 @@ public class GremlinServer {
                 .filter(kv -> kv.getValue() instanceof Graph)
                 .forEach(kv -> graphs.get().getGraphs().put(kv.getKey(), (Graph) kv.getValue()));
 
+        registerClassCacheMetrics(gremlinExecutor);
+
         return gremlinExecutor;
     }
 
+    /**
+     * Report the class cache of the gremlin-groovy {@code ScriptEngine}.  The engine is looked up on every read as
+     * it is replaced when the {@code ScriptEngines} are reset.
+     */
+    private static void registerClassCacheMetrics(final GremlinExecutor gremlinExecutor) {
+        final Map<String, Function<ScriptClassCache, Long>> metrics = new LinkedHashMap<>();
+        metrics.put("hits", ScriptClassCache::getHits);
+        metrics.put("misses", ScriptClassCache::getMisses);
+        metrics.put("evictions", ScriptClassCache::getEvictions);
+        metrics.put("size", cache -> (long) cache.size());
+        metrics.put("compileTime", cache -> TimeUnit.NANOSECONDS.toMillis(cache.getCompileTimeNanos()));
+
+        // a gauge can only be registered once so replace any left behind by a previous instance of the server
+        final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+        metrics.forEach((metric, f) -> {
+            final String name = MetricRegistry.name(GremlinServer.class, "engine", GREMLIN_GROOVY, "classCache", metric);
+            registry.remove(name);
+            MetricManager.INSTANCE.getGuage(() -> gremlinExecutor.getScriptEngines().getScriptEngine(GREMLIN_GROOVY)
+                    .filter(se -> se instanceof GremlinGroovyScriptEngine)
+                    .map(se -> f.apply(((GremlinGroovyScriptEngine) se).getClassCache())).orElse(0l), name);
+        });
+    }
+
     /**
      * Stop Gremlin Server and free the port.
      */
@@ -11,35 +11,49 @@ import com.tinkerpop.gremlin.driver.Tokens;
 import com.tinkerpop.gremlin.driver.message.ResponseMessage;
 import com.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import com.tinkerpop.gremlin.driver.ser.MessageTextSerializer;
+import com.tinkerpop.gremlin.driver.ser.SerializationException;
 import com.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.util.TraversalMetrics;
 import com.tinkerpop.gremlin.server.GremlinServer;
+import com.tinkerpop.gremlin.server.Settings;
 import com.tinkerpop.gremlin.server.util.IteratorUtil;
 import com.tinkerpop.gremlin.server.util.MetricManager;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.util.CharsetUtil;
+import org.apache.commons.lang.time.StopWatch;
 import org.javatuples.Pair;
-import org.javatuples.Triplet;
+import org.javatuples.Quintet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.codahale.metrics.MetricRegistry.name;
 import static io.netty.handler.codec.http.HttpHeaders.Names.*;
@@ -63,11 +77,13 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
     private static final ObjectMapper mapper = new ObjectMapper();
 
     private final GremlinExecutor gremlinExecutor;
+    private final Settings settings;
 
     public HttpGremlinEndpointHandler(final Map<String, MessageSerializer> serializers,
-                                      final GremlinExecutor gremlinExecutor) {
+                                      final GremlinExecutor gremlinExecutor, final Settings settings) {
         this.serializers = serializers;
         this.gremlinExecutor = gremlinExecutor;
+        this.settings = settings;
     }
 
     @Override
@@ -89,7 +105,7 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
                 return;
             }
 
-            final Triplet<String, Map<String,Object>, Optional<String>> requestArguments;
+            final Quintet<String, Map<String,Object>, Optional<String>, Optional<Integer>, Boolean> requestArguments;
             try {
                 requestArguments = getGremlinScript(req);
             } catch (IllegalArgumentException iae) {
@@ -105,34 +121,198 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
                 return;
             }
 
-            try {
-                logger.debug("Processing request containing script [{}] and bindings of [{}]", requestArguments.getValue0(), requestArguments.getValue1());
-                final Timer.Context timerContext = evalOpTimer.time();
-                final Object result = gremlinExecutor.eval(requestArguments.getValue0(), requestArguments.getValue2(), requestArguments.getValue1()).get();
+            final String origin = req.headers().get(ORIGIN);
+            final boolean keepAlive = isKeepAlive(req);
+
+            logger.debug("Processing request containing script [{}] and bindings of [{}]", requestArguments.getValue0(), requestArguments.getValue1());
+            final Timer.Context timerContext = evalOpTimer.time();
+
+            // the script is evaluated by the gremlin executor and its result written once it completes so that this
+            // thread is not blocked for the duration of the evaluation
+            gremlinExecutor.eval(requestArguments.getValue0(), requestArguments.getValue2(), requestArguments.getValue1()).whenComplete((result, t) -> {
                 timerContext.stop();
+                if (t != null) {
+                    logger.error("Error processing HTTP Request", t);
+                    sendError(ctx, INTERNAL_SERVER_ERROR, t.getMessage());
+                    return;
+                }
 
-                final ResponseMessage responseMessage = ResponseMessage.build(UUID.randomUUID())
-                        .code(ResponseStatusCode.SUCCESS)
-                        .result(IteratorUtil.convertToList(result)).create();
-
-                final FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, OK, Unpooled.wrappedBuffer(
-                        serializer.serializeResponseAsString(responseMessage).getBytes(UTF8)));
-                response.headers().set(CONTENT_TYPE, accept);
-                response.headers().set(CONTENT_LENGTH, response.content().readableBytes());
-
-                // handle cors business
-                final String origin = req.headers().get(ORIGIN);
-                if (origin != null)
-                    response.headers().set(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
-            
-                if (!isKeepAlive(req)) {
-                    ctx.write(response).addListener(ChannelFutureListener.CLOSE);
-                } else {
-                    response.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
-                    ctx.write(response);
+                ctx.executor().execute(() -> {
+                    // a traversal can be profiled by the request - enabled before the first result is iterated
+                    final Optional<Traversal> profiled = requestArguments.getValue4() && result instanceof Traversal ?
+                            Optional.of((Traversal) result) : Optional.empty();
+                    profiled.ifPresent(TraversalMetrics::enable);
+
+                    final HttpResponse response = requestArguments.getValue3().isPresent() ?
+                            new DefaultHttpResponse(HTTP_1_1, OK) : new DefaultFullHttpResponse(HTTP_1_1, OK);
+                    response.headers().set(CONTENT_TYPE, accept);
+
+                    // handle cors business
+                    if (origin != null)
+                        response.headers().set(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+
+                    if (keepAlive)
+                        response.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
+
+                    try {
+                        if (requestArguments.getValue3().isPresent()) {
+                            setTransferEncodingChunked(response);
+                            ctx.write(response);
+                            new ChunkedIteration(ctx, serializer, UUID.randomUUID(), IteratorUtil.convertToIterator(result), requestArguments.getValue3().get(), keepAlive, profiled).run();
+                        } else {
+                            final List results = IteratorUtil.convertToList(result);
+                            final ResponseMessage responseMessage = ResponseMessage.build(UUID.randomUUID())
+                                    .code(ResponseStatusCode.SUCCESS)
+                                    .result(results)
+                                    .responseMetaData(profiled.map(IteratorHandler::recordProfile).orElse(Collections.emptyMap())).create();
+
+                            ((FullHttpResponse) response).content().writeBytes(serializer.serializeResponseAsString(responseMessage).getBytes(UTF8));
+                            response.headers().set(CONTENT_LENGTH, ((FullHttpResponse) response).content().readableBytes());
+                            complete(ctx.writeAndFlush(response), keepAlive);
+                        }
+                    } catch (Exception ex) {
+                        logger.error("Error processing HTTP Request", ex);
+                        sendError(ctx, INTERNAL_SERVER_ERROR, ex.getMessage());
+                    }
+                });
+            });
+        }
+    }
+
+    private static ChannelFuture writeChunk(final ChannelHandlerContext ctx, final MessageTextSerializer serializer,
+                                            final ResponseMessage responseMessage) {
+        try {
+            return ctx.writeAndFlush(new DefaultHttpContent(Unpooled.wrappedBuffer(
+                    (serializer.serializeResponseAsString(responseMessage) + "\n").getBytes(UTF8))));
+        } catch (SerializationException se) {
+            throw new RuntimeException(se);
+        }
+    }
+
+    private static void complete(final ChannelFuture future, final boolean keepAlive) {
+        if (!keepAlive)
+            future.addListener(ChannelFutureListener.CLOSE);
+    }
+
+    /**
+     * Writes the results as a chunk of newline-delimited {@link ResponseMessage} batches followed by a
+     * {@link ResponseStatusCode#SUCCESS_TERMINATOR} (with the metrics of a profiled traversal in its meta), as they
+     * would be sent over a websocket. Once the channel is
+     * no longer writable, iteration continues only after the last batch has been written so that the results are
+     * not held in memory ahead of a slow client. Iteration that fails or exceeds the {@code serializedResponseTimeout}
+     * (which includes the time spent waiting on the client) ends the chunks with the error rather than the terminator.
+     */
+    private final class ChunkedIteration implements Runnable {
+        private final ChannelHandlerContext ctx;
+        private final MessageTextSerializer serializer;
+        private final UUID requestId;
+        private final Iterator itty;
+        private final int batchSize;
+        private final boolean keepAlive;
+        private final Optional<Traversal> profiled;
+
+        // timer for the total serialization time
+        private final StopWatch stopWatch = new StopWatch();
+        private boolean paused = false;
+        private ScheduledFuture<?> pauseTimeout;
+
+        private ChunkedIteration(final ChannelHandlerContext ctx, final MessageTextSerializer serializer,
+                                 final UUID requestId, final Iterator itty, final int batchSize, final boolean keepAlive,
+                                 final Optional<Traversal> profiled) {
+            this.ctx = ctx;
+            this.serializer = serializer;
+            this.requestId = requestId;
+            this.itty = itty;
+            this.batchSize = batchSize;
+            this.keepAlive = keepAlive;
+            this.profiled = profiled;
+        }
+
+        @Override
+        public void run() {
+            if (paused) {
+                paused = false;
+                pauseTimeout.cancel(false);
+            } else {
+                stopWatch.start();
+            }
+
+            try {
+                while (itty.hasNext()) {
+                    final List<Object> aggregate = new ArrayList<>(batchSize);
+                    while (itty.hasNext() && aggregate.size() < batchSize) {
+                        aggregate.add(itty.next());
+                    }
+
+                    final ChannelFuture written = writeChunk(ctx, serializer, ResponseMessage.build(requestId)
+                            .code(ResponseStatusCode.SUCCESS)
+                            .result(aggregate).create());
+
+                    stopWatch.split();
+                    if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
+                        throw new TimeoutException("Serialization of the entire response exceeded the serializedResponseTimeout setting");
+
+                    stopWatch.unsplit();
+
+                    if (!ctx.channel().isWritable()) {
+                        paused = true;
+                        pauseTimeout = ctx.executor().schedule(() -> {
+                            // the client did not read the last batch before the timeout so iteration does not resume
+                            if (paused) {
+                                paused = false;
+                                fail(new TimeoutException("Serialization of the entire response exceeded the serializedResponseTimeout setting"));
+                            }
+                        }, Math.max(0l, settings.serializedResponseTimeout - stopWatch.getTime()), TimeUnit.MILLISECONDS);
+                        written.addListener(f -> {
+                            if (f.isSuccess())
+                                ctx.executor().execute(() -> {
+                                    if (paused) run();
+                                });
+                            else {
+                                logger.warn(String.format("Could not write the results of HTTP request [%s] - the remaining results are discarded", requestId), f.cause());
+                                ctx.executor().execute(() -> {
+                                    if (paused) {
+                                        paused = false;
+                                        pauseTimeout.cancel(false);
+                                        release();
+                                    }
+                                });
+                            }
+                        });
+                        return;
+                    }
                 }
             } catch (Exception ex) {
-                throw new RuntimeException(ex);
+                fail(ex);
+                return;
+            }
+
+            stopWatch.stop();
+            writeChunk(ctx, serializer, ResponseMessage.build(requestId).code(ResponseStatusCode.SUCCESS_TERMINATOR)
+                    .responseMetaData(profiled.map(IteratorHandler::recordProfile).orElse(Collections.emptyMap())).create());
+            complete(ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT), keepAlive);
+        }
+
+        /**
+         * Ends the chunks with the error of an iteration that will not be completed.
+         */
+        private void fail(final Exception ex) {
+            stopWatch.stop();
+            release();
+            final ResponseStatusCode code = ex instanceof TimeoutException ? ResponseStatusCode.SERVER_ERROR_TIMEOUT : ResponseStatusCode.SERVER_ERROR;
+            logger.warn(String.format("Error iterating and serializing the results of HTTP request [%s]", requestId), ex);
+            writeChunk(ctx, serializer, ResponseMessage.build(requestId).code(code).statusMessage(String.valueOf(ex.getMessage())).create());
+            complete(ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT), keepAlive);
+        }
+
+        /**
+         * Releases the resources held by results that will not be iterated to the end.
+         */
+        private void release() {
+            try {
+                if (itty instanceof AutoCloseable) ((AutoCloseable) itty).close();
+            } catch (Exception ex) {
+                logger.warn(String.format("Could not release the results of HTTP request [%s]", requestId), ex);
             }
         }
     }
@@ -144,7 +324,7 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
         ctx.close();
     }
 
-    private static Triplet<String, Map<String,Object>, Optional<String>> getGremlinScript(final FullHttpRequest request) {
+    private static Quintet<String, Map<String,Object>, Optional<String>, Optional<Integer>, Boolean> getGremlinScript(final FullHttpRequest request) {
         if (request.getMethod() == GET) {
             final QueryStringDecoder decoder = new QueryStringDecoder(request.getUri());
             final List<String> gremlinParms = decoder.parameters().get(Tokens.ARGS_GREMLIN);
@@ -155,14 +335,22 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
 
             // query string parameters - take the first instance of a key only - ignore the rest
             final Map<String,Object> bindings = new HashMap<>();
-            decoder.parameters().entrySet().stream().filter(kv -> !kv.getKey().equals(Tokens.ARGS_GREMLIN))
+            decoder.parameters().entrySet().stream().filter(kv -> !kv.getKey().equals(Tokens.ARGS_GREMLIN) && !kv.getKey().equals(Tokens.ARGS_BATCH_SIZE)
+                    && !kv.getKey().equals(Tokens.ARGS_PROFILE))
                     .forEach(kv -> bindings.put(kv.getKey(), kv.getValue().get(0)));
 
             final List<String> languageParms = decoder.parameters().get(Tokens.ARGS_LANGUAGE);
             final Optional<String> language =  (null == languageParms || languageParms.size() == 0) ?
                     Optional.empty() : Optional.ofNullable(languageParms.get(0));
 
-            return Triplet.with(script, bindings, language);
+            final List<String> batchSizeParms = decoder.parameters().get(Tokens.ARGS_BATCH_SIZE);
+            final Optional<Integer> batchSize = (null == batchSizeParms || batchSizeParms.size() == 0) ?
+                    Optional.empty() : Optional.of(toBatchSize(batchSizeParms.get(0)));
+
+            final List<String> profileParms = decoder.parameters().get(Tokens.ARGS_PROFILE);
+            final boolean profile = null != profileParms && profileParms.size() > 0 && Boolean.parseBoolean(profileParms.get(0));
+
+            return Quintet.with(script, bindings, language, batchSize, profile);
         } else {
             final JsonNode body;
             try {
@@ -185,7 +373,24 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
             final Optional<String> language =  null == languageNode ?
                     Optional.empty() : Optional.ofNullable(languageNode.asText());
 
-            return Triplet.with(scriptNode.asText(), bindings, language);
+            final JsonNode batchSizeNode = body.get(Tokens.ARGS_BATCH_SIZE);
+            final Optional<Integer> batchSize = null == batchSizeNode ?
+                    Optional.empty() : Optional.of(toBatchSize(batchSizeNode.asText()));
+
+            final JsonNode profileNode = body.get(Tokens.ARGS_PROFILE);
+            final boolean profile = null != profileNode && Boolean.parseBoolean(profileNode.asText());
+
+            return Quintet.with(scriptNode.asText(), bindings, language, batchSize, profile);
+        }
+    }
+
+    private static int toBatchSize(final String batchSize) {
+        try {
+            final int size = Integer.parseInt(batchSize);
+            if (size < 1) throw new IllegalArgumentException("batchSize must be greater than zero");
+            return size;
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException("batchSize must be an integer", nfe);
         }
     }
 
@@ -4,34 +4,61 @@ import com.tinkerpop.gremlin.driver.Tokens;
 import com.tinkerpop.gremlin.driver.message.RequestMessage;
 import com.tinkerpop.gremlin.driver.message.ResponseMessage;
 import com.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.graph.step.sideEffect.ProfileStep;
+import com.tinkerpop.gremlin.process.util.StepMetrics;
+import com.tinkerpop.gremlin.process.util.TraversalMetrics;
+import com.tinkerpop.gremlin.server.Graphs;
+import com.tinkerpop.gremlin.server.GremlinServer;
 import com.tinkerpop.gremlin.server.Settings;
+import com.tinkerpop.gremlin.server.util.MetricManager;
+import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.util.ReferenceCountUtil;
-import io.netty.util.concurrent.EventExecutorGroup;
-import io.netty.util.concurrent.Future;
 import org.apache.commons.lang.time.StopWatch;
 import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
+ * Iterates the results of a request in batches of {@code resultIterationBatchSize} and writes each batch down the
+ * pipeline. Iteration pauses whenever the channel is not writable (i.e. the outbound buffer has crossed the
+ * {@code writeBufferHighWaterMark}) and resumes once the buffer has drained below the {@code writeBufferLowWaterMark},
+ * so that results are not materialized faster than a slow client can consume them. Time spent paused counts toward
+ * the {@code serializedResponseTimeout} so that a client that stops reading can not hold an iteration open forever.
+ *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
-public class IteratorHandler extends ChannelOutboundHandlerAdapter {
+public class IteratorHandler extends ChannelDuplexHandler {
     private static final Logger logger = LoggerFactory.getLogger(IteratorHandler.class);
 
     private final Settings settings;
+    private final Graphs graphs;
+
+    /**
+     * Iterations waiting for the channel to become writable.  Only accessed from the executor of this handler.
+     */
+    private final Queue<ResultIteration> pausedIterations = new ArrayDeque<>();
 
-    public IteratorHandler(final Settings settings) {
+    public IteratorHandler(final Settings settings, final Graphs graphs) {
         this.settings = settings;
+        this.graphs = graphs;
     }
 
     @Override
@@ -45,55 +72,195 @@ public class IteratorHandler extends ChannelOutboundHandlerAdapter {
                 // the batch size can be overriden by the request
                 final int resultIterationBatchSize = (Integer) requestMessage.optionalArgs(Tokens.ARGS_BATCH_SIZE).orElse(settings.resultIterationBatchSize);
 
-                // timer for the total serialization time
-                final StopWatch stopWatch = new StopWatch();
+                // a traversal can be profiled by the request - enabled before the first result is iterated
+                final boolean profile = Boolean.parseBoolean(requestMessage.optionalArgs(Tokens.ARGS_PROFILE).orElse(false).toString());
+                final Optional<Traversal> profiled = profile && itty instanceof Traversal ? Optional.of((Traversal) itty) : Optional.empty();
+                profiled.ifPresent(TraversalMetrics::enable);
+
+                ctx.executor().execute(new ResultIteration(ctx, requestMessage, itty, resultIterationBatchSize, profiled));
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        // resume the paused iterations in the order they were paused until the channel fills up again
+        final int paused = pausedIterations.size();
+        for (int i = 0; i < paused && ctx.channel().isWritable(); i++) {
+            pausedIterations.poll().run();
+        }
 
-                final EventExecutorGroup executorService = ctx.executor();
-                final Future<?> iteration = executorService.submit((Callable<Void>) () -> {
-                    logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
+        ctx.fireChannelWritabilityChanged();
+    }
 
-                    stopWatch.start();
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        if (!pausedIterations.isEmpty()) {
+            logger.warn("Channel closed with {} paused result iterations - the remaining results are discarded", pausedIterations.size());
+            pausedIterations.forEach(iteration -> {
+                iteration.pauseTimeout.cancel(false);
+                iteration.release();
+            });
+            pausedIterations.clear();
+        }
 
-                    List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-                    while (itty.hasNext()) {
-                        aggregate.add(itty.next());
+        ctx.fireChannelInactive();
+    }
 
-                        // send back a page of results if batch size is met or if it's the end of the results being
-                        // iterated
-                        if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
-                            ctx.writeAndFlush(ResponseMessage.build(requestMessage)
-                                    .code(ResponseStatusCode.SUCCESS)
-                                    .result(aggregate).create());
-                            aggregate = new ArrayList<>(resultIterationBatchSize);
-                        }
+    /**
+     * Records the {@link TraversalMetrics} of a profiled traversal in the histograms of each step type and converts
+     * them to the meta of the terminating {@link ResponseMessage}.
+     */
+    static Map<String, Object> recordProfile(final Traversal traversal) {
+        final TraversalMetrics metrics = traversal.sideEffects().get(ProfileStep.METRICS_KEY);
+        final double durationMs = metrics.getTotalStepDurationMs();
+        final List<Map<String, Object>> steps = new ArrayList<>();
+        metrics.getStepLabels().forEach(label -> {
+            final StepMetrics stepMetrics = metrics.getStepMetrics(label);
+            final Map<String, Object> step = new LinkedHashMap<>();
+            step.put("label", label);
+            step.put("name", stepMetrics.getName());
+            step.put("count", stepMetrics.getCount());
+            step.put("traversers", stepMetrics.getTraversers());
+            step.put("timeMs", stepMetrics.getTimeMs());
+            step.put("percentDuration", stepMetrics.getPercentageDuration());
+            steps.add(step);
 
-                        stopWatch.split();
-                        if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
-                            throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+            // the name of a step starts with its type and may be followed by its arguments and label
+            final String stepType = stepMetrics.getName().split("[(@]")[0];
+            MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "profile", stepType, "time"))
+                    .update(TimeUnit.NANOSECONDS.toMicros(stepMetrics.getTimeNs()));
+            MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "profile", stepType, "traversers"))
+                    .update(stepMetrics.getTraversers());
+        });
 
-                        stopWatch.unsplit();
-                    }
+        final Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("steps", steps);
+        profile.put("durationMs", durationMs);
+        return Collections.singletonMap(Tokens.META_METRICS, profile);
+    }
+
+    /**
+     * Iterates and writes the results of a single request until the results are exhausted or the channel is no
+     * longer writable, in which case the iteration pauses itself until {@link #channelWritabilityChanged}.
+     */
+    private class ResultIteration implements Runnable {
+        private final ChannelHandlerContext ctx;
+        private final RequestMessage requestMessage;
+        private final Iterator itty;
+        private final int resultIterationBatchSize;
+        private final Optional<Traversal> profiled;
 
-                    return null;
-                });
+        // timer for the total serialization time
+        private final StopWatch stopWatch = new StopWatch();
+        private boolean paused = false;
+        private ScheduledFuture<?> pauseTimeout;
 
-                iteration.addListener(f -> {
-                    stopWatch.stop();
+        private ResultIteration(final ChannelHandlerContext ctx, final RequestMessage requestMessage,
+                                final Iterator itty, final int resultIterationBatchSize, final Optional<Traversal> profiled) {
+            this.ctx = ctx;
+            this.requestMessage = requestMessage;
+            this.itty = itty;
+            this.resultIterationBatchSize = resultIterationBatchSize;
+            this.profiled = profiled;
+        }
+
+        @Override
+        public void run() {
+            if (paused) {
+                paused = false;
+                pauseTimeout.cancel(false);
+                logger.debug("Resuming iteration of results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
+            } else {
+                logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
+                stopWatch.start();
+            }
+
+            try {
+                List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
+                while (itty.hasNext()) {
+                    // only pause between batches so that a paused iteration holds no materialized results
+                    if (aggregate.isEmpty() && !ctx.channel().isWritable()) {
+                        // a closed channel never becomes writable again so the iteration is abandoned, not paused
+                        if (!ctx.channel().isActive()) {
+                            logger.warn("Channel closed before the results from - {} - were iterated - the remaining results are discarded", requestMessage);
+                            stopWatch.stop();
+                            release();
+                            return;
+                        }
 
-                    if (!f.isSuccess()) {
-                        final String errorMessage = String.format("Response iteration and serialization exceeded the configured threshold for request [%s] - %s", msg, f.cause().getMessage());
-                        logger.warn(errorMessage);
-                        ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+                        logger.debug("Pausing iteration of results from - {} - as the channel is not writable", requestMessage);
+                        paused = true;
+                        pausedIterations.add(this);
+                        pauseTimeout = ctx.executor().schedule(this::timeOutWhilePaused,
+                                Math.max(0l, settings.serializedResponseTimeout - stopWatch.getTime()), TimeUnit.MILLISECONDS);
+                        return;
                     }
 
-                    ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SUCCESS_TERMINATOR).create());
-                });
-            } finally {
-                ReferenceCountUtil.release(msg);
+                    aggregate.add(itty.next());
+
+                    // send back a page of results if batch size is met or if it's the end of the results being
+                    // iterated
+                    if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
+                        ctx.writeAndFlush(ResponseMessage.build(requestMessage)
+                                .code(ResponseStatusCode.SUCCESS)
+                                .result(aggregate).create());
+                        aggregate = new ArrayList<>(resultIterationBatchSize);
+                    }
+
+                    stopWatch.split();
+                    if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
+                        throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+
+                    stopWatch.unsplit();
+                }
+            } catch (Exception ex) {
+                final String errorMessage = String.format("Response iteration and serialization exceeded the configured threshold for request [%s] - %s", requestMessage, ex.getMessage());
+                logger.warn(errorMessage);
+                ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
             }
 
-        } else {
-            ctx.write(msg, promise);
+            stopWatch.stop();
+            ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SUCCESS_TERMINATOR)
+                    .responseMetaData(profiled.map(IteratorHandler::recordProfile).orElse(Collections.emptyMap())).create());
+        }
+
+        /**
+         * Abandons the iteration if the channel did not become writable again before the
+         * {@code serializedResponseTimeout} elapsed.
+         */
+        private void timeOutWhilePaused() {
+            if (!paused) return;
+
+            paused = false;
+            pausedIterations.remove(this);
+            stopWatch.stop();
+            release();
+
+            final String errorMessage = String.format("Response iteration and serialization exceeded the configured threshold for request [%s] - %s",
+                    requestMessage, "The channel was not writable before the serializeResponseTimeout elapsed");
+            logger.warn(errorMessage);
+            ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+            ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SUCCESS_TERMINATOR).create());
+        }
+
+        /**
+         * Releases the resources held by the results of an iteration that will not be completed.  Must be called
+         * from the executor of this handler as that is the thread that any transaction opened by the iteration is
+         * bound to.
+         */
+        private void release() {
+            try {
+                if (itty instanceof AutoCloseable) ((AutoCloseable) itty).close();
+                graphs.rollbackAll();
+            } catch (Exception ex) {
+                logger.warn(String.format("Could not release the results of request [%s]", requestMessage), ex);
+            }
         }
     }
 }
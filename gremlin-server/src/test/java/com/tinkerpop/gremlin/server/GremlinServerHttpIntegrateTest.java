@@ -18,6 +18,7 @@ import org.junit.rules.TestName;
 import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Integration tests for server-side settings and processing.
@@ -40,6 +41,8 @@ public class GremlinServerHttpIntegrateTest extends AbstractGremlinServerIntegra
         switch (nameOfTest) {
             case "should200OnGETWithGremlinQueryStringArgumentWithIteratorResult":
             case "should200OnPOSTWithGremlinJsonEndcodedBodyWithIteratorResult":
+            case "should200OnGETWithGremlinQueryStringArgumentWithBatchSizeStreamingChunks":
+            case "should200OnPOSTWithProfileReturningTraversalMetrics":
                 settings.scriptEngines.get("gremlin-groovy").scripts = Arrays.asList("scripts/generate-classic.groovy");
                 break;
         }
@@ -74,6 +77,59 @@ public class GremlinServerHttpIntegrateTest extends AbstractGremlinServerIntegra
         }
     }
 
+    @Test
+    public void should200OnGETWithGremlinQueryStringArgumentWithBatchSizeStreamingChunks() throws Exception {
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        final HttpGet httpget = new HttpGet("http://localhost:8182?gremlin=g.V()&batchSize=4");
+
+        try (final CloseableHttpResponse response = httpclient.execute(httpget)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            assertEquals("application/json", response.getEntity().getContentType().getValue());
+            assertTrue(response.getEntity().isChunked());
+
+            final String[] lines = EntityUtils.toString(response.getEntity()).split("\n");
+            assertEquals(3, lines.length);
+            assertEquals(4, mapper.readTree(lines[0]).get("result").get("data").size());
+            assertEquals(2, mapper.readTree(lines[1]).get("result").get("data").size());
+            assertEquals(299, mapper.readTree(lines[2]).get("status").get("code").intValue());
+        }
+    }
+
+    @Test
+    public void should200OnPOSTWithProfileReturningTraversalMetrics() throws Exception {
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        final HttpPost httppost = new HttpPost("http://localhost:8182");
+        httppost.addHeader("Content-Type", "application/json");
+        httppost.setEntity(new StringEntity("{\"gremlin\":\"g.V().out()\", \"profile\":true}", Consts.UTF_8));
+
+        try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            final JsonNode node = mapper.readTree(EntityUtils.toString(response.getEntity()));
+            assertEquals(6, node.get("result").get("data").size());
+            assertTrue(node.get("result").get("meta").get("metrics").get("steps").size() > 0);
+        }
+    }
+
+    @Test
+    public void should200OnPOSTWithBatchSizeEndingChunksWithErrorWhenIterationFails() throws Exception {
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        final HttpPost httppost = new HttpPost("http://localhost:8182");
+        httppost.addHeader("Content-Type", "application/json");
+        httppost.setEntity(new StringEntity("{\"gremlin\":\"def i = 0; [hasNext: {true}, next: {if (++i > 4) throw new IllegalStateException('boom'); i}] as Iterator\", \"batchSize\":2}", Consts.UTF_8));
+
+        try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            assertTrue(response.getEntity().isChunked());
+
+            // the error ends the chunks - there is no terminator after it
+            final String[] lines = EntityUtils.toString(response.getEntity()).split("\n");
+            assertEquals(3, lines.length);
+            assertEquals(2, mapper.readTree(lines[0]).get("result").get("data").size());
+            assertEquals(2, mapper.readTree(lines[1]).get("result").get("data").size());
+            assertEquals(500, mapper.readTree(lines[2]).get("status").get("code").intValue());
+        }
+    }
+
     @Test
     public void should200OnGETWithGremlinQueryStringArgument() throws Exception {
         final CloseableHttpClient httpclient = HttpClients.createDefault();
@@ -21,6 +21,7 @@ import org.junit.rules.TestName;
 
 import java.nio.channels.ClosedChannelException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -42,6 +43,11 @@ import static org.junit.Assert.fail;
  */
 public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegrationTest {
 
+    /**
+     * The results that a script of a test iterated on the server.
+     */
+    public static final AtomicInteger ITERATED_RESULTS = new AtomicInteger(0);
+
     @Rule
     public TestName name = new TestName();
 
@@ -64,6 +70,15 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
             case "shouldBatchResultsByTwos":
                 settings.resultIterationBatchSize = 2;
                 break;
+            case "shouldPauseIterationWhileTheChannelIsNotWritable":
+                settings.writeBufferHighWaterMark = 2048;
+                settings.writeBufferLowWaterMark = 1024;
+                break;
+            case "shouldReceiveFailureTimeOutWhilePaused":
+                settings.writeBufferHighWaterMark = 2048;
+                settings.writeBufferLowWaterMark = 1024;
+                settings.serializedResponseTimeout = 500;
+                break;
             case "shouldWorkOverNioTransport":
                 settings.channelizer = NioChannelizer.class.getName();
                 break;
@@ -149,6 +164,104 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         }
     }
 
+    @Test
+    public void shouldPauseIterationWhileTheChannelIsNotWritable() throws Exception {
+        try (SimpleClient client = new WebSocketClient()) {
+            // a lazy iterator that counts the results that the server iterated - each result is large enough that
+            // the tiny write buffer of the server crosses its high water mark once the socket buffers are full
+            ITERATED_RESULTS.set(0);
+            final RequestMessage request = RequestMessage.build(Tokens.OPS_EVAL)
+                    .addArg(Tokens.ARGS_GREMLIN, "def i = 0; def iterated = " + GremlinServerIntegrateTest.class.getName() + ".ITERATED_RESULTS; " +
+                            "[hasNext: { i < 2000 }, next: { iterated.incrementAndGet(); 'x' * 10240 + i++ }] as Iterator")
+                    .addArg(Tokens.ARGS_BATCH_SIZE, 1).create();
+
+            // should be 2001 responses when you include the terminator
+            final CountDownLatch latch = new CountDownLatch(2001);
+            final AtomicInteger results = new AtomicInteger(0);
+            final AtomicBoolean paused = new AtomicBoolean(false);
+            final AtomicBoolean pass = new AtomicBoolean(false);
+            client.submit(request, r -> {
+                if (r.getStatus().getCode() == ResponseStatusCode.SUCCESS) {
+                    if (results.incrementAndGet() == 1) {
+                        // the client stops reading on the first result and the server stops iterating until it reads
+                        try {
+                            Thread.sleep(500);
+                            final int iterated = ITERATED_RESULTS.get();
+                            Thread.sleep(500);
+                            paused.set(iterated < 2000 && iterated == ITERATED_RESULTS.get());
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                } else if (r.getStatus().getCode() == ResponseStatusCode.SUCCESS_TERMINATOR) {
+                    pass.set(results.get() == 2000 && ITERATED_RESULTS.get() == 2000);
+                }
+                latch.countDown();
+            });
+
+            assertTrue(latch.await(30000, TimeUnit.MILLISECONDS));
+            assertTrue(paused.get());
+            assertTrue(pass.get());
+        }
+    }
+
+    @Test
+    public void shouldReceiveFailureTimeOutWhilePaused() throws Exception {
+        try (SimpleClient client = new WebSocketClient()) {
+            ITERATED_RESULTS.set(0);
+            final RequestMessage request = RequestMessage.build(Tokens.OPS_EVAL)
+                    .addArg(Tokens.ARGS_GREMLIN, "def i = 0; def iterated = " + GremlinServerIntegrateTest.class.getName() + ".ITERATED_RESULTS; " +
+                            "[hasNext: { i < 2000 }, next: { iterated.incrementAndGet(); 'x' * 10240 + i++ }] as Iterator")
+                    .addArg(Tokens.ARGS_BATCH_SIZE, 1).create();
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicBoolean stalled = new AtomicBoolean(false);
+            final AtomicBoolean pass = new AtomicBoolean(false);
+            client.submit(request, r -> {
+                if (r.getStatus().getCode() == ResponseStatusCode.SUCCESS) {
+                    // the client stops reading for longer than the timeout while the iteration is paused
+                    if (stalled.compareAndSet(false, true)) {
+                        try {
+                            Thread.sleep(1500);
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                } else if (r.getStatus().getCode() == ResponseStatusCode.SERVER_ERROR_TIMEOUT) {
+                    pass.set(true);
+                } else if (r.getStatus().getCode() == ResponseStatusCode.SUCCESS_TERMINATOR) {
+                    latch.countDown();
+                }
+            });
+
+            assertTrue(latch.await(30000, TimeUnit.MILLISECONDS));
+            assertTrue(pass.get());
+            assertTrue(ITERATED_RESULTS.get() < 2000);
+        }
+    }
+
+    @Test
+    public void shouldReturnTraversalMetricsOnTerminatorWhenProfiled() throws Exception {
+        try (SimpleClient client = new WebSocketClient()) {
+            final RequestMessage request = RequestMessage.build(Tokens.OPS_EVAL)
+                    .addArg(Tokens.ARGS_GREMLIN, "g.V()")
+                    .addArg(Tokens.ARGS_PROFILE, true).create();
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicBoolean pass = new AtomicBoolean(false);
+            client.submit(request, result -> {
+                if (result.getStatus().getCode() == ResponseStatusCode.SUCCESS_TERMINATOR) {
+                    final Map<String, Object> metrics = (Map<String, Object>) result.getResult().getMeta().get(Tokens.META_METRICS);
+                    pass.set(metrics != null && !((List) metrics.get("steps")).isEmpty());
+                    latch.countDown();
+                }
+            });
+
+            if (!latch.await(1000, TimeUnit.MILLISECONDS)) fail("Request should have returned a terminator, but instead timed out");
+            assertTrue(pass.get());
+        }
+    }
+
     @Test
     public void shouldWorkOverNioTransport() throws Exception {
         try (SimpleClient client = new NioClient()) {
@@ -0,0 +1,44 @@
+package com.tinkerpop.gremlin.algorithm.generator;
+
+import com.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * The graph that the performance tests are run against: {@link #NUM_VERTICES} vertices with an "oid" property that
+ * are joined by about three times as many "knows" edges with power law distributed out and in degrees.  The graph is
+ * generated from a fixed seed and thus, it is the same on every run so that the benchmarks are comparable.
+ */
+public final class BenchmarkGraph {
+
+    public static final int NUM_VERTICES = 10000;
+    public static final long SEED = 854939487556l;
+
+    private BenchmarkGraph() {
+    }
+
+    /**
+     * Generates the graph with vertices that only have an "oid" property.
+     */
+    public static void generate(final Graph g) {
+        generate(g, (random, oid) -> new Object[]{"oid", oid});
+    }
+
+    /**
+     * Generates the graph with vertices that have the key/values that are provided for each "oid".  The key/values
+     * may be randomized with the provided {@code Random} which also seeds the generation of the edges.
+     */
+    public static void generate(final Graph g, final BiFunction<Random, Integer, Object[]> keyValues) {
+        final Random random = new Random(SEED);
+        for (int i = 0; i < NUM_VERTICES; i++) {
+            g.addVertex(keyValues.apply(random, i));
+        }
+        DistributionGenerator.build(g)
+                .label("knows")
+                .seedGenerator(random::nextLong)
+                .outDistribution(new PowerLawDistribution(2.8))
+                .inDistribution(new PowerLawDistribution(2.3))
+                .expectedNumEdges(NUM_VERTICES * 3).create().generate();
+    }
+}
@@ -2,6 +2,9 @@ package com.tinkerpop.gremlin.process;
 
 import com.tinkerpop.gremlin.AbstractGremlinSuite;
 import com.tinkerpop.gremlin.process.computer.GraphComputerTest;
+import com.tinkerpop.gremlin.process.computer.clustering.ConnectedComponentVertexProgramTest;
+import com.tinkerpop.gremlin.process.computer.clustering.KCoreVertexProgramTest;
+import com.tinkerpop.gremlin.process.computer.path.ShortestPathVertexProgramTest;
 import com.tinkerpop.gremlin.process.computer.ranking.PageRankVertexProgramTest;
 import com.tinkerpop.gremlin.process.graph.step.branch.ChooseTest;
 import com.tinkerpop.gremlin.process.graph.step.branch.JumpTest;
@@ -132,6 +135,9 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
 
             // algorithms
             PageRankVertexProgramTest.class,
+            ConnectedComponentVertexProgramTest.class,
+            ShortestPathVertexProgramTest.class,
+            KCoreVertexProgramTest.class,
 
             // compliance
             TraversalCoverageTest.class
@@ -199,6 +205,9 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
 
             // algorithms
             PageRankVertexProgramTest.class,
+            ConnectedComponentVertexProgramTest.class,
+            ShortestPathVertexProgramTest.class,
+            KCoreVertexProgramTest.class,
 
             // compliance
             TraversalCoverageTest.class
@@ -97,6 +97,14 @@ public abstract class GraphComputerTest extends AbstractGremlinProcessTest {
                 validateException(GraphComputer.Exceptions.isolationNotSupported(GraphComputer.Isolation.DIRTY_BSP), ex);
             }
         }
+        if (!computer.features().supportsIsolation(GraphComputer.Isolation.ASYNCHRONOUS)) {
+            try {
+                computer.isolation(GraphComputer.Isolation.ASYNCHRONOUS);
+                fail("GraphComputer.isolation() should throw an exception if the isolation is not supported");
+            } catch (Exception ex) {
+                validateException(GraphComputer.Exceptions.isolationNotSupported(GraphComputer.Isolation.ASYNCHRONOUS), ex);
+            }
+        }
         assertEquals(StringFactory.graphComputerString(computer), computer.toString());
     }
 
@@ -0,0 +1,70 @@
+package com.tinkerpop.gremlin.process.computer.clustering;
+
+import com.tinkerpop.gremlin.LoadGraphWith;
+import com.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentMapReduce;
+import com.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentVertexProgram;
+import com.tinkerpop.gremlin.structure.Graph;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static com.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectedComponentVertexProgramTest extends AbstractGremlinProcessTest {
+
+    public ConnectedComponentVertexProgramTest() {
+        requiresGraphComputer = true;
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteConnectedComponent() throws Exception {
+        final Set<Object> ids = new HashSet<>();
+        g.V().forEachRemaining(v -> ids.add(v.id()));
+        final ComputerResult result = g.compute().program(ConnectedComponentVertexProgram.build().create()).mapReduce(new ConnectedComponentMapReduce()).submit().get();
+        final Set<Object> components = new HashSet<>();
+        result.graph().V().forEachRemaining(v -> {
+            assertTrue(v.keys().contains("name"));
+            assertTrue(v.hiddenKeys().contains(Graph.Key.unHide(ConnectedComponentVertexProgram.COMPONENT)));
+            components.add(v.value(ConnectedComponentVertexProgram.COMPONENT));
+        });
+        // the modern graph is connected and its component is labeled with the least vertex id
+        assertEquals(1, components.size());
+        final Object component = components.iterator().next();
+        assertTrue(ids.contains(component));
+        ids.forEach(id -> assertTrue(ConnectedComponentVertexProgram.compare(component, id) <= 0));
+
+        final List<Pair<Object, Object>> pairs = new ArrayList<>();
+        result.memory().<Iterator<Pair<Object, Object>>>get(ConnectedComponentMapReduce.DEFAULT_SIDE_EFFECT_KEY).forEachRemaining(pairs::add);
+        assertEquals(6, pairs.size());
+        pairs.forEach(pair -> {
+            assertTrue(ids.contains(pair.getValue0()));
+            assertEquals(component, pair.getValue1());
+        });
+    }
+
+    @Test
+    public void shouldTotallyOrderComponentsOfMixedClasses() {
+        final List<Object> components = Arrays.asList(10, 9, "10", "9", 10l, 9l, "a");
+        for (final Object a : components) {
+            assertEquals(0, ConnectedComponentVertexProgram.compare(a, a));
+            for (final Object b : components) {
+                assertEquals(Integer.signum(ConnectedComponentVertexProgram.compare(a, b)), -Integer.signum(ConnectedComponentVertexProgram.compare(b, a)));
+                for (final Object c : components) {
+                    if (ConnectedComponentVertexProgram.compare(a, b) < 0 && ConnectedComponentVertexProgram.compare(b, c) < 0)
+                        assertTrue(ConnectedComponentVertexProgram.compare(a, c) < 0);
+                }
+            }
+        }
+    }
+}
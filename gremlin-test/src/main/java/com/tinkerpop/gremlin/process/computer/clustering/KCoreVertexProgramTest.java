@@ -0,0 +1,57 @@
+package com.tinkerpop.gremlin.process.computer.clustering;
+
+import com.tinkerpop.gremlin.LoadGraphWith;
+import com.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.clustering.kcore.KCoreMapReduce;
+import com.tinkerpop.gremlin.process.computer.clustering.kcore.KCoreVertexProgram;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KCoreVertexProgramTest extends AbstractGremlinProcessTest {
+
+    public KCoreVertexProgramTest() {
+        requiresGraphComputer = true;
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteKCore() throws Exception {
+        final ComputerResult result = g.compute().program(KCoreVertexProgram.build().k(2).create()).mapReduce(new KCoreMapReduce()).submit().get();
+        // the 2-core of the modern graph is the triangle of marko, josh and lop
+        result.graph().V().forEachRemaining(v -> {
+            final String name = v.value("name");
+            final boolean inCore = v.value(KCoreVertexProgram.IN_CORE);
+            if (name.equals("marko") || name.equals("josh") || name.equals("lop")) {
+                assertTrue(inCore);
+                assertEquals(2l, v.<Long>value(KCoreVertexProgram.DEGREE).longValue());
+            } else if (name.equals("vadas") || name.equals("ripple") || name.equals("peter"))
+                assertFalse(inCore);
+            else
+                throw new IllegalStateException("The following vertex should not exist in the graph: " + name);
+        });
+
+        final Map<Object, Long> core = new HashMap<>();
+        result.memory().<Iterator<Pair<Object, Long>>>get(KCoreMapReduce.DEFAULT_SIDE_EFFECT_KEY).forEachRemaining(pair -> core.put(pair.getValue0(), pair.getValue1()));
+        assertEquals(3, core.size());
+        assertEquals(Long.valueOf(2l), core.get(convertToVertexId("marko")));
+        assertEquals(Long.valueOf(2l), core.get(convertToVertexId("josh")));
+        assertEquals(Long.valueOf(2l), core.get(convertToVertexId("lop")));
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldPeelAllVerticesOfAnEmptyKCore() throws Exception {
+        final ComputerResult result = g.compute().program(KCoreVertexProgram.build().k(3).create()).submit().get();
+        result.graph().V().forEachRemaining(v -> assertFalse(v.<Boolean>value(KCoreVertexProgram.IN_CORE)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.tinkerpop.gremlin.process.computer.path;
+
+import com.tinkerpop.gremlin.LoadGraphWith;
+import com.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.path.shortestpath.ShortestPathMapReduce;
+import com.tinkerpop.gremlin.process.computer.path.shortestpath.ShortestPathVertexProgram;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Graph;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+
+public class ShortestPathVertexProgramTest extends AbstractGremlinProcessTest {
+
+    public ShortestPathVertexProgramTest() {
+        requiresGraphComputer = true;
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteShortestPath() throws Exception {
+        final Map<String, Double> distances = execute(ShortestPathVertexProgram.build().source(convertToVertexId("marko")).create());
+        assertEquals(5, distances.size());
+        assertEquals(0.0d, distances.get("marko"), 0.0d);
+        assertEquals(1.0d, distances.get("vadas"), 0.0d);
+        assertEquals(1.0d, distances.get("lop"), 0.0d);
+        assertEquals(1.0d, distances.get("josh"), 0.0d);
+        assertEquals(2.0d, distances.get("ripple"), 0.0d);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteWeightedShortestPath() throws Exception {
+        final Map<String, Double> distances = execute(ShortestPathVertexProgram.build().source(convertToVertexId("marko")).weightKey("weight").create());
+        assertEquals(5, distances.size());
+        assertEquals(0.0d, distances.get("marko"), 0.0001d);
+        assertEquals(0.5d, distances.get("vadas"), 0.0001d);
+        assertEquals(0.4d, distances.get("lop"), 0.0001d);
+        assertEquals(1.0d, distances.get("josh"), 0.0001d);
+        assertEquals(2.0d, distances.get("ripple"), 0.0001d);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteShortestPathInBothDirections() throws Exception {
+        final Map<String, Double> distances = execute(ShortestPathVertexProgram.build().source(convertToVertexId("vadas")).direction(Direction.BOTH).create());
+        assertEquals(6, distances.size());
+        assertEquals(0.0d, distances.get("vadas"), 0.0d);
+        assertEquals(1.0d, distances.get("marko"), 0.0d);
+        assertEquals(2.0d, distances.get("lop"), 0.0d);
+        assertEquals(2.0d, distances.get("josh"), 0.0d);
+        assertEquals(3.0d, distances.get("ripple"), 0.0d);
+        assertEquals(3.0d, distances.get("peter"), 0.0d);
+    }
+
+    private Map<String, Double> execute(final ShortestPathVertexProgram vertexProgram) throws Exception {
+        final ComputerResult result = g.compute().program(vertexProgram).mapReduce(new ShortestPathMapReduce()).submit().get();
+        final Map<Object, Double> distancesById = new HashMap<>();
+        result.memory().<Iterator<Pair<Object, Double>>>get(ShortestPathMapReduce.DEFAULT_SIDE_EFFECT_KEY).forEachRemaining(pair -> distancesById.put(pair.getValue0(), pair.getValue1()));
+        final Map<String, Double> distances = new HashMap<>();
+        result.graph().V().forEachRemaining(v -> {
+            if (v.hiddenKeys().contains(Graph.Key.unHide(ShortestPathVertexProgram.DISTANCE))) {
+                assertEquals(v.<Double>value(ShortestPathVertexProgram.DISTANCE), distancesById.get(v.id()));
+                distances.put(v.value("name"), v.value(ShortestPathVertexProgram.DISTANCE));
+            }
+        });
+        assertEquals(distancesById.size(), distances.size());
+        return distances;
+    }
+}
@@ -24,6 +24,28 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
     @LoadGraphWith(MODERN)
     public void shouldExecutePageRank() throws Exception {
         final ComputerResult result = g.compute().program(PageRankVertexProgram.build().create()).submit().get();
+        assertPageRanks(result);
+        assertEquals(result.memory().getIteration(), 30);
+        assertEquals(result.memory().asMap().size(), 0);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankUntilConvergence() throws Exception {
+        final ComputerResult result = g.compute().program(PageRankVertexProgram.build().convergence(0.0001d).create()).submit().get();
+        assertPageRanks(result);
+        assertTrue(result.memory().getIteration() < 30);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankByDeltaPropagation() throws Exception {
+        final ComputerResult result = g.compute().program(PageRankVertexProgram.build().delta(0.0d).create()).submit().get();
+        assertPageRanks(result);
+        assertTrue(result.memory().getIteration() < 30);
+    }
+
+    private static void assertPageRanks(final ComputerResult result) {
         result.graph().V().forEachRemaining(v -> {
             assertTrue(v.keys().contains("name"));
             assertTrue(v.hiddenKeys().contains(Graph.Key.unHide(PageRankVertexProgram.PAGE_RANK)));
@@ -44,8 +66,6 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
             else
                 throw new IllegalStateException("The following vertex should not exist in the graph: " + name);
         });
-        assertEquals(result.memory().getIteration(), 30);
-        assertEquals(result.memory().asMap().size(), 0);
     }
 
 }
\ No newline at end of file
@@ -6,6 +6,10 @@ import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
 import static com.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -30,6 +34,12 @@ public abstract class RangeTest extends AbstractGremlinProcessTest {
 
     public abstract Traversal<Vertex, Vertex> get_g_V_asXaX_both_jumpXa_3X_rangeX5_11X();
 
+    public abstract Traversal<Vertex, String> get_g_V_out_name_order_limitX2X();
+
+    public abstract Traversal<Vertex, String> get_g_V_out_name_order_rangeX3_5X();
+
+    public abstract Traversal<Vertex, String> get_g_V_name_orderXlengthX_rangeX2_4X();
+
     @Test
     @LoadGraphWith(MODERN)
     public void g_v1_out_limitX2X() {
@@ -125,6 +135,35 @@ public abstract class RangeTest extends AbstractGremlinProcessTest {
         assertEquals(6, counter);
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_out_name_order_limitX2X() {
+        // the three lop traversers are bulked and straddle the end of the range
+        final Traversal<Vertex, String> traversal = get_g_V_out_name_order_limitX2X();
+        printTraversalForm(traversal);
+        assertEquals(Arrays.asList("josh", "lop"), traversal.toList());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_out_name_order_rangeX3_5X() {
+        final Traversal<Vertex, String> traversal = get_g_V_out_name_order_rangeX3_5X();
+        printTraversalForm(traversal);
+        assertEquals(Arrays.asList("lop", "ripple"), traversal.toList());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_name_orderXlengthX_rangeX2_4X() {
+        // lop and josh are shorter and the range ends within the ties of marko, peter and vadas
+        final Traversal<Vertex, String> traversal = get_g_V_name_orderXlengthX_rangeX2_4X();
+        printTraversalForm(traversal);
+        final List<String> names = traversal.toList();
+        assertEquals(2, names.size());
+        assertEquals(2, new HashSet<>(names).size());
+        assertTrue(Arrays.asList("marko", "peter", "vadas").containsAll(names));
+    }
+
     public static class StandardTest extends RangeTest {
         public StandardTest() {
             requiresGraphComputer = false;
@@ -164,5 +203,20 @@ public abstract class RangeTest extends AbstractGremlinProcessTest {
         public Traversal<Vertex, Vertex> get_g_V_asXaX_both_jumpXa_3X_rangeX5_11X() {
             return g.V().as("a").both().jump("a", 3).range(5, 11);
         }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_out_name_order_limitX2X() {
+            return g.V().out().<String>values("name").order().limit(2);
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_out_name_order_rangeX3_5X() {
+            return g.V().out().<String>values("name").order().range(3, 5);
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_V_name_orderXlengthX_rangeX2_4X() {
+            return g.V().<String>values("name").order((a, b) -> Integer.compare(a.get().length(), b.get().length())).range(2, 4);
+        }
     }
 }
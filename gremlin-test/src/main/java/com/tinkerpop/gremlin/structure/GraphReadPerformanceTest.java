@@ -7,9 +7,7 @@ import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
 import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
 import com.carrotsearch.junitbenchmarks.annotation.LabelType;
 import com.tinkerpop.gremlin.AbstractGremlinTest;
-import com.tinkerpop.gremlin.algorithm.generator.Distribution;
-import com.tinkerpop.gremlin.algorithm.generator.DistributionGenerator;
-import com.tinkerpop.gremlin.algorithm.generator.PowerLawDistribution;
+import com.tinkerpop.gremlin.algorithm.generator.BenchmarkGraph;
 import org.apache.commons.lang.RandomStringUtils;
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,7 +16,6 @@ import org.junit.rules.TestRule;
 import org.junit.runner.RunWith;
 
 import java.util.HashSet;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -43,22 +40,8 @@ public class GraphReadPerformanceTest {
         @Override
         protected void afterLoadGraphWith(final Graph g) throws Exception {
             ids.clear();
-            final int numVertices = 10000;
-            final Random r = new Random(854939487556l);
-            for (int i = 0; i < numVertices; i++) {
-                final Vertex v = g.addVertex("oid", i, "name", RandomStringUtils.randomAlphabetic(r.nextInt(1024)));
-                ids.add(v.id());
-            }
-
-            final Distribution inDist = new PowerLawDistribution(2.3);
-            final Distribution outDist = new PowerLawDistribution(2.8);
-            final DistributionGenerator generator = DistributionGenerator.build(g)
-                    .label("knows")
-                    .seedGenerator(r::nextLong)
-                    .outDistribution(outDist)
-                    .inDistribution(inDist)
-                    .expectedNumEdges(numVertices * 3).create();
-            generator.generate();
+            BenchmarkGraph.generate(g, (random, oid) -> new Object[]{"oid", oid, "name", RandomStringUtils.randomAlphabetic(random.nextInt(1024))});
+            g.V().forEachRemaining(v -> ids.add(v.id()));
         }
 
         @Test
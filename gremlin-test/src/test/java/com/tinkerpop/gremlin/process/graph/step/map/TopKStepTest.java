@@ -0,0 +1,115 @@
+package com.tinkerpop.gremlin.process.graph.step.map;
+
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.traversers.SimpleTraverser;
+import com.tinkerpop.gremlin.process.util.DefaultTraversal;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TopKStepTest {
+
+    private static final Comparator<Traverser<String>> BY_LENGTH = (a, b) -> Integer.compare(a.get().length(), b.get().length());
+
+    @Test
+    public void shouldKeepTheBulkThatStraddlesK() {
+        final Traversal traversal = new DefaultTraversal<>();
+        // b is held with its whole bulk as it is needed for k objects and the range step trims it
+        assertEquals(Arrays.asList("a:2", "b:3"), topK(new TopKStep<>(traversal, 3, Comparator.<Traverser<String>, String>comparing(Traverser::get)),
+                traverser(traversal, "b", 3), traverser(traversal, "d", 1), traverser(traversal, "a", 2), traverser(traversal, "c", 1)));
+        // c is evicted once a and b account for k objects
+        assertEquals(Arrays.asList("a:2", "b:2"), topK(new TopKStep<>(traversal, 3, Comparator.<Traverser<String>, String>comparing(Traverser::get)),
+                traverser(traversal, "c", 2), traverser(traversal, "b", 2), traverser(traversal, "a", 2)));
+    }
+
+    @Test
+    public void shouldBreakTiesByArrival() {
+        final Traversal traversal = new DefaultTraversal<>();
+        assertEquals(Arrays.asList("bb:1", "aa:1"), topK(new TopKStep<>(traversal, 2, BY_LENGTH),
+                traverser(traversal, "bb", 1), traverser(traversal, "aa", 1), traverser(traversal, "cc", 1)));
+        // the tie that arrived last is the worst held traverser and is evicted first
+        assertEquals(Arrays.asList("d:1", "bb:1"), topK(new TopKStep<>(traversal, 2, BY_LENGTH),
+                traverser(traversal, "bb", 1), traverser(traversal, "aa", 1), traverser(traversal, "cc", 1), traverser(traversal, "d", 1)));
+    }
+
+    @Test
+    public void shouldEmitTheFirstKObjectsOfAStableSort() {
+        final Random random = new Random(929283l);
+        final Traversal traversal = new DefaultTraversal<>();
+        for (int run = 0; run < 100; run++) {
+            final int k = random.nextInt(20);
+            final List<Traverser.Admin<String>> starts = new ArrayList<>();
+            final List<String> objects = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                final String value = Integer.toString(random.nextInt(100)).substring(random.nextInt(2));
+                final int bulk = 1 + random.nextInt(3);
+                starts.add(traverser(traversal, value, bulk));
+                for (int j = 0; j < bulk; j++) {
+                    objects.add(value);
+                }
+            }
+            objects.sort(Comparator.comparing(String::length));
+
+            final TopKStep<String> step = new TopKStep<>(traversal, k, BY_LENGTH);
+            step.addStarts((Iterator) starts.iterator());
+            final List<String> topK = new ArrayList<>();
+            while (step.hasNext()) {
+                final Traverser<String> traverser = step.next();
+                for (int j = 0; j < traverser.bulk(); j++) {
+                    topK.add(traverser.get());
+                }
+            }
+            // equal objects are merged into the bulk of the first one and so, only the lengths follow the sort
+            assertTrue(topK.size() >= k);
+            assertEquals(lengths(objects.subList(0, k)), lengths(topK.subList(0, k)));
+        }
+    }
+
+    @Test
+    public void shouldEmitNothingForZero() {
+        final Traversal traversal = new DefaultTraversal<>();
+        final TopKStep<String> step = new TopKStep<>(traversal, 0, BY_LENGTH);
+        step.addStart(traverser(traversal, "a", 10));
+        assertFalse(step.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotKeepANegativeNumberOfObjects() {
+        new TopKStep<>(new DefaultTraversal<>(), -1, BY_LENGTH);
+    }
+
+    private static Traverser.Admin<String> traverser(final Traversal traversal, final String value, final long bulk) {
+        final Traverser.Admin<String> traverser = new SimpleTraverser<>(value, traversal.sideEffects());
+        traverser.setBulk(bulk);
+        return traverser;
+    }
+
+    /**
+     * The emitted traversers as value:bulk.
+     */
+    private static List<String> topK(final TopKStep<String> step, final Traverser.Admin<String>... starts) {
+        step.addStarts((Iterator) Arrays.asList(starts).iterator());
+        final List<String> topK = new ArrayList<>();
+        while (step.hasNext()) {
+            final Traverser<String> traverser = step.next();
+            topK.add(traverser.get() + ":" + traverser.bulk());
+        }
+        return topK;
+    }
+
+    private static List<Integer> lengths(final List<String> objects) {
+        final List<Integer> lengths = new ArrayList<>();
+        objects.forEach(object -> lengths.add(object.length()));
+        return lengths;
+    }
+}
@@ -0,0 +1,71 @@
+package com.tinkerpop.gremlin.process.graph.strategy;
+
+import com.tinkerpop.gremlin.process.Step;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.TraversalEngine;
+import com.tinkerpop.gremlin.process.graph.GraphTraversal;
+import com.tinkerpop.gremlin.process.graph.step.filter.RangeStep;
+import com.tinkerpop.gremlin.process.graph.step.map.OrderByStep;
+import com.tinkerpop.gremlin.process.graph.step.map.OrderStep;
+import com.tinkerpop.gremlin.process.graph.step.map.TopKStep;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TopKStrategyTest {
+
+    @Test
+    public void shouldReplaceAnOrderFollowedByARange() {
+        final Traversal traversal = apply(GraphTraversal.of().order().range(1, 3), TraversalEngine.STANDARD);
+        assertEquals(2, traversal.getSteps().size());
+        assertEquals(3l, ((TopKStep) traversal.getSteps().get(0)).getK());
+        // the range step still skips the low end of the range
+        assertTrue(traversal.getSteps().get(1) instanceof RangeStep);
+    }
+
+    @Test
+    public void shouldReplaceAnOrderByFollowedByALimit() {
+        final Traversal traversal = apply(GraphTraversal.of().out().orderBy("name").as("x").limit(2), TraversalEngine.STANDARD);
+        assertEquals(3, traversal.getSteps().size());
+        final TopKStep topKStep = (TopKStep) traversal.getSteps().get(1);
+        assertEquals(2l, topKStep.getK());
+        assertEquals("x", topKStep.getLabel());
+    }
+
+    @Test
+    public void shouldLeaveAnOrderWithoutAFollowingRangeInPlace() {
+        assertUnchanged(GraphTraversal.of().order());
+        assertUnchanged(GraphTraversal.of().orderBy("name"));
+        assertUnchanged(GraphTraversal.of().order().out().limit(2));
+        assertUnchanged(GraphTraversal.of().limit(2).order());
+        // a range without an upper bound does not bound the number of traversers to hold
+        assertUnchanged(GraphTraversal.of().order().range(2, -1));
+    }
+
+    @Test
+    public void shouldNotApplyToTheComputerEngine() {
+        final Traversal traversal = apply(GraphTraversal.of().order().limit(2), TraversalEngine.COMPUTER);
+        assertTrue(traversal.getSteps().get(0) instanceof OrderStep);
+    }
+
+    private static Traversal apply(final Traversal traversal, final TraversalEngine engine) {
+        TopKStrategy.instance().apply(traversal, engine);
+        return traversal;
+    }
+
+    private static void assertUnchanged(final Traversal traversal) {
+        final List<Class<? extends Step>> classes = stepClasses(traversal);
+        assertTrue(classes.contains(OrderStep.class) || classes.contains(OrderByStep.class));
+        assertEquals(classes, stepClasses(apply(traversal, TraversalEngine.STANDARD)));
+    }
+
+    private static List<Class<? extends Step>> stepClasses(final Traversal<?, ?> traversal) {
+        final List<Class<? extends Step>> classes = new ArrayList<>();
+        traversal.getSteps().forEach(step -> classes.add(step.getClass()));
+        return classes;
+    }
+}
@@ -2,11 +2,18 @@ package com.tinkerpop.gremlin.process.util;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Random;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -45,4 +52,81 @@ public class BulkSetTest {
         }
         assertEquals(11, set.size());
     }
+
+    @Test
+    public void shouldMaintainSizesAndOrderThroughRemovals() {
+        final BulkSet<Integer> set = new BulkSet<>();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i, i);
+        }
+        for (int i = 0; i < 1000; i = i + 2) {
+            assertTrue(set.remove(i));
+        }
+        assertFalse(set.remove(0));
+        for (int i = 0; i < 1000; i++) {
+            set.add(i % 10, 1l);
+        }
+        assertEquals(250000 + 1000, set.longSize());
+        assertEquals(500 + 5, set.distinctSize());
+        assertEquals(1 + 100, set.get(1));
+        assertEquals(100, set.get(0));
+        assertEquals(0, set.get(1000));
+        assertEquals(set.longSize(), set.stream().count());
+        final BulkSet<Integer> copy = new BulkSet<>();
+        copy.addAll(set);
+        assertEquals(set, copy);
+        assertEquals(set.hashCode(), copy.hashCode());
+        assertEquals(Integer.valueOf(1), copy.iterator().next());
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.longSize());
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    public void shouldRehashAfterJavaDeserialization() throws Exception {
+        final BulkSet<SeededKey> set = new BulkSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(new SeededKey(i), i + 1);
+        }
+        set.remove(new SeededKey(0));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(set);
+        }
+        // the hash codes of the deserializing JVM differ as they do for identity based hash codes
+        SeededKey.seed = 7;
+        try (final ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final BulkSet<SeededKey> deserialized = (BulkSet<SeededKey>) inputStream.readObject();
+            assertEquals(99, deserialized.distinctSize());
+            assertFalse(deserialized.contains(new SeededKey(0)));
+            for (int i = 1; i < 100; i++) {
+                assertEquals(i + 1, deserialized.get(new SeededKey(i)));
+            }
+            assertFalse(deserialized.add(new SeededKey(1)));
+            assertEquals(99, deserialized.distinctSize());
+        } finally {
+            SeededKey.seed = 0;
+        }
+    }
+
+    private static class SeededKey implements Serializable {
+        private static int seed = 0;
+        private final int value;
+
+        private SeededKey(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof SeededKey && ((SeededKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value * 31 + seed;
+        }
+    }
 }
@@ -0,0 +1,266 @@
+package com.tinkerpop.gremlin.process.util;
+
+import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.traversers.SimpleTraverser;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TraverserSetTest {
+
+    private static final DefaultTraversalSideEffects SIDE_EFFECTS = new DefaultTraversalSideEffects();
+
+    @Test
+    public void shouldMergeTheBulkOfEqualTraversers() {
+        final TraverserSet<String> set = new TraverserSet<>();
+        assertTrue(set.add(traverser("marko", 1)));
+        assertTrue(set.add(traverser("stephen", 2)));
+        assertFalse(set.add(traverser("marko", 3)));
+        final Traverser.Admin<String> looped = traverser("marko", 1);
+        looped.incrLoops();
+        assertTrue(set.add(looped));
+
+        assertEquals(3, set.size());
+        assertEquals(Arrays.asList("marko", "stephen", "marko"), values(set));
+        assertEquals(4, set.remove().bulk());
+        assertEquals(2, set.remove().bulk());
+        assertEquals(1, set.remove().bulk());
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveInFirstInFirstOutOrder() {
+        final TraverserSet<Integer> set = new TraverserSet<>();
+        assertNull(set.peek());
+        assertNull(set.poll());
+        try {
+            set.remove();
+            fail("An empty traverser set has no head to remove");
+        } catch (final NoSuchElementException e) {
+            // expected
+        }
+
+        for (int i = 0; i < 100; i++) {
+            set.offer(traverser(i, 1));
+        }
+        assertTrue(set.remove(traverser(0, 1)));
+        assertTrue(set.remove(traverser(1, 1)));
+        assertFalse(set.remove(traverser(1, 1)));
+        for (int i = 2; i < 100; i++) {
+            assertEquals(i, set.peek().get().intValue());
+            assertEquals(i, set.element().get().intValue());
+            assertEquals(i, set.poll().get().intValue());
+            assertEquals(99 - i, set.size());
+        }
+        assertNull(set.poll());
+    }
+
+    @Test
+    public void shouldAddATraverserAgainAfterItWasRemoved() {
+        final TraverserSet<String> set = new TraverserSet<>();
+        set.add(traverser("a", 1));
+        set.add(traverser("b", 1));
+        set.add(traverser("c", 1));
+        assertTrue(set.remove(traverser("b", 1)));
+        assertFalse(set.contains(traverser("b", 1)));
+
+        // the probe passes the tombstone of the removed traverser to find the one that was added again
+        assertTrue(set.add(traverser("b", 2)));
+        assertFalse(set.add(traverser("b", 3)));
+        assertTrue(set.contains(traverser("b", 1)));
+        assertEquals(Arrays.asList("a", "c", "b"), values(set));
+        assertEquals(3, set.size());
+
+        final Iterator<Traverser.Admin<String>> iterator = set.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(Arrays.asList("c", "b"), values(set));
+        while (!set.isEmpty()) {
+            set.remove();
+        }
+        assertTrue(set.add(traverser("a", 1)));
+        assertTrue(set.add(traverser("b", 1)));
+        assertEquals(Arrays.asList("a", "b"), values(set));
+        assertEquals(1, set.stream().filter(t -> t.get().equals("b")).findFirst().get().bulk());
+    }
+
+    @Test
+    public void shouldCompactRatherThanGrowUnderManyRemovals() throws Exception {
+        final TraverserSet<Integer> set = new TraverserSet<>();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = 0; i < 10000; i++) {
+            set.add(traverser(i, 1));
+            queue.add(i);
+            if (set.size() > 10)
+                assertEquals(queue.remove(), set.remove().get());
+            if (i % 7 == 0)
+                assertEquals(queue.remove(i), set.remove(traverser(i, 1)));
+        }
+        // the holes that the removals left are compacted when the array is full
+        assertTrue(capacity(set) <= 32);
+        final List<Integer> values = values(set);
+        assertEquals(new ArrayList<>(queue), values);
+        for (final Integer value : values) {
+            assertTrue(set.contains(traverser(value, 1)));
+            assertFalse(set.add(traverser(value, 1)));
+        }
+        assertEquals(values, values(set));
+        assertEquals(values.size() * 2l, set.stream().mapToLong(Traverser::bulk).sum());
+    }
+
+    @Test
+    public void shouldGrowAndRehashManyTraversers() {
+        final TraverserSet<Integer> set = new TraverserSet<>();
+        for (int i = 0; i < 10000; i++) {
+            set.add(traverser(i, 1));
+        }
+        for (int i = 0; i < 10000; i = i + 2) {
+            assertTrue(set.remove(traverser(i, 1)));
+        }
+        for (int i = 0; i < 10000; i++) {
+            set.add(traverser(i, 1));
+        }
+        assertEquals(10000, set.size());
+        final Iterator<Traverser.Admin<Integer>> iterator = set.iterator();
+        for (int i = 1; i < 10000; i = i + 2) {
+            final Traverser.Admin<Integer> traverser = iterator.next();
+            assertEquals(i, traverser.get().intValue());
+            assertEquals(2, traverser.bulk());
+        }
+        for (int i = 0; i < 10000; i = i + 2) {
+            final Traverser.Admin<Integer> traverser = iterator.next();
+            assertEquals(i, traverser.get().intValue());
+            assertEquals(1, traverser.bulk());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void shouldSortInPlace() {
+        final TraverserSet<Integer> set = new TraverserSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(traverser((i * 37) % 100, 1));
+        }
+        set.remove();
+        set.remove(traverser(50, 1));
+        set.sort(Comparator.<Traverser<Integer>, Integer>comparing(Traverser::get).reversed());
+
+        final List<Integer> values = values(set);
+        assertEquals(98, values.size());
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i - 1) > values.get(i));
+        }
+        // the index follows the sorted traversers
+        for (final Integer value : values) {
+            assertFalse(set.add(traverser(value, 1)));
+        }
+        assertTrue(set.add(traverser(50, 1)));
+        assertEquals(99, set.remove().get().intValue());
+        assertEquals(2, set.peek().bulk());
+        assertEquals(50, values(set).get(values(set).size() - 1).intValue());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void shouldFailFastWhenModifiedDuringIteration() {
+        final TraverserSet<Integer> set = new TraverserSet<>();
+        set.add(traverser(1, 1));
+        set.add(traverser(2, 1));
+        for (final Traverser.Admin<Integer> traverser : set) {
+            set.add(traverser(traverser.get() + 10, 1));
+        }
+    }
+
+    @Test
+    public void shouldReindexAfterJavaDeserialization() throws Exception {
+        final TraverserSet<SeededKey> set = new TraverserSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(traverser(new SeededKey(i), i + 1));
+        }
+        set.remove();
+        set.remove(traverser(new SeededKey(50), 1));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(set);
+        }
+        // the hash codes of the deserializing JVM differ as they do for identity based hash codes
+        SeededKey.seed = 7;
+        try (final ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final TraverserSet<SeededKey> deserialized = (TraverserSet<SeededKey>) inputStream.readObject();
+            assertEquals(98, deserialized.size());
+            assertFalse(deserialized.contains(traverser(new SeededKey(0), 1)));
+            assertFalse(deserialized.contains(traverser(new SeededKey(50), 1)));
+            int expected = 1;
+            for (final Traverser.Admin<SeededKey> traverser : deserialized) {
+                if (50 == expected) expected++;
+                assertEquals(expected, traverser.get().value);
+                assertEquals(expected + 1, traverser.bulk());
+                expected++;
+            }
+            assertFalse(deserialized.add(traverser(new SeededKey(1), 1)));
+            assertEquals(3, deserialized.peek().bulk());
+            assertTrue(deserialized.remove(traverser(new SeededKey(99), 1)));
+            assertTrue(deserialized.add(traverser(new SeededKey(50), 1)));
+            assertEquals(98, deserialized.size());
+        } finally {
+            SeededKey.seed = 0;
+        }
+    }
+
+    private static <S> Traverser.Admin<S> traverser(final S value, final long bulk) {
+        final Traverser.Admin<S> traverser = new SimpleTraverser<>(value, SIDE_EFFECTS);
+        traverser.setBulk(bulk);
+        return traverser;
+    }
+
+    private static <S> List<S> values(final TraverserSet<S> set) {
+        final List<S> values = new ArrayList<>();
+        set.forEach(traverser -> values.add(traverser.get()));
+        return values;
+    }
+
+    private static int capacity(final TraverserSet<?> set) throws Exception {
+        final Field traversers = TraverserSet.class.getDeclaredField("traversers");
+        traversers.setAccessible(true);
+        return ((Object[]) traversers.get(set)).length;
+    }
+
+    private static class SeededKey implements Serializable {
+        private static int seed = 0;
+        private final int value;
+
+        private SeededKey(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof SeededKey && ((SeededKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value * 31 + seed;
+        }
+    }
+}
@@ -38,10 +38,10 @@ public class Neo4jGraphStep<E extends Element> extends GraphStep<E> {
 
     @Override
     public void generateTraversers(final TraverserGenerator traverserGenerator) {
-        if (PROFILING_ENABLED) TraversalMetrics.start(this);
+        if (this.profiling) TraversalMetrics.start(this);
         this.start = Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges();
         super.generateTraversers(traverserGenerator);
-        if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+        if (this.profiling) TraversalMetrics.stop(this);
     }
 
     private Iterator<? extends Edge> edges() {
@@ -3,13 +3,20 @@ package com.tinkerpop.gremlin.tinkergraph.process.computer;
 import com.tinkerpop.gremlin.process.computer.ComputerResult;
 import com.tinkerpop.gremlin.process.computer.GraphComputer;
 import com.tinkerpop.gremlin.process.computer.MapReduce;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
 import com.tinkerpop.gremlin.process.computer.VertexProgram;
 import com.tinkerpop.gremlin.process.computer.util.GraphComputerHelper;
+import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.StringFactory;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import com.tinkerpop.gremlin.util.function.TriConsumer;
 
+import java.io.File;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -19,6 +26,30 @@ import java.util.concurrent.Future;
  */
 public class TinkerGraphComputer implements GraphComputer {
 
+    /**
+     * The configuration key on the {@link TinkerGraph} that sets the number of workers used to execute a {@link VertexProgram}.
+     * If not provided, the number of available processors is used.
+     */
+    public static final String WORKERS = "gremlin.tinkerGraphComputer.workers";
+
+    /**
+     * The configuration key on the {@link TinkerGraph} that sets the number of key/value pairs a {@link MapReduce}
+     * emitter holds in memory before they are sorted and spilled to a local file. If not provided, nothing is spilled.
+     */
+    public static final String SPILL_THRESHOLD = "gremlin.tinkerGraphComputer.spillThreshold";
+
+    /**
+     * The configuration key on the {@link TinkerGraph} that sets the directory of the spilled {@link MapReduce} pairs.
+     * If not provided, the {@code java.io.tmpdir} directory is used.
+     */
+    public static final String SPILL_DIRECTORY = "gremlin.tinkerGraphComputer.spillDirectory";
+
+    /**
+     * The configuration key on the {@link TinkerGraph} that sets the number of spilled runs that are merged at once.
+     * More runs are first merged into longer runs. If not provided, 64 runs are merged at once.
+     */
+    public static final String SPILL_FAN_IN = "gremlin.tinkerGraphComputer.spillFanIn";
+
     private Isolation isolation = Isolation.BSP;
     private VertexProgram vertexProgram;
     private final TinkerGraph graph;
@@ -26,9 +57,58 @@ public class TinkerGraphComputer implements GraphComputer {
     private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
     private boolean executed = false;
     private final Set<MapReduce> mapReduces = new HashSet<>();
+    private int workers;
+    private long spillThreshold;
+    private int spillFanIn;
+    private File spillDirectory;
 
     public TinkerGraphComputer(final TinkerGraph graph) {
         this.graph = graph;
+        this.workers = graph.configuration().getInt(WORKERS, Runtime.getRuntime().availableProcessors());
+        this.spillThreshold = graph.configuration().getLong(SPILL_THRESHOLD, Long.MAX_VALUE);
+        this.spillFanIn = graph.configuration().getInt(SPILL_FAN_IN, TinkerSpill.DEFAULT_FAN_IN);
+        this.spillDirectory = new File(graph.configuration().getString(SPILL_DIRECTORY, System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Set the number of workers (threads) that will concurrently execute the {@link VertexProgram}.
+     *
+     * @param workers the number of workers
+     * @return the updated GraphComputer with the newly set number of workers
+     */
+    public TinkerGraphComputer workers(final int workers) {
+        if (workers < 1)
+            throw new IllegalArgumentException("The number of workers must be greater than zero: " + workers);
+        this.workers = workers;
+        return this;
+    }
+
+    /**
+     * Set the number of key/value pairs that a {@link MapReduce} emitter holds in memory before they are sorted and
+     * spilled to a local file. The spilled pairs are merged back in the order of the {@link MapReduce} key sorts.
+     *
+     * @param spillThreshold the number of pairs held in memory
+     * @return the updated GraphComputer with the newly set spill threshold
+     */
+    public TinkerGraphComputer spillThreshold(final long spillThreshold) {
+        if (spillThreshold < 1)
+            throw new IllegalArgumentException("The spill threshold must be greater than zero: " + spillThreshold);
+        this.spillThreshold = spillThreshold;
+        return this;
+    }
+
+    /**
+     * Set the number of spilled runs of a {@link MapReduce} emitter that are merged at once. Each run that is merged
+     * holds a file handle and a read buffer, so more runs are first merged into longer runs.
+     *
+     * @param spillFanIn the number of runs merged at once
+     * @return the updated GraphComputer with the newly set spill fan-in
+     */
+    public TinkerGraphComputer spillFanIn(final int spillFanIn) {
+        if (spillFanIn < 2)
+            throw new IllegalArgumentException("The spill fan-in must be at least two: " + spillFanIn);
+        this.spillFanIn = spillFanIn;
+        return this;
     }
 
     @Override
@@ -62,6 +142,9 @@ public class TinkerGraphComputer implements GraphComputer {
         // it is possible to run mapreducers without a vertex program
         if (null != this.vertexProgram) {
             GraphComputerHelper.validateProgramOnComputer(this, this.vertexProgram);
+            // local messages are read from the adjacent vertices and so, can not be received asynchronously
+            if (this.isolation.equals(Isolation.ASYNCHRONOUS) && this.vertexProgram.getFeatures().requiresLocalMessageTypes())
+                throw GraphComputer.Exceptions.isolationNotSupported(this.isolation);
             this.mapReduces.addAll(this.vertexProgram.getMapReducers());
         }
 
@@ -69,24 +152,47 @@ public class TinkerGraphComputer implements GraphComputer {
         return CompletableFuture.<ComputerResult>supplyAsync(() -> {
             final long time = System.currentTimeMillis();
             if (null != this.vertexProgram) {
-                TinkerHelper.createGraphView(this.graph, this.isolation, this.vertexProgram.getElementComputeKeys());
+                final TinkerGraphView graphView = TinkerHelper.createGraphView(this.graph, this.isolation, this.vertexProgram.getElementComputeKeys());
                 // execute the vertex program
                 this.vertexProgram.setup(this.memory);
                 this.memory.completeSubRound();
-                while (true) {
-                    this.vertexProgram.workerIterationStart(this.memory);
-                    TinkerHelper.getVertices(this.graph).stream().forEach(vertex ->
-                            this.vertexProgram.execute(vertex, new TinkerMessenger(vertex, this.messageBoard), this.memory));
-                    this.vertexProgram.workerIterationEnd(this.memory);
-                    this.messageBoard.completeIteration();
-                    this.memory.completeSubRound();
-                    if (this.vertexProgram.terminate(this.memory)) {
-                        this.memory.incrIteration();
-                        this.memory.completeSubRound();
-                        break;
-                    } else {
-                        this.memory.incrIteration();
+                try (final TinkerWorkerPool workers = new TinkerWorkerPool(this.workers, TinkerHelper.getVertices(this.graph), this.vertexProgram)) {
+                    // under asynchronous isolation, the vertices sent a message are executed after the initial iteration until none are left
+                    final TinkerWorkList workList = this.isolation.equals(Isolation.ASYNCHRONOUS) ? new TinkerWorkList(this.graph, workers.getNumberOfWorkers()) : null;
+                    this.messageBoard.setWorkList(workList);
+                    // local messages are read from the adjacent vertices and so, can not reactivate a halted vertex
+                    final boolean trackFrontier = null == workList && !this.vertexProgram.getFeatures().requiresLocalMessageTypes();
+                    final TriConsumer<VertexProgram, Iterable<Vertex>, List<Vertex>> worker = (vertexProgram, vertices, activeVertices) -> {
+                        final Optional<MessageCombiner> combiner = vertexProgram.getMessageCombiner();
+                        vertexProgram.workerIterationStart(this.memory);
+                        for (final Vertex vertex : vertices) {
+                            graphView.setExecutingVertex(vertex);
+                            final TinkerMessenger messenger = new TinkerMessenger(vertex, this.messageBoard, combiner);
+                            vertexProgram.execute(vertex, messenger, this.memory);
+                            if (trackFrontier && !messenger.hasVotedToHalt())
+                                activeVertices.add(vertex);
+                        }
+                        graphView.setExecutingVertex(null);
+                        vertexProgram.workerIterationEnd(this.memory);
+                    };
+                    while (true) {
+                        if (null == workList || this.memory.isInitialIteration())
+                            workers.executeVertexProgram(worker);
+                        else
+                            workers.executeVertexProgram(workList, worker);
+                        graphView.completeIteration();
+                        this.messageBoard.completeIteration();
+                        if (trackFrontier)
+                            workers.completeIteration(this.messageBoard.receiveMessages.keySet(), this::getVertex);
                         this.memory.completeSubRound();
+                        if (this.vertexProgram.terminate(this.memory) || (null != workList && workList.isEmpty())) {
+                            this.memory.incrIteration();
+                            this.memory.completeSubRound();
+                            break;
+                        } else {
+                            this.memory.incrIteration();
+                            this.memory.completeSubRound();
+                        }
                     }
                 }
             }
@@ -94,17 +200,32 @@ public class TinkerGraphComputer implements GraphComputer {
             // execute mapreduce jobs
             for (final MapReduce mapReduce : this.mapReduces) {
                 if (mapReduce.doStage(MapReduce.Stage.MAP)) {
-                    final TinkerMapEmitter<?, ?> mapEmitter = new TinkerMapEmitter<>(mapReduce.doStage(MapReduce.Stage.REDUCE));
-                    TinkerHelper.getVertices(this.graph).parallelStream().forEach(vertex -> mapReduce.map(vertex, mapEmitter));
-                    mapEmitter.complete(mapReduce); // sort results if a map output sort is defined
-                    // no need to run combiners as this is single machine
-                    if (mapReduce.doStage(MapReduce.Stage.REDUCE)) {
-                        final TinkerReduceEmitter<?, ?> reduceEmitter = new TinkerReduceEmitter<>();
-                        mapEmitter.reduceMap.entrySet().parallelStream().forEach(entry -> mapReduce.reduce(entry.getKey(), entry.getValue().iterator(), reduceEmitter));
-                        reduceEmitter.complete(mapReduce); // sort results if a reduce output sort is defined
-                        mapReduce.addResultToMemory(this.memory, reduceEmitter.reduceQueue.iterator());
-                    } else {
-                        mapReduce.addResultToMemory(this.memory, mapEmitter.mapQueue.iterator());
+                    final boolean spill = Long.MAX_VALUE != this.spillThreshold;
+                    final TinkerMapEmitter<?, ?> mapEmitter = spill ?
+                            new TinkerMapEmitter<>(mapReduce, this.spillThreshold, this.spillFanIn, this.spillDirectory) :
+                            new TinkerMapEmitter<>(mapReduce.doStage(MapReduce.Stage.REDUCE));
+                    final TinkerReduceEmitter<?, ?> reduceEmitter = !mapReduce.doStage(MapReduce.Stage.REDUCE) ? null : spill ?
+                            new TinkerReduceEmitter<>(mapReduce, this.spillThreshold, this.spillFanIn, this.spillDirectory) :
+                            new TinkerReduceEmitter<>();
+                    try {
+                        TinkerHelper.getVertices(this.graph).parallelStream().forEach(vertex -> mapReduce.map(vertex, mapEmitter));
+                        mapEmitter.complete(mapReduce); // sort results if a map output sort is defined
+                        // no need to run combiners as this is single machine
+                        if (null != reduceEmitter) {
+                            if (spill) // the spilled runs are merged into the groups of a key one group at a time
+                                mapEmitter.spill.groups().forEachRemaining(group -> mapReduce.reduce(group.getValue0(), group.getValue1(), reduceEmitter));
+                            else
+                                mapEmitter.reduceMap.entrySet().parallelStream().forEach(entry -> mapReduce.reduce(entry.getKey(), entry.getValue().iterator(), reduceEmitter));
+                            reduceEmitter.complete(mapReduce); // sort results if a reduce output sort is defined
+                            mapReduce.addResultToMemory(this.memory, reduceEmitter.iterator());
+                        } else {
+                            mapReduce.addResultToMemory(this.memory, spill ? mapEmitter.spill.release() : mapEmitter.mapQueue.iterator());
+                        }
+                    } finally {
+                        // the spilled runs are deleted even if the job failed before they were all read
+                        mapEmitter.close();
+                        if (null != reduceEmitter)
+                            reduceEmitter.close();
                     }
                 }
             }
@@ -115,6 +236,10 @@ public class TinkerGraphComputer implements GraphComputer {
         });
     }
 
+    private Vertex getVertex(final Vertex vertex) {
+        return vertex instanceof TinkerVertex ? vertex : this.graph.v(vertex.id());
+    }
+
     @Override
     public String toString() {
         return StringFactory.graphComputerString(this);
@@ -1,39 +1,60 @@
 package com.tinkerpop.gremlin.tinkergraph.process.computer;
 
 import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.ElementHelper;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerEdge;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerElement;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertexProperty;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerProperty;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
 
-import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
+ * The compute properties of the elements of a {@link com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph} during
+ * a {@link GraphComputer} job. They are stored in columns, one array per compute key, indexed by the dense ordinal
+ * that each vertex and edge is assigned when the view is created. A slot holds either nothing, a single property or
+ * an array of properties (for multi-properties) and is never mutated in place so that it can be read concurrently.
+ * <p/>
+ * With {@link GraphComputer.Isolation#BSP}, the columns are double-buffered. Writes go to the next buffer and are only
+ * visible to the element's own vertex (the out-vertex of an edge) until {@link #completeIteration()} commits them at
+ * the end of the superstep. With {@link GraphComputer.Isolation#DIRTY_BSP} and {@link GraphComputer.Isolation#ASYNCHRONOUS},
+ * writes are visible immediately.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TinkerGraphView {
 
+    private static final Object UNSET = new Object();
+
     protected final Set<String> computeKeys;
     protected final GraphComputer.Isolation isolation;
-    private Map<Element, Map<String, List<Property>>> computeProperties;
+    private final Map<String, Integer> keyIndex = new HashMap<>();
+    private final Columns vertexColumns;
+    private final Columns edgeColumns;
+    private final ThreadLocal<Vertex> executingVertex = new ThreadLocal<>();
 
-    public TinkerGraphView(final GraphComputer.Isolation isolation, final Set<String> computeKeys) {
+    public TinkerGraphView(final GraphComputer.Isolation isolation, final Set<String> computeKeys, final int vertexCount, final int edgeCount) {
         this.isolation = isolation;
         this.computeKeys = computeKeys;
-        this.computeProperties = new HashMap<>();
+        computeKeys.forEach(key -> this.keyIndex.put(key, this.keyIndex.size()));
+        this.vertexColumns = new Columns(computeKeys.size(), vertexCount, isolation.equals(GraphComputer.Isolation.BSP));
+        this.edgeColumns = new Columns(computeKeys.size(), edgeCount, isolation.equals(GraphComputer.Isolation.BSP));
     }
 
     public <V> Property<V> setProperty(final TinkerElement element, final String key, final V value) {
@@ -66,18 +87,19 @@ public class TinkerGraphView {
 
     public List<Property> getProperty(final TinkerElement element, final String key) {
         if (isComputeKey(key)) {
-            return this.getValue(element, key);
+            return asList(this.getValue(element, this.keyIndex.get(key)));
         } else {
             return (List) TinkerHelper.getProperties(element).getOrDefault(key, Collections.emptyList());
         }
     }
 
     public List<Property> getProperties(final TinkerElement element) {
-        final Stream<Property> a = TinkerHelper.getProperties(element).values().stream().flatMap(list -> list.stream());
-        final Stream<Property> b = this.computeProperties.containsKey(element) ?
-                this.computeProperties.get(element).values().stream().flatMap(list -> list.stream()) :
-                Stream.empty();
-        return Stream.concat(a, b).collect(Collectors.toList());
+        final List<Property> properties = new ArrayList<>();
+        TinkerHelper.getProperties(element).values().forEach(properties::addAll);
+        for (int i = 0; i < this.keyIndex.size(); i++) {
+            properties.addAll(asList(this.getValue(element, i)));
+        }
+        return properties;
     }
 
     public void removeProperty(final TinkerElement element, final String key, final Property property) {
@@ -91,43 +113,214 @@ public class TinkerGraphView {
         }
     }
 
+    /**
+     * Set the vertex that the current thread is executing the vertex program for so that, under
+     * {@link GraphComputer.Isolation#BSP}, it reads its own writes of the current superstep.
+     *
+     * @param vertex the executing vertex or null if the thread is no longer executing a vertex
+     */
+    public void setExecutingVertex(final Vertex vertex) {
+        if (null == vertex)
+            this.executingVertex.remove();
+        else
+            this.executingVertex.set(vertex);
+    }
+
+    /**
+     * Commit the writes of the superstep so that they are visible to all elements. This is a no-op for
+     * {@link GraphComputer.Isolation#DIRTY_BSP} and must not be called while the vertex program is executing.
+     */
+    public void completeIteration() {
+        this.vertexColumns.commit();
+        this.edgeColumns.commit();
+    }
+
+    public boolean isComputeKey(final String key) {
+        return this.computeKeys.contains(key);
+    }
+
     //////////////////////
 
-    private void setValue(final Element element, final String key, final Property property) {
-        final Map<String, List<Property>> nextMap = this.computeProperties.getOrDefault(element, new HashMap<>());
-        this.computeProperties.put(element, nextMap);
-        if (nextMap.containsKey(key)) {
-            if (element instanceof Vertex) {
-                nextMap.get(key).add(property);
-            } else {
-                nextMap.get(key).clear();
-                nextMap.get(key).add(property);
-            }
-        } else {
-            final List<Property> list = new ArrayList<>();
-            list.add(property);
-            nextMap.put(key, list);
+    private void setValue(final TinkerElement element, final String key, final Property property) {
+        final int index = this.keyIndex.get(key);
+        synchronized (element) {
+            if (element instanceof Vertex)
+                this.putValue(element, index, add(this.getValue(element, index, true), property));
+            else
+                this.putValue(element, index, property);
         }
     }
 
-    private void removeValue(final Element element, final String key) {
-        final Map<String, List<Property>> map = this.computeProperties.get(element);
-        if (null != map)
-            map.remove(key);
+    private void removeValue(final TinkerElement element, final String key) {
+        final int index = this.keyIndex.get(key);
+        synchronized (element) {
+            this.putValue(element, index, null);
+        }
     }
 
-    private void removeValue(final Element element, final String key, final Property property) {
-        final Map<String, List<Property>> map = this.computeProperties.get(element);
-        if (null != map)
-            map.get(key).remove(property);
+    private void removeValue(final TinkerElement element, final String key, final Property property) {
+        final int index = this.keyIndex.get(key);
+        synchronized (element) {
+            this.putValue(element, index, remove(this.getValue(element, index, true), property));
+        }
     }
 
-    private List<Property> getValue(final Element element, final String key) {
-        final Map<String, List<Property>> map = this.computeProperties.get(element);
-        return (null == map) ? Collections.emptyList() : map.getOrDefault(key, Collections.emptyList());
+    private Object getValue(final TinkerElement element, final int index) {
+        return this.getValue(element, index, false);
     }
 
-    public boolean isComputeKey(final String key) {
-        return this.computeKeys.contains(key);
+    /**
+     * Get the value of the element for the key. Uncommitted writes are only read by the owning vertex unless the
+     * latest value is explicitly requested (as is the case for writes which build upon the latest value).
+     */
+    private Object getValue(final TinkerElement element, final int index, final boolean latest) {
+        final Columns columns = this.columns(element);
+        final int ordinal = ordinal(element, columns);
+        if (null != columns.next) {
+            final Object[] next = columns.next.get(index);
+            if (null != next && UNSET != next[ordinal] && (latest || this.isOwner(element)))
+                return next[ordinal];
+        }
+        final Object[] current = columns.current.get(index);
+        return null == current ? null : current[ordinal];
+    }
+
+    private void putValue(final TinkerElement element, final int index, final Object value) {
+        final Columns columns = this.columns(element);
+        final int ordinal = ordinal(element, columns);
+        if (null == columns.next)
+            columns.column(columns.current, index)[ordinal] = value;
+        else if (null != this.executingVertex.get()) {
+            final Object[] next = columns.column(columns.next, index);
+            if (UNSET == next[ordinal])
+                columns.dirtySlots.get().add(index, ordinal);
+            next[ordinal] = value;
+        }
+        else {
+            // outside of a superstep (e.g. setup, map reduce or the computed graph) there is nothing to isolate from
+            columns.column(columns.current, index)[ordinal] = value;
+            final Object[] next = columns.next.get(index);
+            if (null != next)
+                next[ordinal] = UNSET;
+        }
+    }
+
+    private boolean isOwner(final TinkerElement element) {
+        final Vertex vertex = this.executingVertex.get();
+        return null != vertex && (element instanceof Edge ?
+                vertex.equals(TinkerHelper.getVertices((TinkerEdge) element, Direction.OUT).next()) :
+                vertex.equals(element));
+    }
+
+    private Columns columns(final Element element) {
+        return element instanceof Vertex ? this.vertexColumns : this.edgeColumns;
+    }
+
+    private static int ordinal(final TinkerElement element, final Columns columns) {
+        final int ordinal = TinkerHelper.getOrdinal(element);
+        if (ordinal < 0 || ordinal >= columns.size)
+            throw new IllegalStateException("The element was added after the graph computation began and can not have compute properties: " + element);
+        return ordinal;
+    }
+
+    private static Object add(final Object value, final Property property) {
+        if (null == value)
+            return property;
+        else if (value instanceof Property)
+            return new Property[]{(Property) value, property};
+        else {
+            final Property[] properties = (Property[]) value;
+            final Property[] added = Arrays.copyOf(properties, properties.length + 1);
+            added[properties.length] = property;
+            return added;
+        }
+    }
+
+    private static Object remove(final Object value, final Property property) {
+        if (null == value || value == property)
+            return null;
+        else if (value instanceof Property)
+            return value;
+        else {
+            final List<Property> properties = new ArrayList<>(Arrays.asList((Property[]) value));
+            properties.remove(property);
+            return properties.isEmpty() ? null : properties.size() == 1 ? properties.get(0) : properties.toArray(new Property[properties.size()]);
+        }
+    }
+
+    private static List<Property> asList(final Object value) {
+        if (null == value)
+            return Collections.emptyList();
+        else if (value instanceof Property)
+            return Collections.singletonList((Property) value);
+        else
+            return Arrays.asList((Property[]) value);
+    }
+
+    /**
+     * The columns of the compute keys for one element type. A column is only allocated when its key is first written.
+     */
+    private static final class Columns {
+
+        private final int size;
+        private final AtomicReferenceArray<Object[]> current;
+        private final AtomicReferenceArray<Object[]> next;
+        // the slots of the next buffer written during the superstep are recorded by each worker thread so that the
+        // commit only visits those slots rather than every slot of every written column
+        private final Queue<DirtySlots> workerDirtySlots = new ConcurrentLinkedQueue<>();
+        private final ThreadLocal<DirtySlots> dirtySlots = ThreadLocal.withInitial(() -> {
+            final DirtySlots dirtySlots = new DirtySlots();
+            this.workerDirtySlots.add(dirtySlots);
+            return dirtySlots;
+        });
+
+        private Columns(final int keys, final int size, final boolean doubleBuffered) {
+            this.size = size;
+            this.current = new AtomicReferenceArray<>(keys);
+            this.next = doubleBuffered ? new AtomicReferenceArray<>(keys) : null;
+        }
+
+        private Object[] column(final AtomicReferenceArray<Object[]> buffer, final int index) {
+            final Object[] column = buffer.get(index);
+            if (null != column)
+                return column;
+            final Object[] newColumn = new Object[this.size];
+            if (buffer == this.next)
+                Arrays.fill(newColumn, UNSET);
+            return buffer.compareAndSet(index, null, newColumn) ? newColumn : buffer.get(index);
+        }
+
+        private void commit() {
+            if (null == this.next)
+                return;
+            for (final DirtySlots dirtySlots : this.workerDirtySlots) {
+                for (int i = 0; i < dirtySlots.size; i++) {
+                    final int index = (int) (dirtySlots.slots[i] >>> 32);
+                    final int ordinal = (int) dirtySlots.slots[i];
+                    final Object[] next = this.next.get(index);
+                    // a slot written outside of a superstep since it was recorded has already been committed
+                    if (UNSET != next[ordinal]) {
+                        this.column(this.current, index)[ordinal] = next[ordinal];
+                        next[ordinal] = UNSET;
+                    }
+                }
+                dirtySlots.size = 0;
+            }
+        }
+    }
+
+    /**
+     * The key index and ordinal of the written slots of a worker, each packed into a long.
+     */
+    private static final class DirtySlots {
+
+        private long[] slots = new long[16];
+        private int size = 0;
+
+        private void add(final int index, final int ordinal) {
+            if (this.size == this.slots.length)
+                this.slots = Arrays.copyOf(this.slots, this.size * 2);
+            this.slots[this.size++] = ((long) index << 32) | (ordinal & 0xFFFFFFFFl);
+        }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.tinkerpop.gremlin.process.computer.MapReduce;
 import com.tinkerpop.gremlin.process.util.MapHelper;
 import org.javatuples.Pair;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -21,6 +22,7 @@ class TinkerMapEmitter<K, V> implements MapReduce.MapEmitter<K, V> {
 
     public Map<K, Queue<V>> reduceMap;
     public Queue<Pair<K, V>> mapQueue;
+    public TinkerSpill<K, V> spill;
     private final boolean doReduce;
 
     public TinkerMapEmitter(final boolean doReduce) {
@@ -31,15 +33,34 @@ class TinkerMapEmitter<K, V> implements MapReduce.MapEmitter<K, V> {
             this.mapQueue = new ConcurrentLinkedQueue<>();
     }
 
+    /**
+     * A map emitter which spills its pairs to local files once the threshold is reached. The pairs are sorted by the
+     * map key sort of the {@link MapReduce} and, if they are to be reduced without a sort, by the hash code of their keys.
+     *
+     * @param mapReduce      the map reduce job of the emitter
+     * @param spillThreshold the number of pairs to hold in memory
+     * @param spillFanIn     the number of spilled runs to merge at once
+     * @param spillDirectory the directory of the spilled runs
+     */
+    public TinkerMapEmitter(final MapReduce<K, V, ?, ?, ?> mapReduce, final long spillThreshold, final int spillFanIn, final File spillDirectory) {
+        this.doReduce = mapReduce.doStage(MapReduce.Stage.REDUCE);
+        final Comparator<K> order = mapReduce.getMapKeySort().orElse(this.doReduce ? TinkerSpill.hashOrder() : null);
+        this.spill = new TinkerSpill<>(spillThreshold, spillFanIn, spillDirectory, order);
+    }
+
     @Override
     public void emit(K key, V value) {
-        if (this.doReduce)
+        if (null != this.spill)
+            this.spill.add(key, value);
+        else if (this.doReduce)
             MapHelper.concurrentIncr(this.reduceMap, key, value);
         else
             this.mapQueue.add(new Pair<>(key, value));
     }
 
     protected void complete(final MapReduce<K, V, ?, ?, ?> mapReduce) {
+        if (null != this.spill)
+            return; // the runs are sorted when they are spilled and merged when they are read
         if (!this.doReduce && mapReduce.getMapKeySort().isPresent()) {
             final Comparator<K> comparator = mapReduce.getMapKeySort().get();
             final List<Pair<K, V>> list = new ArrayList<>(this.mapQueue);
@@ -55,4 +76,12 @@ class TinkerMapEmitter<K, V> implements MapReduce.MapEmitter<K, V> {
             list.forEach(entry -> this.reduceMap.put(entry.getKey(), entry.getValue()));
         }
     }
+
+    /**
+     * Deletes the spilled runs, if any, whether or not they have been read.
+     */
+    protected void close() {
+        if (null != this.spill)
+            this.spill.close();
+    }
 }
@@ -95,8 +95,7 @@ public class TinkerMemory implements Memory.Admin {
     @Override
     public long incr(final String key, final long delta) {
         checkKeyValue(key, delta);
-        final Long currentValue = (Long) this.currentMap.getOrDefault(key, 0l);
-        this.currentMap.put(key, delta + currentValue);
+        this.currentMap.compute(key, (k, v) -> delta + (null == v ? 0l : (Long) v));
 
         final Long previousValue = (Long) this.previousMap.getOrDefault(key, 0l);
         return previousValue + delta;
@@ -105,8 +104,7 @@ public class TinkerMemory implements Memory.Admin {
     @Override
     public boolean and(final String key, final boolean bool) {
         checkKeyValue(key, bool);
-        final Boolean currentValue = (Boolean) this.currentMap.getOrDefault(key, true);
-        this.currentMap.put(key, bool && currentValue);
+        this.currentMap.compute(key, (k, v) -> bool && (null == v ? true : (Boolean) v));
 
         final Boolean previousValue = (Boolean) this.previousMap.getOrDefault(key, true);
         return previousValue && bool;
@@ -115,8 +113,7 @@ public class TinkerMemory implements Memory.Admin {
     @Override
     public boolean or(final String key, final boolean bool) {
         checkKeyValue(key, bool);
-        final Boolean currentValue = (Boolean) this.currentMap.getOrDefault(key, true);
-        this.currentMap.put(key, bool || currentValue);
+        this.currentMap.compute(key, (k, v) -> bool || (null == v ? true : (Boolean) v));
 
         final Boolean previousValue = (Boolean) this.previousMap.getOrDefault(key, true);
         return previousValue || bool;
@@ -1,21 +1,48 @@
 package com.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
 import com.tinkerpop.gremlin.structure.Vertex;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 class TinkerMessageBoard<M> {
 
-    public Map<Vertex, Queue<M>> sendMessages = new HashMap<>();
-    public Map<Vertex, Queue<M>> receiveMessages = new HashMap<>();
+    public Map<Vertex, Queue<M>> sendMessages = new ConcurrentHashMap<>();
+    public Map<Vertex, Queue<M>> receiveMessages = new ConcurrentHashMap<>();
+    public TinkerWorkList workList = null;
+
+    /**
+     * Deliver the messages of a vertex as soon as they are sent, as required by
+     * {@link GraphComputer.Isolation#ASYNCHRONOUS}, once the current iteration completes.
+     *
+     * @param workList the work list that vertices are queued on when they are sent a message
+     */
+    public void setWorkList(final TinkerWorkList workList) {
+        this.workList = workList;
+    }
+
+    public boolean isAsynchronous() {
+        return this.receiveMessages == this.sendMessages;
+    }
+
+    /**
+     * Get the messages sent to the vertex. Asynchronously delivered messages are removed as they are received so
+     * that every message is received exactly once.
+     */
+    public Queue<M> receiveMessages(final Vertex vertex) {
+        return this.isAsynchronous() ? this.receiveMessages.remove(vertex) : this.receiveMessages.get(vertex);
+    }
 
     public void completeIteration() {
-        this.receiveMessages = this.sendMessages;
-        this.sendMessages = new HashMap<>();
+        if (null == this.workList) {
+            this.receiveMessages = this.sendMessages;
+            this.sendMessages = new ConcurrentHashMap<>();
+        } else
+            this.receiveMessages = this.sendMessages;
     }
 }
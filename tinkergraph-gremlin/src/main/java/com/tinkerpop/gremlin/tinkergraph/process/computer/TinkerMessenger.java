@@ -1,12 +1,14 @@
 package com.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
 import com.tinkerpop.gremlin.process.computer.MessageType;
 import com.tinkerpop.gremlin.process.computer.Messenger;
 import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.util.StreamFactory;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
@@ -17,13 +19,15 @@ public class TinkerMessenger<M> implements Messenger<M> {
 
     private final Vertex vertex;
     private final TinkerMessageBoard<M> messageBoard;
-    //private final Optional<MessageCombiner<M>> combiner;
+    private final MessageCombiner<M> combiner;
+    private final Queue<M> messages;
+    private boolean votedToHalt = false;
 
-
-    public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard) {
+    public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
         this.vertex = vertex;
         this.messageBoard = messageBoard;
-        //this.combiner = combiner;
+        this.combiner = combiner.orElse(null);
+        this.messages = messageBoard.receiveMessages(vertex);
     }
 
     @Override
@@ -41,34 +45,52 @@ public class TinkerMessenger<M> implements Messenger<M> {
                     .map(message -> localMessageType.getEdgeFunction().apply(message, edge[0])));
 
         } else {
-            return StreamFactory.iterable(Arrays.asList(this.vertex).stream()
-                    .map(this.messageBoard.receiveMessages::get)
-                    .filter(q -> null != q)
-                    .flatMap(q -> q.stream()));
+            return null == this.messages ? Collections.emptyList() : this.messages;
         }
     }
 
     @Override
     public void sendMessage(final MessageType messageType, final M message) {
         if (messageType instanceof MessageType.Local) {
-            getMessageList(this.vertex).add(message);
+            this.addMessage(this.vertex, message);
         } else {
-            ((MessageType.Global) messageType).vertices().forEach(v -> {
-                final Queue<M> queue = getMessageList(v);
-                /*if (this.combiner.isPresent() && !queue.isEmpty()) {
-                    this.combiner.get().combine(queue.remove(), message).forEachRemaining(queue::add);
-                } else*/
-                queue.add(message);
-            });
+            ((MessageType.Global) messageType).vertices().forEach(v -> this.addMessage(v, message));
         }
     }
 
-    private Queue<M> getMessageList(final Vertex vertex) {
-        Queue<M> messages = this.messageBoard.sendMessages.get(vertex);
-        if (null == messages) {
-            messages = new ConcurrentLinkedQueue<>();
-            this.messageBoard.sendMessages.put(vertex, messages);
+    @Override
+    public void voteToHalt() {
+        this.votedToHalt = true;
+    }
+
+    public boolean hasVotedToHalt() {
+        return this.votedToHalt;
+    }
+
+    private void addMessage(final Vertex vertex, final M message) {
+        if (null == this.combiner) {
+            if (this.messageBoard.isAsynchronous()) {
+                // the message is added atomically with respect to the receiving vertex removing its messages
+                this.messageBoard.sendMessages.compute(vertex, (v, queue) -> {
+                    if (null == queue)
+                        queue = new ConcurrentLinkedQueue<>();
+                    queue.add(message);
+                    return queue;
+                });
+            } else
+                this.messageBoard.sendMessages.computeIfAbsent(vertex, v -> new ConcurrentLinkedQueue<>()).add(message);
+        } else {
+            // the queue of a vertex holds at most one message which is combined with each newly sent message
+            this.messageBoard.sendMessages.compute(vertex, (v, queue) -> {
+                if (null == queue) {
+                    queue = new ConcurrentLinkedQueue<>();
+                    queue.add(message);
+                } else
+                    queue.add(this.combiner.combine(queue.remove(), message));
+                return queue;
+            });
         }
-        return messages;
+        if (null != this.messageBoard.workList)
+            this.messageBoard.workList.offer(vertex);
     }
 }
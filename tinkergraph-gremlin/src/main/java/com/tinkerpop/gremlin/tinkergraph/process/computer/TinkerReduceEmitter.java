@@ -3,9 +3,11 @@ package com.tinkerpop.gremlin.tinkergraph.process.computer;
 import com.tinkerpop.gremlin.process.computer.MapReduce;
 import org.javatuples.Pair;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -16,14 +18,36 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 class TinkerReduceEmitter<OK, OV> implements MapReduce.ReduceEmitter<OK, OV> {
 
     protected Queue<Pair<OK, OV>> reduceQueue = new ConcurrentLinkedQueue<>();
+    protected TinkerSpill<OK, OV> spill = null;
+
+    public TinkerReduceEmitter() {
+
+    }
+
+    /**
+     * A reduce emitter which spills its pairs to local files, sorted by the reduce key sort of the {@link MapReduce},
+     * once the threshold is reached.
+     *
+     * @param mapReduce      the map reduce job of the emitter
+     * @param spillThreshold the number of pairs to hold in memory
+     * @param spillFanIn     the number of spilled runs to merge at once
+     * @param spillDirectory the directory of the spilled runs
+     */
+    public TinkerReduceEmitter(final MapReduce<?, ?, OK, OV, ?> mapReduce, final long spillThreshold, final int spillFanIn, final File spillDirectory) {
+        this.reduceQueue = null;
+        this.spill = new TinkerSpill<>(spillThreshold, spillFanIn, spillDirectory, mapReduce.getReduceKeySort().orElse(null));
+    }
 
     @Override
     public void emit(final OK key, final OV value) {
-        this.reduceQueue.add(new Pair<>(key, value));
+        if (null != this.spill)
+            this.spill.add(key, value);
+        else
+            this.reduceQueue.add(new Pair<>(key, value));
     }
 
     protected void complete(final MapReduce<?, ?, OK, OV, ?> mapReduce) {
-        if (mapReduce.getReduceKeySort().isPresent()) {
+        if (null == this.spill && mapReduce.getReduceKeySort().isPresent()) {
             final Comparator<OK> comparator = mapReduce.getReduceKeySort().get();
             final List<Pair<OK, OV>> list = new ArrayList<>(this.reduceQueue);
             Collections.sort(list, Comparator.comparing(Pair::getValue0, comparator));
@@ -31,4 +55,20 @@ class TinkerReduceEmitter<OK, OV> implements MapReduce.ReduceEmitter<OK, OV> {
             this.reduceQueue.addAll(list);
         }
     }
+
+    /**
+     * The spilled pairs are merged as they are read. Their runs are released from the spill as the result of the
+     * {@link MapReduce} may hold on to the iterator beyond the {@link #close()} of the emitter.
+     */
+    protected Iterator<Pair<OK, OV>> iterator() {
+        return null == this.spill ? this.reduceQueue.iterator() : this.spill.release();
+    }
+
+    /**
+     * Deletes the spilled runs, if any, whether or not they have been read.
+     */
+    protected void close() {
+        if (null != this.spill)
+            this.spill.close();
+    }
 }
@@ -0,0 +1,417 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.tinkerpop.gremlin.structure.io.kryo.GremlinKryo;
+import com.tinkerpop.gremlin.util.Serializer;
+import org.javatuples.Pair;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A memory-bounded collection of the key/value pairs emitted by a {@link com.tinkerpop.gremlin.process.computer.MapReduce}
+ * job. Once the number of pairs held in memory reaches the threshold, they are sorted and written as a run to a local
+ * file. The runs (along with the pairs still in memory) are then k-way merged when the pairs are read. At most fan-in
+ * runs are merged at once (each with a file handle and a read buffer), so more runs are first merged into longer runs
+ * in intermediate passes. Keys and values are written with {@link GremlinKryo} and fall back to Java serialization if
+ * {@link GremlinKryo} can not write them.
+ * <p/>
+ * Without an order, the pairs are read in the order of the runs. Keys that are grouped must have value-based
+ * {@code equals()} and {@code hashCode()} as they are compared after they are read back from the runs. The runs are
+ * deleted once they are read to the end and in any case, when the spill is closed, unless they were released to a
+ * reader that outlives the spill.
+ */
+class TinkerSpill<K, V> implements AutoCloseable {
+
+    public static final int DEFAULT_FAN_IN = 64;
+
+    private static final GremlinKryo GREMLIN_KRYO = GremlinKryo.build().create();
+    private static final int BUFFER_SIZE = 65536;
+    private static final byte KRYO = 0;
+    private static final byte JAVA = 1;
+
+    private final long threshold;
+    private final int fanIn;
+    private final File directory;
+    private final Comparator<K> order;
+    private final List<File> runs = new ArrayList<>();     // the runs that are deleted when the spill is closed
+    private final List<File> pending = new ArrayList<>();  // the runs that have not been read yet
+    private final List<RunIterator> readers = new ArrayList<>();
+    private final Queue<RunWriter> writers = new ConcurrentLinkedQueue<>();  // reused by the threads that spill
+    private List<Pair<K, V>> buffer = new ArrayList<>();
+
+    /**
+     * @param threshold the number of pairs to hold in memory before they are spilled
+     * @param fanIn     the number of runs to merge at once
+     * @param directory the directory of the run files
+     * @param order     the order of the keys within a run or null if the pairs need not be sorted
+     */
+    public TinkerSpill(final long threshold, final int fanIn, final File directory, final Comparator<K> order) {
+        if (fanIn < 2)
+            throw new IllegalArgumentException("The fan-in of a spill must be at least two: " + fanIn);
+        this.threshold = threshold;
+        this.fanIn = fanIn;
+        this.directory = directory;
+        this.order = order;
+    }
+
+    /**
+     * The order of keys for grouping when no key sort is provided. Keys with the same hash code are grouped by equality.
+     */
+    public static <K> Comparator<K> hashOrder() {
+        return (a, b) -> Integer.compare(a.hashCode(), b.hashCode());
+    }
+
+    /**
+     * Add a pair from any thread. A full buffer is swapped for an empty one under the lock, but it is sorted and written
+     * outside of it so that the other threads keep adding while the run is written. Thus, each thread that is spilling
+     * holds one more buffer of pairs in memory.
+     */
+    public void add(final K key, final V value) {
+        final List<Pair<K, V>> full;
+        synchronized (this) {
+            this.buffer.add(new Pair<>(key, value));
+            if (this.buffer.size() < this.threshold)
+                return;
+            full = this.buffer;
+            this.buffer = new ArrayList<>();
+        }
+        this.spill(full);
+    }
+
+    /**
+     * The pairs of the runs and of the memory. A run file is deleted once it has been read.
+     */
+    public synchronized Iterator<Pair<K, V>> iterator() {
+        return this.iterator(true);
+    }
+
+    /**
+     * The pairs of the runs and of the memory for a reader that may outlive the spill, such as the result of a
+     * {@link com.tinkerpop.gremlin.process.computer.MapReduce} that is held in its memory. The runs of the iterator
+     * are not deleted when the spill is closed, but once they are read to the end or else, when the JVM exits.
+     */
+    public synchronized Iterator<Pair<K, V>> release() {
+        return this.iterator(false);
+    }
+
+    /**
+     * The values of the pairs grouped by key in the order of the keys. Only the values of one group are held in memory.
+     */
+    public Iterator<Pair<K, Iterator<V>>> groups() {
+        if (null == this.order)
+            throw new IllegalStateException("The pairs of the spill can only be grouped by an order of their keys");
+        final Iterator<Pair<K, V>> pairs = this.iterator();
+        return new Iterator<Pair<K, Iterator<V>>>() {
+            private Pair<K, V> head = pairs.hasNext() ? pairs.next() : null;
+            private Iterator<Map.Entry<K, List<V>>> block = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                if (this.block.hasNext())
+                    return true;
+                if (null == this.head)
+                    return false;
+                // the keys that are equal by order are grouped by equality
+                final Map<K, List<V>> groups = new LinkedHashMap<>();
+                final K first = this.head.getValue0();
+                do {
+                    groups.computeIfAbsent(this.head.getValue0(), k -> new ArrayList<>()).add(this.head.getValue1());
+                    this.head = pairs.hasNext() ? pairs.next() : null;
+                } while (null != this.head && 0 == order.compare(first, this.head.getValue0()));
+                this.block = groups.entrySet().iterator();
+                return true;
+            }
+
+            @Override
+            public Pair<K, Iterator<V>> next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                final Map.Entry<K, List<V>> group = this.block.next();
+                return new Pair<>(group.getKey(), group.getValue().iterator());
+            }
+        };
+    }
+
+    /**
+     * Closes the runs that are being read and deletes every run whether or not it has been read.
+     */
+    @Override
+    public synchronized void close() {
+        this.readers.forEach(RunIterator::close);
+        this.readers.clear();
+        this.runs.forEach(File::delete);
+        this.runs.clear();
+        this.pending.clear();
+        this.buffer = new ArrayList<>();
+    }
+
+    private Iterator<Pair<K, V>> iterator(final boolean owned) {
+        if (null != this.order) {
+            Collections.sort(this.buffer, Comparator.comparing(Pair::getValue0, this.order));
+            // the runs are opened one at a time when they are concatenated, but all at once when they are merged
+            while (this.pending.size() > this.fanIn) {
+                final List<File> merged = new ArrayList<>();
+                for (int i = 0; i < this.pending.size(); i = i + this.fanIn) {
+                    final List<File> group = this.pending.subList(i, Math.min(i + this.fanIn, this.pending.size()));
+                    merged.add(1 == group.size() ? group.get(0) : this.merge(group));
+                }
+                this.pending.clear();
+                this.pending.addAll(merged);
+            }
+        }
+        final List<Iterator<Pair<K, V>>> iterators = new ArrayList<>(this.pending.size() + 1);
+        for (final File run : this.pending) {
+            final RunIterator reader = new RunIterator(run);
+            if (owned)
+                this.readers.add(reader);
+            else {
+                this.runs.remove(run);
+                run.deleteOnExit();
+            }
+            iterators.add(reader);
+        }
+        this.pending.clear();
+        iterators.add(this.buffer.iterator());
+        this.buffer = new ArrayList<>();
+        return null == this.order ? new ConcatenatedIterator<>(iterators) : new MergedIterator<>(iterators, this.order);
+    }
+
+    private void spill(final List<Pair<K, V>> pairs) {
+        if (null != this.order)
+            Collections.sort(pairs, Comparator.comparing(Pair::getValue0, this.order));
+        final File run = this.createRun();
+        synchronized (this) {
+            this.pending.add(run);
+        }
+        this.write(run, pairs.size(), pairs.iterator());
+    }
+
+    /**
+     * Merge sorted runs into a single run. The merged runs are deleted as they are read to the end.
+     */
+    private File merge(final List<File> runs) {
+        final List<Iterator<Pair<K, V>>> iterators = new ArrayList<>(runs.size());
+        long size = 0l;
+        for (final File run : runs) {
+            final RunIterator reader = new RunIterator(run);
+            this.readers.add(reader);
+            iterators.add(reader);
+            size = size + reader.remaining();
+        }
+        final File merged = this.createRun();
+        this.write(merged, size, new MergedIterator<>(iterators, this.order));
+        this.readers.removeAll(iterators);
+        return merged;
+    }
+
+    private File createRun() {
+        final File run;
+        try {
+            run = File.createTempFile("tinkergraph-spill-", ".tmp", this.directory);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        synchronized (this) {
+            this.runs.add(run);
+        }
+        return run;
+    }
+
+    private void write(final File run, final long size, final Iterator<Pair<K, V>> pairs) {
+        RunWriter writer = this.writers.poll();
+        if (null == writer)
+            writer = new RunWriter();
+        try (final Output output = new Output(new FileOutputStream(run), BUFFER_SIZE)) {
+            output.writeLong(size);
+            while (pairs.hasNext()) {
+                final Pair<K, V> pair = pairs.next();
+                writer.write(output, pair.getValue0());
+                writer.write(output, pair.getValue1());
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            this.writers.offer(writer);
+        }
+    }
+
+    /**
+     * Writes the keys and values of runs with its own {@link Kryo} instance.
+     */
+    private static final class RunWriter {
+
+        private final Kryo kryo = GREMLIN_KRYO.createKryo();
+        private final Output scratch = new Output(BUFFER_SIZE, -1);
+
+        private void write(final Output output, final Object object) throws IOException {
+            this.scratch.clear();
+            boolean written;
+            try {
+                this.kryo.writeClassAndObject(this.scratch, object);
+                written = true;
+            } catch (final KryoException | IllegalArgumentException e) {
+                written = false;
+            }
+            if (written) {
+                output.writeByte(KRYO);
+                output.writeInt(this.scratch.position(), true);
+                output.writeBytes(this.scratch.getBuffer(), 0, this.scratch.position());
+            } else {
+                final byte[] bytes = Serializer.serializeObject(object);
+                output.writeByte(JAVA);
+                output.writeInt(bytes.length, true);
+                output.writeBytes(bytes);
+            }
+        }
+    }
+
+    /**
+     * Reads the pairs of a run with its own {@link Kryo} instance and deletes the run once it is exhausted. The run is
+     * only opened when it is first read.
+     */
+    private final class RunIterator implements Iterator<Pair<K, V>> {
+
+        private final File run;
+        private Kryo runKryo = null;
+        private final Input objectInput = new Input();
+        private Input input = null;
+        private long remaining = -1l;  // not opened yet
+
+        private RunIterator(final File run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.remaining() > 0l)
+                return true;
+            this.close();
+            return false;
+        }
+
+        private long remaining() {
+            if (this.remaining < 0l) {
+                try {
+                    this.input = new Input(new FileInputStream(this.run), BUFFER_SIZE);
+                } catch (final IOException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+                this.runKryo = GREMLIN_KRYO.createKryo();
+                this.remaining = this.input.readLong();
+            }
+            return this.remaining;
+        }
+
+        private void close() {
+            this.remaining = 0l;
+            if (null != this.input) {
+                this.input.close();
+                this.input = null;
+            }
+            this.run.delete();
+        }
+
+        @Override
+        public Pair<K, V> next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            this.remaining--;
+            final K key = (K) this.read();
+            final V value = (V) this.read();
+            return new Pair<>(key, value);
+        }
+
+        private Object read() {
+            final byte format = this.input.readByte();
+            final byte[] bytes = this.input.readBytes(this.input.readInt(true));
+            if (KRYO == format) {
+                this.objectInput.setBuffer(bytes);
+                return this.runKryo.readClassAndObject(this.objectInput);
+            }
+            try {
+                return Serializer.deserializeObject(bytes);
+            } catch (final IOException | ClassNotFoundException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private static final class ConcatenatedIterator<T> implements Iterator<T> {
+
+        private final Iterator<Iterator<T>> iterators;
+        private Iterator<T> current = Collections.emptyIterator();
+
+        private ConcatenatedIterator(final List<Iterator<T>> iterators) {
+            this.iterators = iterators.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.current.hasNext()) {
+                if (!this.iterators.hasNext())
+                    return false;
+                this.current = this.iterators.next();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            return this.current.next();
+        }
+    }
+
+    /**
+     * A k-way merge of sorted iterators where the pairs of earlier iterators come first amongst equal keys.
+     */
+    private static final class MergedIterator<K, V> implements Iterator<Pair<K, V>> {
+
+        private final PriorityQueue<Pair<Pair<K, V>, Integer>> heads;
+        private final List<Iterator<Pair<K, V>>> iterators;
+
+        private MergedIterator(final List<Iterator<Pair<K, V>>> iterators, final Comparator<K> order) {
+            this.iterators = iterators;
+            final Comparator<Pair<Pair<K, V>, Integer>> byKey = Comparator.comparing(head -> head.getValue0().getValue0(), order);
+            this.heads = new PriorityQueue<>(Math.max(1, iterators.size()), byKey.thenComparing(Pair::getValue1));
+            for (int i = 0; i < iterators.size(); i++) {
+                if (iterators.get(i).hasNext())
+                    this.heads.add(new Pair<>(iterators.get(i).next(), i));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.heads.isEmpty();
+        }
+
+        @Override
+        public Pair<K, V> next() {
+            final Pair<Pair<K, V>, Integer> head = this.heads.poll();
+            if (null == head)
+                throw new NoSuchElementException();
+            final Iterator<Pair<K, V>> iterator = this.iterators.get(head.getValue1());
+            if (iterator.hasNext())
+                this.heads.add(new Pair<>(iterator.next(), head.getValue1()));
+            return head.getValue0();
+        }
+    }
+}
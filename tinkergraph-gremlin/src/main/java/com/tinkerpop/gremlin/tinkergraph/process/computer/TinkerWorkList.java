@@ -0,0 +1,158 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The vertices that have messages to process under {@link GraphComputer.Isolation#ASYNCHRONOUS}. Every vertex is
+ * owned by a single worker (by its hash code) so that a vertex is never executed by two workers at once and a vertex
+ * is queued at most once at a time. The work list is quiescent when every queued vertex has been executed and no
+ * executing vertex can send a message anymore. A worker without queued vertices blocks until it is sent a vertex or
+ * the work list becomes quiescent.
+ */
+class TinkerWorkList {
+
+    private final TinkerGraph graph;
+    private final List<Queue<Vertex>> workerQueues;
+    private final Set<Vertex> queued = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pending = new AtomicLong(0l);
+    private volatile boolean aborted = false;
+
+    private final Lock lock = new ReentrantLock();
+    private final List<Condition> workerConditions;
+    // the number of blocked workers so that offering a vertex only takes the lock when a worker may need to wake up
+    private final AtomicInteger waiting = new AtomicInteger(0);
+
+    public TinkerWorkList(final TinkerGraph graph, final int numberOfWorkers) {
+        this.graph = graph;
+        this.workerQueues = new ArrayList<>(numberOfWorkers);
+        this.workerConditions = new ArrayList<>(numberOfWorkers);
+        for (int i = 0; i < numberOfWorkers; i++) {
+            this.workerQueues.add(new ConcurrentLinkedQueue<>());
+            this.workerConditions.add(this.lock.newCondition());
+        }
+    }
+
+    /**
+     * Queue the vertex for execution by its owning worker unless it is already queued.
+     *
+     * @param vertex the vertex that was sent a message
+     */
+    public void offer(final Vertex vertex) {
+        final Vertex tinkerVertex = vertex instanceof TinkerVertex ? vertex : this.graph.v(vertex.id());
+        if (this.queued.add(tinkerVertex)) {
+            // the vertex is pending before the sending vertex completes so the work list is never falsely quiescent
+            this.pending.incrementAndGet();
+            final int worker = (tinkerVertex.hashCode() & Integer.MAX_VALUE) % this.workerQueues.size();
+            this.workerQueues.get(worker).add(tinkerVertex);
+            if (this.waiting.get() > 0)
+                this.signal(this.workerConditions.get(worker));
+        }
+    }
+
+    public boolean isEmpty() {
+        return 0l == this.pending.get();
+    }
+
+    /**
+     * Stop all workers from waiting on the work list, e.g. because a worker failed and the work list can not become
+     * quiescent anymore.
+     */
+    public void abort() {
+        this.aborted = true;
+        this.workerConditions.forEach(this::signal);
+    }
+
+    /**
+     * The vertices of the worker in the order that they were queued. A vertex is complete once the next vertex is
+     * requested and the iterator is exhausted when the work list is quiescent.
+     *
+     * @param worker the index of the worker
+     * @return the queued vertices of the worker
+     */
+    public Iterator<Vertex> iterator(final int worker) {
+        final Queue<Vertex> queue = this.workerQueues.get(worker);
+        return new Iterator<Vertex>() {
+            private Vertex executing = null;
+            private Vertex next = null;
+
+            @Override
+            public boolean hasNext() {
+                if (null != this.next)
+                    return true;
+                if (null != this.executing) {
+                    this.executing = null;
+                    if (0l == pending.decrementAndGet())
+                        workerConditions.forEach(TinkerWorkList.this::signal);
+                }
+                while (true) {
+                    this.next = queue.poll();
+                    if (null != this.next) {
+                        queued.remove(this.next);
+                        return true;
+                    } else if (isEmpty() || aborted)
+                        return false;
+                    else
+                        await(worker);  // another worker may still send a message to a vertex of this worker
+                }
+            }
+
+            @Override
+            public Vertex next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                this.executing = this.next;
+                this.next = null;
+                return this.executing;
+            }
+        };
+    }
+
+    /**
+     * Block the worker until it is sent a vertex or the work list is quiescent or aborted. The conditions are
+     * checked again while holding the lock and as an offer or completion signals while holding the lock, the
+     * signal can not be missed.
+     */
+    private void await(final int worker) {
+        this.lock.lock();
+        try {
+            this.waiting.incrementAndGet();
+            try {
+                if (this.workerQueues.get(worker).isEmpty() && !this.isEmpty() && !this.aborted)
+                    this.workerConditions.get(worker).await();
+            } finally {
+                this.waiting.decrementAndGet();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void signal(final Condition condition) {
+        this.lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
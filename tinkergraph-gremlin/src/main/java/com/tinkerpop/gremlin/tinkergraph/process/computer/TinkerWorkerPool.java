@@ -0,0 +1,181 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.util.function.TriConsumer;
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A fixed set of workers for {@link TinkerGraphComputer}. The vertex set is split into one partition per worker and
+ * each worker owns its own {@link VertexProgram} instance so that any worker-local state in the program is not shared
+ * between threads. The instance is the public clone() of the program if it has one, else the program is rebuilt from
+ * its stored state.
+ * <p/>
+ * The pool also tracks the frontier of the computation: the vertices that did not vote to halt in the previous
+ * iteration along with the vertices that were sent a message. While every vertex is active, each worker executes
+ * its whole partition.
+ */
+class TinkerWorkerPool implements AutoCloseable {
+
+    private final int numberOfWorkers;
+    private final ExecutorService workerPool;
+    private final List<List<Vertex>> workerVertices;
+    private final List<VertexProgram> workerVertexPrograms;
+    private final List<List<Vertex>> workerActiveVertices;
+    private List<List<Vertex>> workerFrontiers = null;
+
+    public TinkerWorkerPool(final int numberOfWorkers, final Collection<Vertex> vertices, final VertexProgram vertexProgram) {
+        this.numberOfWorkers = Math.max(1, Math.min(numberOfWorkers, vertices.size()));
+        this.workerPool = Executors.newFixedThreadPool(this.numberOfWorkers);
+        this.workerVertices = new ArrayList<>(this.numberOfWorkers);
+        this.workerVertexPrograms = new ArrayList<>(this.numberOfWorkers);
+        this.workerActiveVertices = new ArrayList<>(this.numberOfWorkers);
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            this.workerVertices.add(new ArrayList<>(vertices.size() / this.numberOfWorkers + 1));
+            this.workerActiveVertices.add(new ArrayList<>());
+        }
+        int counter = 0;
+        for (final Vertex vertex : vertices) {
+            this.workerVertices.get(counter++ % this.numberOfWorkers).add(vertex);
+        }
+        if (null != vertexProgram) {
+            for (int i = 0; i < this.numberOfWorkers; i++) {
+                this.workerVertexPrograms.add(TinkerWorkerPool.copy(vertexProgram));
+            }
+        }
+    }
+
+    public int getNumberOfWorkers() {
+        return this.numberOfWorkers;
+    }
+
+    /**
+     * Run the provided worker function once per worker with the worker's vertex program, the worker's vertices of the
+     * frontier and a list to add the vertices that do not vote to halt to. The method returns when all workers have
+     * completed. The first exception thrown by a worker is rethrown.
+     *
+     * @param worker the function to execute for each worker
+     */
+    public void executeVertexProgram(final TriConsumer<VertexProgram, Iterable<Vertex>, List<Vertex>> worker) {
+        this.execute(i -> {
+            final List<Vertex> activeVertices = this.workerActiveVertices.get(i);
+            activeVertices.clear();
+            worker.accept(this.workerVertexPrograms.get(i), null == this.workerFrontiers ? this.workerVertices.get(i) : this.workerFrontiers.get(i), activeVertices);
+        });
+    }
+
+    /**
+     * Run the provided worker function once per worker with the worker's vertex program and the vertices that the
+     * worker owns in the work list. The method returns when the work list is quiescent. Votes to halt are not tracked
+     * as the work list only holds vertices that were sent a message.
+     *
+     * @param workList the vertices to execute
+     * @param worker   the function to execute for each worker
+     */
+    public void executeVertexProgram(final TinkerWorkList workList, final TriConsumer<VertexProgram, Iterable<Vertex>, List<Vertex>> worker) {
+        this.execute(i -> {
+            final List<Vertex> activeVertices = this.workerActiveVertices.get(i);
+            try {
+                worker.accept(this.workerVertexPrograms.get(i), () -> workList.iterator(i), activeVertices);
+            } catch (final RuntimeException | Error e) {
+                workList.abort();
+                throw e;
+            } finally {
+                activeVertices.clear();
+            }
+        });
+    }
+
+    /**
+     * Determine the frontier of the next iteration from the vertices that did not vote to halt in the completed
+     * iteration and the vertices that were sent a message. If no vertex voted to halt, the frontier remains unchanged.
+     *
+     * @param messagedVertices the vertices that were sent a message in the completed iteration
+     * @param resolver         the function that yields the executable vertex of a messaged vertex
+     */
+    public void completeIteration(final Collection<Vertex> messagedVertices, final UnaryOperator<Vertex> resolver) {
+        long executed = 0l;
+        long active = 0l;
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            executed = executed + (null == this.workerFrontiers ? this.workerVertices.get(i) : this.workerFrontiers.get(i)).size();
+            active = active + this.workerActiveVertices.get(i).size();
+        }
+        if (null == this.workerFrontiers && executed == active)
+            return;
+        final List<List<Vertex>> frontiers = new ArrayList<>(this.numberOfWorkers);
+        final Set<Vertex> frontier = new HashSet<>();
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            final List<Vertex> activeVertices = this.workerActiveVertices.get(i);
+            frontiers.add(new ArrayList<>(activeVertices));
+            frontier.addAll(activeVertices);
+        }
+        int counter = 0;
+        for (final Vertex vertex : messagedVertices) {
+            final Vertex executableVertex = resolver.apply(vertex);
+            if (frontier.add(executableVertex))
+                frontiers.get(counter++ % this.numberOfWorkers).add(executableVertex);
+        }
+        this.workerFrontiers = frontiers;
+    }
+
+    private void execute(final IntConsumer worker) {
+        final List<Future<?>> futures = new ArrayList<>(this.numberOfWorkers);
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            final int index = i;
+            futures.add(this.workerPool.submit(() -> worker.accept(index)));
+        }
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e.getMessage(), e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException)
+                    throw (RuntimeException) e.getCause();
+                else
+                    throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private static VertexProgram copy(final VertexProgram vertexProgram) {
+        final Method clone;
+        try {
+            clone = vertexProgram.getClass().getMethod("clone");
+        } catch (final NoSuchMethodException e) {
+            // only Object.clone() which is not public and thus, the program is not meant to be cloned
+            final Configuration configuration = new BaseConfiguration();
+            vertexProgram.storeState(configuration);
+            return VertexProgram.createVertexProgram(configuration);
+        }
+        try {
+            clone.setAccessible(true);
+            return (VertexProgram) clone.invoke(vertexProgram);
+        } catch (final InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.workerPool.shutdownNow();
+    }
+}
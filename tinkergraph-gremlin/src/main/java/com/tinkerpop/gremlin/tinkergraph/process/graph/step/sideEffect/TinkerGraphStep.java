@@ -5,7 +5,6 @@ import com.tinkerpop.gremlin.process.graph.step.sideEffect.GraphStep;
 import com.tinkerpop.gremlin.process.TraverserGenerator;
 import com.tinkerpop.gremlin.process.util.TraversalHelper;
 import com.tinkerpop.gremlin.process.util.TraversalMetrics;
-import com.tinkerpop.gremlin.structure.Compare;
 import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.gremlin.structure.Vertex;
@@ -14,11 +13,8 @@ import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import com.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Iterator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -33,38 +29,22 @@ public class TinkerGraphStep<E extends Element> extends GraphStep<E> {
 
     @Override
     public void generateTraversers(final TraverserGenerator traverserGenerator) {
-        if (PROFILING_ENABLED) TraversalMetrics.start(this);
+        if (this.profiling) TraversalMetrics.start(this);
         this.start = Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges();
         super.generateTraversers(traverserGenerator);
-        if (PROFILING_ENABLED) TraversalMetrics.stop(this);
+        if (this.profiling) TraversalMetrics.stop(this);
     }
 
     private Iterator<? extends Edge> edges() {
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
-        final Stream<? extends Edge> edgeStream = (null == indexedContainer) ?
-                TinkerHelper.getEdges((TinkerGraph)this.traversal.sideEffects().getGraph()).stream() :
-                TinkerHelper.queryEdgeIndex((TinkerGraph)this.traversal.sideEffects().getGraph(), indexedContainer.key, indexedContainer.value).stream();
-
-        // the copy to a new List is intentional as remove() operations will cause ConcurrentModificationException otherwise
-        return edgeStream.filter(e -> HasContainer.testAll(e, hasContainers)).collect(Collectors.<Edge>toList()).iterator();
+        // the edges are streamed lazily so that a traversal only touches the edges it consumes and remove() operations are safe
+        return TinkerHelper.streamEdges((TinkerGraph) this.traversal.sideEffects().getGraph(), this.hasContainers)
+                .filter(e -> HasContainer.testAll(e, this.hasContainers)).iterator();
     }
 
     private Iterator<? extends Vertex> vertices() {
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
-        final Stream<? extends Vertex> vertexStream = (null == indexedContainer) ?
-                TinkerHelper.getVertices((TinkerGraph)this.traversal.sideEffects().getGraph()).stream() :
-                TinkerHelper.queryVertexIndex((TinkerGraph)this.traversal.sideEffects().getGraph(), indexedContainer.key, indexedContainer.value).stream();
-
-        // the copy to a new List is intentional as remove() operations will cause ConcurrentModificationException otherwise
-        return vertexStream.filter(v -> HasContainer.testAll(v, this.hasContainers)).collect(Collectors.<Vertex>toList()).iterator();
-    }
-
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = ((TinkerGraph)this.traversal.sideEffects().getGraph()).getIndexedKeys(indexedClass);
-        return this.hasContainers.stream()
-                .filter(c -> indexedKeys.contains(c.key) && c.predicate.equals(Compare.eq))
-                .findAny()
-                .orElseGet(() -> null);
+        // the vertices are streamed lazily so that a traversal only touches the vertices it consumes and remove() operations are safe
+        return TinkerHelper.streamVertices((TinkerGraph) this.traversal.sideEffects().getGraph(), this.hasContainers)
+                .filter(v -> HasContainer.testAll(v, this.hasContainers)).iterator();
     }
 
     public String toString() {
@@ -0,0 +1,90 @@
+package com.tinkerpop.gremlin.tinkergraph.structure;
+
+import com.tinkerpop.gremlin.structure.Element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index over the combined values of several property keys of an element.
+ * An element is indexed under every combination of the values it has for the keys (multi-properties yield multiple
+ * combinations) and is not indexed if it is missing a value for any of the keys.
+ * The combinations of each element are remembered so that they can be removed when one of the keys is mutated.
+ */
+final class TinkerCompositeIndex<T extends Element> {
+
+    private final List<String> keys;
+    private final Map<List<Object>, Set<T>> index = new ConcurrentHashMap<>();
+    private final Map<T, List<List<Object>>> elementValues = new ConcurrentHashMap<>();
+
+    public TinkerCompositeIndex(final List<String> keys) {
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+    }
+
+    public List<String> getKeys() {
+        return this.keys;
+    }
+
+    public void update(final T element) {
+        this.removeElement(element);
+        final List<List<Object>> values = this.getValues(element);
+        if (!values.isEmpty()) {
+            this.elementValues.put(element, values);
+            values.forEach(value -> this.index.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(element));
+        }
+    }
+
+    public void removeElement(final T element) {
+        final List<List<Object>> values = this.elementValues.remove(element);
+        if (null != values) {
+            for (final List<Object> value : values) {
+                final Set<T> set = this.index.get(value);
+                if (null != set) {
+                    set.remove(element);
+                    if (set.isEmpty())
+                        this.index.remove(value);
+                }
+            }
+        }
+    }
+
+    public List<T> get(final List<Object> values) {
+        final Set<T> set = this.index.get(values);
+        return null == set ? Collections.emptyList() : new ArrayList<>(set);
+    }
+
+    public long count(final List<Object> values) {
+        final Set<T> set = this.index.get(values);
+        return null == set ? 0 : set.size();
+    }
+
+    public void clear() {
+        this.index.clear();
+        this.elementValues.clear();
+    }
+
+    private List<List<Object>> getValues(final T element) {
+        List<List<Object>> combinations = Collections.singletonList(Collections.emptyList());
+        for (final String key : this.keys) {
+            final List<Object> keyValues = new ArrayList<>();
+            element.iterators().propertyIterator(key).forEachRemaining(property -> keyValues.add(property.value()));
+            if (keyValues.isEmpty())
+                return Collections.emptyList();
+            final List<List<Object>> next = new ArrayList<>(combinations.size() * keyValues.size());
+            for (final List<Object> combination : combinations) {
+                for (final Object keyValue : keyValues) {
+                    final List<Object> extended = new ArrayList<>(combination.size() + 1);
+                    extended.addAll(combination);
+                    extended.add(keyValue);
+                    next.add(extended);
+                }
+            }
+            combinations = next;
+        }
+        return combinations;
+    }
+}
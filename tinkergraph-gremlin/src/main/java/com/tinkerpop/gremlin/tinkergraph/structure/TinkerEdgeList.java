@@ -0,0 +1,90 @@
+package com.tinkerpop.gremlin.tinkergraph.structure;
+
+import com.tinkerpop.gremlin.process.util.FastNoSuchElementException;
+import com.tinkerpop.gremlin.structure.Edge;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+/**
+ * An array-backed collection of the incident edges of a vertex for a single label.
+ * It is used for adjacency when {@link TinkerGraph#COMPACT_ADJACENCY} is enabled and requires a single reference
+ * per edge as opposed to the entry, node and table overhead of a {@link java.util.HashSet}.
+ * The trade-off is that removal is linear in the number of edges of the label and that iteration order is not stable
+ * across removals.
+ */
+final class TinkerEdgeList extends AbstractCollection<Edge> {
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private Edge[] edges = new Edge[INITIAL_CAPACITY];
+    private int size = 0;
+    private int modCount = 0;
+
+    @Override
+    public boolean add(final Edge edge) {
+        if (this.size == this.edges.length)
+            this.edges = Arrays.copyOf(this.edges, this.size + (this.size >> 1) + 1);
+        this.edges[this.size++] = edge;
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object object) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.edges[i].equals(object)) {
+                this.edges[i] = this.edges[--this.size];
+                this.edges[this.size] = null;
+                this.modCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.edges[i].equals(object))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.edges, 0, this.size, null);
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public Iterator<Edge> iterator() {
+        return new Iterator<Edge>() {
+            private final int expectedModCount = modCount;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < size;
+            }
+
+            @Override
+            public Edge next() {
+                if (this.expectedModCount != modCount)
+                    throw new ConcurrentModificationException();
+                if (this.index >= size)
+                    throw FastNoSuchElementException.instance();
+                return edges[this.index++];
+            }
+        };
+    }
+}
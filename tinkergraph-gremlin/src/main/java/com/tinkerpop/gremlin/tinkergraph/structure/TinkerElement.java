@@ -22,11 +22,16 @@ public abstract class TinkerElement implements Element, Element.Iterators {
     protected final String label;
     protected final TinkerGraph graph;
     protected boolean removed = false;
+    // the order in which the element was created so that iterations ignore elements added after they began
+    protected final long sequence;
+    // the dense index of the element in the compute property columns of the graph view of a graph computation
+    protected int ordinal = -1;
 
     protected TinkerElement(final Object id, final String label, final TinkerGraph graph) {
         this.graph = graph;
         this.id = id;
         this.label = label;
+        this.sequence = TinkerHelper.getNextSequence(graph);
     }
 
     @Override
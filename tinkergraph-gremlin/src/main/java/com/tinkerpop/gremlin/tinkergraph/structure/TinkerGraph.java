@@ -17,9 +17,11 @@ import com.tinkerpop.gremlin.tinkergraph.process.graph.TinkerTraversal;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An in-sideEffects, reference implementation of the property graph interfaces provided by Gremlin3.
@@ -37,24 +39,41 @@ import java.util.Set;
 @Graph.OptIn(Graph.OptIn.SUITE_GROOVY_ENVIRONMENT_INTEGRATE)
 public class TinkerGraph implements Graph {
 
+    /**
+     * A boolean configuration key that when {@code true}, stores the incident edges of each vertex in compact
+     * array-backed lists instead of hash sets. This substantially reduces the memory footprint of the adjacency
+     * of large graphs at the expense of edge removal being linear in the degree of the vertex for the edge label.
+     */
+    public static final String COMPACT_ADJACENCY = "gremlin.tinkerGraph.compactAdjacency";
+
     private static final Configuration EMPTY_CONFIGURATION = new BaseConfiguration() {{
         this.setProperty(Graph.GRAPH, TinkerGraph.class.getName());
     }};
 
     protected Long currentId = -1l;
-    protected Map<Object, Vertex> vertices = new HashMap<>();
-    protected Map<Object, Edge> edges = new HashMap<>();
+    protected final AtomicLong currentSequence = new AtomicLong(-1l);
+    protected Map<Object, Vertex> vertices = new ConcurrentHashMap<>();
+    protected Map<Object, Edge> edges = new ConcurrentHashMap<>();
     protected TinkerGraphVariables variables = new TinkerGraphVariables();
     protected TinkerGraphView graphView = null;
 
     protected TinkerIndex<TinkerVertex> vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
     protected TinkerIndex<TinkerEdge> edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
 
+    private final Configuration configuration;
+    protected final boolean compactAdjacency;
+
     /**
      * An empty private constructor that initializes {@link TinkerGraph} with no {@link com.tinkerpop.gremlin.structure.strategy.GraphStrategy}.  Primarily
      * used for purposes of serialization issues.
      */
     private TinkerGraph() {
+        this(EMPTY_CONFIGURATION);
+    }
+
+    private TinkerGraph(final Configuration configuration) {
+        this.configuration = configuration;
+        this.compactAdjacency = configuration.getBoolean(COMPACT_ADJACENCY, false);
     }
 
     /**
@@ -85,7 +104,7 @@ public class TinkerGraph implements Graph {
      * @return a newly opened {@link com.tinkerpop.gremlin.structure.Graph}
      */
     public static TinkerGraph open(final Configuration configuration) {
-        return new TinkerGraph();
+        return null == configuration ? new TinkerGraph() : new TinkerGraph(configuration);
     }
 
     ////////////// STRUCTURE API METHODS //////////////////
@@ -184,7 +203,7 @@ public class TinkerGraph implements Graph {
 
     @Override
     public Configuration configuration() {
-        return EMPTY_CONFIGURATION;
+        return this.configuration;
     }
 
     /**
@@ -263,10 +282,23 @@ public class TinkerGraph implements Graph {
      * @param <E>          The type of the element class
      */
     public <E extends Element> void createIndex(final String key, final Class<E> elementClass) {
+        this.createIndex(key, elementClass, IndexType.HASH);
+    }
+
+    /**
+     * Create an index of the specified {@link IndexType} for said element class ({@link Vertex} or {@link Edge}) and said property key.
+     * If the key is already indexed with a different type, the index is rebuilt with the new type.
+     *
+     * @param key          the property key to index
+     * @param elementClass the element class to index
+     * @param indexType    the type of index to create
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final String key, final Class<E> elementClass, final IndexType indexType) {
         if (Vertex.class.isAssignableFrom(elementClass)) {
-            this.vertexIndex.createKeyIndex(key);
+            this.vertexIndex.createKeyIndex(key, indexType);
         } else if (Edge.class.isAssignableFrom(elementClass)) {
-            this.edgeIndex.createKeyIndex(key);
+            this.edgeIndex.createKeyIndex(key, indexType);
         } else {
             throw new IllegalArgumentException("Class is not indexable: " + elementClass);
         }
@@ -306,6 +338,68 @@ public class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Create a composite index over the combined values of the specified keys for said element class ({@link Vertex} or {@link Edge}).
+     * A composite index answers traversals that have an equality predicate for every one of its keys and, like
+     * {@link #createIndex(String, Class)}, all existing elements are indexed when it is created.
+     *
+     * @param elementClass the element class to index
+     * @param keys         the property keys to index in combination (at least two)
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createCompositeIndex(final Class<E> elementClass, final String... keys) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            this.vertexIndex.createCompositeIndex(keys);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            this.edgeIndex.createCompositeIndex(keys);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Drop the composite index for the specified element class ({@link Vertex} or {@link Edge}) and keys.
+     *
+     * @param elementClass the element class of the index to drop
+     * @param keys         the property keys of the composite index in the order they were indexed
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void dropCompositeIndex(final Class<E> elementClass, final String... keys) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            this.vertexIndex.dropCompositeIndex(keys);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            this.edgeIndex.dropCompositeIndex(keys);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return the keys of all the composite indices currently maintained for said element class ({@link Vertex} or {@link Edge}).
+     *
+     * @param elementClass the element class to get the composite indexed keys for
+     * @param <E>          The type of the element class
+     * @return the set of key lists currently being indexed in combination
+     */
+    public <E extends Element> Set<List<String>> getCompositeIndexedKeys(final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return this.vertexIndex.getCompositeIndexedKeys();
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return this.edgeIndex.getCompositeIndexedKeys();
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * The types of indices supported by {@link TinkerGraph}.
+     * A {@code HASH} index answers equality lookups. An {@code ORDERED} index additionally keeps the values of the key
+     * sorted so that range lookups (e.g. {@code gt}, {@code lte}, {@code interval}) are proportional to the size of the result.
+     */
+    public enum IndexType {
+        HASH, ORDERED
+    }
+
     /**
      * {@link TinkerGraphComputer} generates a view of the original graph. When the view is no longer needed, it can be dropped.
      */
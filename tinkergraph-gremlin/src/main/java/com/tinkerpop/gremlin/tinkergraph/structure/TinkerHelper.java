@@ -9,6 +9,7 @@ import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
 import com.tinkerpop.gremlin.structure.util.ElementHelper;
+import com.tinkerpop.gremlin.structure.util.HasContainer;
 import com.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphView;
 
 import java.util.ArrayList;
@@ -30,6 +31,10 @@ public class TinkerHelper {
         return Stream.generate(() -> (++graph.currentId)).filter(id -> !graph.vertices.containsKey(id) && !graph.edges.containsKey(id)).findAny().get();
     }
 
+    protected static long getNextSequence(final TinkerGraph graph) {
+        return graph.currentSequence.incrementAndGet();
+    }
+
     protected static Edge addEdge(final TinkerGraph graph, final TinkerVertex outVertex, final TinkerVertex inVertex, final String label, final Object... keyValues) {
         ElementHelper.validateLabel(label);
         ElementHelper.legalPropertyKeyValueArray(keyValues);
@@ -54,23 +59,27 @@ public class TinkerHelper {
     }
 
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        Set<Edge> edges = vertex.outEdges.get(label);
+        Collection<Edge> edges = vertex.outEdges.get(label);
         if (null == edges) {
-            edges = new HashSet<>();
+            edges = TinkerHelper.createAdjacency(vertex.graph);
             vertex.outEdges.put(label, edges);
         }
         edges.add(edge);
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        Set<Edge> edges = vertex.inEdges.get(label);
+        Collection<Edge> edges = vertex.inEdges.get(label);
         if (null == edges) {
-            edges = new HashSet<>();
+            edges = TinkerHelper.createAdjacency(vertex.graph);
             vertex.inEdges.put(label, edges);
         }
         edges.add(edge);
     }
 
+    private static Collection<Edge> createAdjacency(final TinkerGraph graph) {
+        return graph.compactAdjacency ? new TinkerEdgeList() : new HashSet<>();
+    }
+
     public static void dropView(final TinkerGraph graph) {
         graph.graphView = null;
     }
@@ -91,12 +100,48 @@ public class TinkerHelper {
         return graph.edgeIndex.get(key, value);
     }
 
+    /**
+     * Lazily stream the candidate vertices for the has-containers from the most selective vertex index or from all the
+     * vertices of the graph if no index applies. As the vertex map is weakly consistent, the graph may be mutated while
+     * the stream is consumed. Vertices removed in the meantime are skipped and vertices added in the meantime are ignored.
+     */
+    public static Stream<TinkerVertex> streamVertices(final TinkerGraph graph, final Collection<HasContainer> hasContainers) {
+        final long sequence = graph.currentSequence.get();
+        final List<TinkerVertex> indexedVertices = graph.vertexIndex.lookup(hasContainers);
+        return (null == indexedVertices ? graph.vertices.values().stream().map(vertex -> (TinkerVertex) vertex) : indexedVertices.stream())
+                .filter(vertex -> !vertex.removed && vertex.sequence <= sequence);
+    }
+
+    /**
+     * Lazily stream the candidate edges for the has-containers from the most selective edge index or from all the
+     * edges of the graph if no index applies. As the edge map is weakly consistent, the graph may be mutated while
+     * the stream is consumed. Edges removed in the meantime are skipped and edges added in the meantime are ignored.
+     */
+    public static Stream<TinkerEdge> streamEdges(final TinkerGraph graph, final Collection<HasContainer> hasContainers) {
+        final long sequence = graph.currentSequence.get();
+        final List<TinkerEdge> indexedEdges = graph.edgeIndex.lookup(hasContainers);
+        return (null == indexedEdges ? graph.edges.values().stream().map(edge -> (TinkerEdge) edge) : indexedEdges.stream())
+                .filter(edge -> !edge.removed && edge.sequence <= sequence);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphView;
     }
 
     public static TinkerGraphView createGraphView(final TinkerGraph graph, final GraphComputer.Isolation isolation, final Set<String> computeKeys) {
-        return graph.graphView = new TinkerGraphView(isolation, computeKeys);
+        int vertexCount = 0;
+        for (final Vertex vertex : graph.vertices.values()) {
+            ((TinkerElement) vertex).ordinal = vertexCount++;
+        }
+        int edgeCount = 0;
+        for (final Edge edge : graph.edges.values()) {
+            ((TinkerElement) edge).ordinal = edgeCount++;
+        }
+        return graph.graphView = new TinkerGraphView(isolation, computeKeys, vertexCount, edgeCount);
+    }
+
+    public static int getOrdinal(final TinkerElement element) {
+        return element.ordinal;
     }
 
     public static Map<String, List<Property>> getProperties(final TinkerElement element) {
@@ -111,7 +156,7 @@ public class TinkerHelper {
                     edges.addIterator(vertex.outEdges.getOrDefault(label, Collections.emptySet()).iterator());
                 }
             } else {
-                for (final Set<Edge> set : vertex.outEdges.values()) {
+                for (final Collection<Edge> set : vertex.outEdges.values()) {
                     edges.addIterator(set.iterator());
                 }
             }
@@ -122,7 +167,7 @@ public class TinkerHelper {
                     edges.addIterator(vertex.inEdges.getOrDefault(label, Collections.emptySet()).iterator());
                 }
             } else {
-                for (final Set<Edge> set : vertex.inEdges.values()) {
+                for (final Collection<Edge> set : vertex.inEdges.values()) {
                     edges.addIterator(set.iterator());
                 }
             }
@@ -1,17 +1,25 @@
 package com.tinkerpop.gremlin.tinkergraph.structure;
 
+import com.tinkerpop.gremlin.structure.Compare;
 import com.tinkerpop.gremlin.structure.Element;
 import com.tinkerpop.gremlin.structure.Graph;
 import com.tinkerpop.gremlin.structure.Property;
 import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.structure.util.HasContainer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.stream.Stream;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -19,8 +27,12 @@ import java.util.concurrent.ConcurrentHashMap;
 class TinkerIndex<T extends Element> {
 
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
+    // ordered keys are additionally indexed by value class so that range queries only compare values of the same type
+    protected Map<String, Map<Class, NavigableMap<Object, Set<T>>>> orderedIndex = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
     private final Set<String> indexedKeys = new HashSet<>();
+    private final Set<String> orderedKeys = new HashSet<>();
+    private final Map<List<String>, TinkerCompositeIndex<T>> compositeIndex = new ConcurrentHashMap<>();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
@@ -29,18 +41,15 @@ class TinkerIndex<T extends Element> {
     }
 
     protected void put(final String key, final Object value, final T element) {
-        Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (keyMap == null) {
-            keyMap = new ConcurrentHashMap<>();
-            this.index.put(key, keyMap);
-        }
-        Set<T> objects = keyMap.get(value);
-        if (null == objects) {
-            objects = new HashSet<>();
-            keyMap.put(value, objects);
-        }
+        final Set<T> objects = this.index.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).computeIfAbsent(value, v -> {
+            final Set<T> set = ConcurrentHashMap.newKeySet();
+            if (this.orderedKeys.contains(key) && value instanceof Comparable)
+                this.orderedIndex.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(value.getClass(), c -> new ConcurrentSkipListMap<>())
+                        .put(value, set);
+            return set;
+        });
         objects.add(element);
-
     }
 
     public List<T> get(final String key, final Object value) {
@@ -56,6 +65,28 @@ class TinkerIndex<T extends Element> {
         }
     }
 
+    /**
+     * Get the elements whose value for the ordered key is within the provided range.
+     * A null bound is unbounded and only values of the same class as the bounds are considered.
+     */
+    public List<T> get(final String key, final Object low, final boolean lowInclusive, final Object high, final boolean highInclusive) {
+        final Map<Class, NavigableMap<Object, Set<T>>> classMap = this.orderedIndex.get(key);
+        if (null == classMap || (null == low && null == high))
+            return Collections.emptyList();
+        if (null != low && null != high && !low.getClass().equals(high.getClass()))
+            return Collections.emptyList();
+        NavigableMap<Object, Set<T>> valueMap = classMap.get(null == low ? high.getClass() : low.getClass());
+        if (null == valueMap)
+            return Collections.emptyList();
+        if (null != low)
+            valueMap = valueMap.tailMap(low, lowInclusive);
+        if (null != high)
+            valueMap = valueMap.headMap(high, highInclusive);
+        final List<T> list = new ArrayList<>();
+        valueMap.values().forEach(list::addAll);
+        return list;
+    }
+
     public long count(final String key, final Object value) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null == keyMap) {
@@ -70,6 +101,11 @@ class TinkerIndex<T extends Element> {
     }
 
     public void remove(final String key, final Object value, final T element) {
+        this.removeValue(key, value, element);
+        this.updateCompositeIndex(key, element);
+    }
+
+    private void removeValue(final String key, final Object value, final T element) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null != keyMap) {
             Set<T> objects = keyMap.get(value);
@@ -77,6 +113,11 @@ class TinkerIndex<T extends Element> {
                 objects.remove(element);
                 if (objects.size() == 0) {
                     keyMap.remove(value);
+                    if (this.orderedIndex.containsKey(key) && value instanceof Comparable) {
+                        final NavigableMap<Object, Set<T>> valueMap = this.orderedIndex.get(key).get(value.getClass());
+                        if (null != valueMap)
+                            valueMap.remove(value);
+                    }
                 }
             }
         }
@@ -89,35 +130,56 @@ class TinkerIndex<T extends Element> {
                     set.remove(element);
                 }
             }
+            this.compositeIndex.values().forEach(composite -> composite.removeElement(element));
         }
     }
 
     public void autoUpdate(final String key, final Object newValue, final Object oldValue, final T element) {
         if (this.indexedKeys.contains(key)) {
             if (oldValue != null)
-                this.remove(key, oldValue, element);
+                this.removeValue(key, oldValue, element);
             this.put(key, newValue, element);
         }
+        this.updateCompositeIndex(key, element);
     }
 
     public void autoRemove(final String key, final Object oldValue, final T element) {
         if (this.indexedKeys.contains(key))
-            this.remove(key, oldValue, element);
+            this.removeValue(key, oldValue, element);
+        this.updateCompositeIndex(key, element);
+    }
+
+    private void updateCompositeIndex(final String key, final T element) {
+        if (!this.compositeIndex.isEmpty()) {
+            this.compositeIndex.values().stream()
+                    .filter(composite -> composite.getKeys().contains(key))
+                    .forEach(composite -> composite.update(element));
+        }
     }
 
     public void createKeyIndex(final String key) {
+        this.createKeyIndex(key, TinkerGraph.IndexType.HASH);
+    }
+
+    public void createKeyIndex(final String key, final TinkerGraph.IndexType indexType) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        if (null == indexType)
+            throw Graph.Exceptions.argumentCanNotBeNull("indexType");
 
-        if (this.indexedKeys.contains(key))
-            return;
+        if (this.indexedKeys.contains(key)) {
+            if (this.orderedKeys.contains(key) == indexType.equals(TinkerGraph.IndexType.ORDERED))
+                return;
+            // the index type of the key changed so rebuild the index
+            this.dropKeyIndex(key);
+        }
+        if (indexType.equals(TinkerGraph.IndexType.ORDERED))
+            this.orderedKeys.add(key);
         this.indexedKeys.add(key);
 
-        (Vertex.class.isAssignableFrom(this.indexClass) ?
-                this.graph.vertices.values().<T>parallelStream() :
-                this.graph.edges.values().<T>parallelStream())
+        this.elements().parallel()
                 .map(e -> new Object[]{((T) e).property(key), e})
                 .filter(a -> ((Property) a[0]).isPresent())
                 .forEach(a -> this.put(key, ((Property) a[0]).value(), (T) a[1]));
@@ -126,8 +188,142 @@ class TinkerIndex<T extends Element> {
     public void dropKeyIndex(final String key) {
         if (this.index.containsKey(key))
             this.index.remove(key).clear();
+        if (this.orderedIndex.containsKey(key))
+            this.orderedIndex.remove(key).clear();
 
         this.indexedKeys.remove(key);
+        this.orderedKeys.remove(key);
+    }
+
+    public void createCompositeIndex(final String... keys) {
+        if (null == keys)
+            throw Graph.Exceptions.argumentCanNotBeNull("keys");
+        if (keys.length < 2)
+            throw new IllegalArgumentException("A composite index requires at least two keys: " + Arrays.toString(keys));
+        for (final String key : keys) {
+            if (null == key)
+                throw Graph.Exceptions.argumentCanNotBeNull("key");
+            if (key.isEmpty())
+                throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        }
+        if (new HashSet<>(Arrays.asList(keys)).size() != keys.length)
+            throw new IllegalArgumentException("The keys of a composite index must be distinct: " + Arrays.toString(keys));
+
+        final List<String> keyList = Collections.unmodifiableList(Arrays.asList(keys.clone()));
+        if (this.compositeIndex.containsKey(keyList))
+            return;
+        final TinkerCompositeIndex<T> composite = new TinkerCompositeIndex<>(keyList);
+        this.elements().forEach(composite::update);
+        this.compositeIndex.put(keyList, composite);
+    }
+
+    public void dropCompositeIndex(final String... keys) {
+        final TinkerCompositeIndex<T> composite = this.compositeIndex.remove(Arrays.asList(keys));
+        if (null != composite)
+            composite.clear();
+    }
+
+    public Set<List<String>> getCompositeIndexedKeys() {
+        return Collections.unmodifiableSet(this.compositeIndex.keySet());
+    }
+
+    /**
+     * Get the candidate elements for the provided has-containers from the most selective applicable index.
+     * Equality containers are answered by single key and composite indices whose sizes are compared so that the
+     * smallest result is materialized and then intersected with the remaining single key hits.
+     * If no equality index applies, a range over an ordered key is used.
+     * The candidates may be a superset of the matching elements and thus should still be tested against the containers.
+     *
+     * @return the candidate elements or null if no index applies and all elements must be scanned
+     */
+    public List<T> lookup(final Collection<HasContainer> hasContainers) {
+        final Map<String, Object> equalities = new LinkedHashMap<>();
+        hasContainers.stream()
+                .filter(c -> c.predicate.equals(Compare.eq) && null != c.value)
+                .forEach(c -> equalities.putIfAbsent(c.key, c.value));
+
+        final List<String> keyHits = new ArrayList<>();
+        equalities.keySet().stream().filter(this.indexedKeys::contains).forEach(keyHits::add);
+
+        TinkerCompositeIndex<T> bestComposite = null;
+        List<Object> bestCompositeValues = null;
+        String bestKey = null;
+        long bestCount = Long.MAX_VALUE;
+        for (final String key : keyHits) {
+            final long count = this.count(key, equalities.get(key));
+            if (count < bestCount) {
+                bestKey = key;
+                bestCount = count;
+            }
+        }
+        for (final TinkerCompositeIndex<T> composite : this.compositeIndex.values()) {
+            if (!equalities.keySet().containsAll(composite.getKeys()))
+                continue;
+            final List<Object> values = new ArrayList<>(composite.getKeys().size());
+            composite.getKeys().forEach(key -> values.add(equalities.get(key)));
+            final long count = composite.count(values);
+            if (count < bestCount) {
+                bestComposite = composite;
+                bestCompositeValues = values;
+                bestCount = count;
+            }
+        }
+
+        if (0 == bestCount)
+            return Collections.emptyList();
+        if (null != bestComposite) {
+            keyHits.removeAll(bestComposite.getKeys());
+            return this.intersect(bestComposite.get(bestCompositeValues), keyHits, equalities);
+        } else if (null != bestKey) {
+            keyHits.remove(bestKey);
+            return this.intersect(this.get(bestKey, equalities.get(bestKey)), keyHits, equalities);
+        } else
+            return this.rangeLookup(hasContainers);
+    }
+
+    private List<T> intersect(final List<T> elements, final List<String> keys, final Map<String, Object> equalities) {
+        for (final String key : keys) {
+            final Map<Object, Set<T>> keyMap = this.index.get(key);
+            final Set<T> set = null == keyMap ? null : keyMap.get(equalities.get(key));
+            if (null == set)
+                return Collections.emptyList();
+            elements.retainAll(set);
+        }
+        return elements;
+    }
+
+    /**
+     * Answer the range of the first ordered key that has a range predicate.
+     * The remaining containers are still tested against the returned elements so only one bound of each side is needed.
+     */
+    private List<T> rangeLookup(final Collection<HasContainer> hasContainers) {
+        if (this.orderedKeys.isEmpty())
+            return null;
+        String key = null;
+        HasContainer low = null;
+        HasContainer high = null;
+        for (final HasContainer container : hasContainers) {
+            if (null == container.value || !this.orderedKeys.contains(container.key) || (null != key && !container.key.equals(key)))
+                continue;
+            if (container.predicate.equals(Compare.gt) || container.predicate.equals(Compare.gte)) {
+                key = container.key;
+                if (null == low) low = container;
+            } else if (container.predicate.equals(Compare.lt) || container.predicate.equals(Compare.lte)) {
+                key = container.key;
+                if (null == high) high = container;
+            }
+        }
+        if (null == key)
+            return null;
+        return this.get(key,
+                null == low ? null : low.value, null != low && low.predicate.equals(Compare.gte),
+                null == high ? null : high.value, null != high && high.predicate.equals(Compare.lte));
+    }
+
+    private Stream<T> elements() {
+        return (Stream<T>) (Vertex.class.isAssignableFrom(this.indexClass) ?
+                this.graph.vertices.values().stream() :
+                this.graph.edges.values().stream());
     }
 
     public Set<String> getIndexedKeys() {
@@ -0,0 +1,134 @@
+package com.tinkerpop.gremlin.tinkergraph.process;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import com.tinkerpop.gremlin.algorithm.generator.BenchmarkGraph;
+import com.tinkerpop.gremlin.process.Traverser;
+import com.tinkerpop.gremlin.process.traversers.SimpleTraverser;
+import com.tinkerpop.gremlin.process.util.DefaultTraversalSideEffects;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares {@link TraverserSet} to a {@code LinkedHashMap} backed set of traversers (its previous implementation)
+ * for the bulking and FIFO popping of the traversers of a {@code g.V().out().out()} traversal and measures
+ * {@code g.V().out().out().groupCount()} itself.
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "traverser-set")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-traverser-set")
+public class TraverserSetPerformanceTest {
+
+    public final static int DEFAULT_BENCHMARK_ROUNDS = 20;
+    public final static int DEFAULT_WARMUP_ROUNDS = 5;
+
+    private static TinkerGraph g;
+    private static List<Vertex> outOut;
+    private static long distinct;
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @BeforeClass
+    public static void before() {
+        g = TinkerGraph.open();
+        BenchmarkGraph.generate(g);
+        outOut = g.V().out().out().toList();
+        distinct = outOut.stream().distinct().count();
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void bulkAndPopTraverserSet() {
+        assertEquals(outOut.size(), bulkAndPop(new TraverserSet<>()));
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void bulkAndPopLinkedHashMapTraverserSet() {
+        assertEquals(outOut.size(), bulkAndPop(new LinkedHashMapTraverserSet<>()));
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void groupCountOutOut() {
+        assertEquals(distinct, g.V().out().out().groupCount().<Map<Vertex, Long>>cap().next().size());
+    }
+
+    private static <Q extends Collection<Traverser.Admin<Vertex>> & Queue<Traverser.Admin<Vertex>>> long bulkAndPop(final Q traversers) {
+        final DefaultTraversalSideEffects sideEffects = new DefaultTraversalSideEffects();
+        for (final Vertex vertex : outOut) {
+            traversers.add(new SimpleTraverser<>(vertex, sideEffects));
+        }
+        assertEquals(distinct, traversers.size());
+        long bulk = 0;
+        while (!traversers.isEmpty()) {
+            bulk = bulk + traversers.remove().bulk();
+        }
+        return bulk;
+    }
+
+    /**
+     * The previous implementation of {@link TraverserSet} which is a baseline for the benchmarks.
+     */
+    private static class LinkedHashMapTraverserSet<S> extends AbstractQueue<Traverser.Admin<S>> {
+
+        private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = new LinkedHashMap<>();
+
+        @Override
+        public Iterator<Traverser.Admin<S>> iterator() {
+            return this.map.keySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.map.size();
+        }
+
+        @Override
+        public boolean add(final Traverser.Admin<S> traverser) {
+            return this.offer(traverser);
+        }
+
+        @Override
+        public boolean offer(final Traverser.Admin<S> traverser) {
+            final Traverser.Admin<S> existing = this.map.get(traverser);
+            if (null == existing) {
+                this.map.put(traverser, traverser);
+                return true;
+            } else {
+                existing.setBulk(existing.bulk() + traverser.bulk());
+                return false;
+            }
+        }
+
+        @Override
+        public Traverser.Admin<S> poll() {
+            return this.map.isEmpty() ? null : this.map.remove(this.iterator().next());
+        }
+
+        @Override
+        public Traverser.Admin<S> peek() {
+            return this.map.isEmpty() ? null : this.iterator().next();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentVertexProgram;
+import com.tinkerpop.gremlin.process.computer.lambda.LambdaMapReduce;
+import com.tinkerpop.gremlin.process.computer.lambda.LambdaVertexProgram;
+import com.tinkerpop.gremlin.process.computer.path.shortestpath.ShortestPathVertexProgram;
+import com.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import com.tinkerpop.gremlin.structure.Direction;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.io.FileUtils;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the execution models of {@link TinkerGraphComputer} that are specific to TinkerGraph and thus, are not
+ * covered by the process computer test suite.
+ */
+public class TinkerGraphComputerTest {
+
+    private static final String LABEL = "label";
+
+    /**
+     * A long path (with a few shortcuts) takes a superstep per hop under BSP.
+     */
+    private static Vertex[] createPath(final TinkerGraph g, final int length) {
+        final Vertex[] vertices = new Vertex[length];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = g.addVertex("oid", i);
+        }
+        for (int i = 1; i < vertices.length; i++) {
+            vertices[i - 1].addEdge("next", vertices[i]);
+            if (i % 50 == 0)
+                vertices[i - 50].addEdge("next", vertices[i]);
+        }
+        return vertices;
+    }
+
+    /**
+     * A graph whose map reduce jobs spill every seven pairs to the directory.
+     */
+    private static TinkerGraph createSpillingGraph(final File directory) {
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty(TinkerGraphComputer.SPILL_THRESHOLD, 7);
+        configuration.setProperty(TinkerGraphComputer.SPILL_DIRECTORY, directory.getAbsolutePath());
+        final TinkerGraph g = TinkerGraph.open(configuration);
+        for (int i = 0; i < 200; i++) {
+            g.addVertex("group", i % 13);
+        }
+        return g;
+    }
+
+    private static LambdaMapReduce.Builder<Integer, Long, Integer, Long, Map<Integer, Long>> groupCount() {
+        return LambdaMapReduce.<Integer, Long, Integer, Long, Map<Integer, Long>>build()
+                .map((vertex, emitter) -> emitter.emit(vertex.<Integer>value("group"), 1l))
+                .memory(pairs -> {
+                    final Map<Integer, Long> counts = new HashMap<>();
+                    pairs.forEachRemaining(pair -> counts.put(pair.getValue0(), pair.getValue1()));
+                    return counts;
+                })
+                .memoryKey("counts");
+    }
+
+    @Test
+    public void shouldComputeAsynchronouslyAsBulkSynchronously() throws Exception {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex[] vertices = createPath(g, 500);
+
+        final ComputerResult bspComponents = g.compute().program(ConnectedComponentVertexProgram.build().create()).submit().get();
+        final Map<Object, Object> components = new HashMap<>();
+        bspComponents.graph().V().forEachRemaining(v -> components.put(v.id(), v.value(ConnectedComponentVertexProgram.COMPONENT)));
+        final ComputerResult asyncComponents = g.compute().isolation(GraphComputer.Isolation.ASYNCHRONOUS).program(ConnectedComponentVertexProgram.build().create()).submit().get();
+        asyncComponents.graph().V().forEachRemaining(v -> assertEquals(components.get(v.id()), v.value(ConnectedComponentVertexProgram.COMPONENT)));
+        assertEquals(1, new HashSet<>(components.values()).size());
+
+        final ComputerResult bspDistances = g.compute().program(ShortestPathVertexProgram.build().source(vertices[0].id()).create()).submit().get();
+        final Map<Object, Double> distances = new HashMap<>();
+        bspDistances.graph().V().forEachRemaining(v -> distances.put(v.id(), v.value(ShortestPathVertexProgram.DISTANCE)));
+        final ComputerResult asyncDistances = g.compute().isolation(GraphComputer.Isolation.ASYNCHRONOUS).program(ShortestPathVertexProgram.build().source(vertices[0].id()).create()).submit().get();
+        asyncDistances.graph().V().forEachRemaining(v -> assertEquals(distances.get(v.id()), v.value(ShortestPathVertexProgram.DISTANCE)));
+        assertEquals(58.0d, distances.get(vertices[vertices.length - 1].id()), 0.0d);
+    }
+
+    @Test
+    public void shouldOnlyExecuteMessagedVerticesAsynchronously() throws Exception {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex[] vertices = createPath(g, 500);
+        final AtomicInteger executions = new AtomicInteger(0);
+        final AtomicInteger sent = new AtomicInteger(0);
+        final AtomicInteger received = new AtomicInteger(0);
+
+        // minimum label propagation which only reacts to the messages that it receives
+        g.compute().isolation(GraphComputer.Isolation.ASYNCHRONOUS).program(LambdaVertexProgram.build().elementComputeKeys(LABEL).execute((vertex, messenger, memory) -> {
+            executions.incrementAndGet();
+            final int label;
+            if (memory.isInitialIteration())
+                label = vertex.<Integer>value("oid");
+            else {
+                int minimum = vertex.<Integer>value(LABEL);
+                int count = 0;
+                for (final Object message : messenger.receiveMessages(MessageType.Global.of())) {
+                    minimum = Math.min(minimum, (Integer) message);
+                    count++;
+                }
+                received.addAndGet(count);
+                if (minimum == vertex.<Integer>value(LABEL))
+                    return;
+                label = minimum;
+            }
+            vertex.singleProperty(LABEL, label);
+            vertex.iterators().vertexIterator(Direction.BOTH).forEachRemaining(neighbor -> {
+                sent.incrementAndGet();
+                messenger.sendMessage(MessageType.Global.of(neighbor), label);
+            });
+        }).terminate(memory -> false).create()).submit().get();
+
+        // every message is delivered and after the initial iteration, a vertex is only executed when it was sent a
+        // message (and as a vertex is queued at most once at a time, possibly less often)
+        assertEquals(sent.get(), received.get());
+        assertTrue(executions.get() - vertices.length <= sent.get());
+        assertTrue(executions.get() > vertices.length);
+    }
+
+    @Test
+    public void shouldTakeFewerSuperstepsAndLessWorkAsynchronously() throws Exception {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex[] vertices = createPath(g, 500);
+
+        final int bspComponents = g.compute().program(ConnectedComponentVertexProgram.build().create()).submit().get().memory().getIteration();
+        final int asyncComponents = g.compute().isolation(GraphComputer.Isolation.ASYNCHRONOUS).program(ConnectedComponentVertexProgram.build().create()).submit().get().memory().getIteration();
+        assertTrue(bspComponents > 50);
+        assertTrue(asyncComponents < bspComponents);
+
+        final int bspDistances = g.compute().program(ShortestPathVertexProgram.build().source(vertices[0].id()).create()).submit().get().memory().getIteration();
+        final int asyncDistances = g.compute().isolation(GraphComputer.Isolation.ASYNCHRONOUS).program(ShortestPathVertexProgram.build().source(vertices[0].id()).create()).submit().get().memory().getIteration();
+        assertTrue(bspDistances > 50);
+        assertTrue(asyncDistances < bspDistances);
+
+        // the same label propagation executes every vertex in every superstep under BSP and only the messaged
+        // vertices asynchronously (the best of a few runs is timed so that warming up does not decide the comparison)
+        long bspTime = Long.MAX_VALUE;
+        long asyncTime = Long.MAX_VALUE;
+        int bspExecutions = 0;
+        int asyncExecutions = 0;
+        for (int i = 0; i < 5; i++) {
+            final AtomicInteger executions = new AtomicInteger(0);
+            long time = System.nanoTime();
+            final int bspSupersteps = propagateMinimumLabel(g, GraphComputer.Isolation.BSP, executions);
+            bspTime = Math.min(bspTime, System.nanoTime() - time);
+            bspExecutions = executions.getAndSet(0);
+            time = System.nanoTime();
+            final int asyncSupersteps = propagateMinimumLabel(g, GraphComputer.Isolation.ASYNCHRONOUS, executions);
+            asyncTime = Math.min(asyncTime, System.nanoTime() - time);
+            asyncExecutions = executions.get();
+            assertTrue(asyncSupersteps < bspSupersteps);
+        }
+        assertTrue(asyncExecutions < bspExecutions);
+        assertTrue("asynchronous " + asyncTime + "ns, bulk synchronous " + bspTime + "ns", asyncTime < bspTime);
+    }
+
+    /**
+     * Propagate the minimum oid as the label of every vertex until no label changes.
+     *
+     * @return the number of supersteps
+     */
+    private static int propagateMinimumLabel(final TinkerGraph g, final GraphComputer.Isolation isolation, final AtomicInteger executions) throws Exception {
+        final ComputerResult result = g.compute().isolation(isolation).program(LambdaVertexProgram.build().elementComputeKeys(LABEL).memoryComputeKeys("changed").setup(memory -> memory.set("changed", false)).execute((vertex, messenger, memory) -> {
+            executions.incrementAndGet();
+            final int label;
+            if (memory.isInitialIteration())
+                label = vertex.<Integer>value("oid");
+            else {
+                int minimum = vertex.<Integer>value(LABEL);
+                for (final Object message : messenger.receiveMessages(MessageType.Global.of())) {
+                    minimum = Math.min(minimum, (Integer) message);
+                }
+                if (minimum == vertex.<Integer>value(LABEL))
+                    return;
+                label = minimum;
+            }
+            vertex.singleProperty(LABEL, label);
+            memory.or("changed", true);
+            vertex.iterators().vertexIterator(Direction.BOTH).forEachRemaining(neighbor -> messenger.sendMessage(MessageType.Global.of(neighbor), label));
+        }).terminate(memory -> {
+            final boolean changed = memory.get("changed");
+            memory.set("changed", false);
+            return !changed;
+        }).create()).submit().get();
+        result.graph().V().forEachRemaining(v -> assertEquals(0, v.<Integer>value(LABEL).intValue()));
+        return result.memory().getIteration();
+    }
+
+    @Test
+    public void shouldSpillMapReduceToDisk() throws Exception {
+        final File directory = Files.createTempDirectory("tinkergraph-spill-test").toFile();
+        try {
+            final TinkerGraph g = createSpillingGraph(directory);
+            // a map and reduce job is grouped from the merged runs
+            final Map<Object, Long> groupCount = (Map) g.V().values("group").groupCount().next();
+            assertEquals(groupCount, g.V().values("group").groupCount().submit(g.compute()).next());
+            assertEquals(13, groupCount.size());
+            // a map only job reads every run
+            final List<Integer> groups = g.V().<Integer>values("group").toList();
+            final List<Integer> spilledGroups = g.V().<Integer>values("group").submit(g.compute()).toList();
+            Collections.sort(groups);
+            Collections.sort(spilledGroups);
+            assertEquals(groups, spilledGroups);
+
+            // the runs are on disk while they are reduced
+            final AtomicInteger runs = new AtomicInteger(0);
+            final Map<Integer, Long> counts = g.compute().mapReduce(groupCount().reduce((key, values, emitter) -> {
+                runs.accumulateAndGet(directory.list().length, Math::max);
+                long count = 0l;
+                while (values.hasNext()) {
+                    count = count + values.next();
+                }
+                emitter.emit(key, count);
+            }).create()).submit().get().memory().get("counts");
+            assertEquals(groupCount, counts);
+            assertTrue(runs.get() > 0);
+            // and are deleted once the jobs are complete
+            assertEquals(0, directory.list().length);
+        } finally {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void shouldStreamSpilledResultsIntoMemory() throws Exception {
+        final File directory = Files.createTempDirectory("tinkergraph-spill-test").toFile();
+        try {
+            final TinkerGraph g = createSpillingGraph(directory);
+            final Iterator<Pair<Integer, Long>> pairs = g.compute().mapReduce(LambdaMapReduce.<Integer, Long, Integer, Long, Iterator<Pair<Integer, Long>>>build()
+                    .map((vertex, emitter) -> emitter.emit(vertex.<Integer>value("group"), 1l))
+                    .memoryKey("pairs").create()).submit().get().memory().get("pairs");
+            // the result is merged from the runs as it is read rather than read into memory by the job
+            assertTrue(directory.list().length > 0);
+            int count = 0;
+            while (pairs.hasNext()) {
+                assertEquals(1l, pairs.next().getValue1().longValue());
+                count++;
+            }
+            assertEquals(200, count);
+            assertEquals(0, directory.list().length);
+        } finally {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void shouldDeleteSpilledRunsOfAFailedMapReduce() throws Exception {
+        final File directory = Files.createTempDirectory("tinkergraph-spill-test").toFile();
+        try {
+            final TinkerGraph g = createSpillingGraph(directory);
+            try {
+                g.compute().mapReduce(groupCount().reduce((key, values, emitter) -> {
+                    throw new IllegalStateException("The runs are only partially read");
+                }).create()).submit().get();
+                fail("The map reduce job should have failed");
+            } catch (final ExecutionException e) {
+                assertEquals(0, directory.list().length);
+            }
+        } finally {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotComputeLocalMessagesAsynchronously() throws Exception {
+        TinkerFactory.createModern().compute().isolation(GraphComputer.Isolation.ASYNCHRONOUS).program(PageRankVertexProgram.build().create()).submit();
+    }
+}
@@ -0,0 +1,116 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.commons.io.FileUtils;
+import org.javatuples.Pair;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TinkerSpillTest {
+
+    private File directory;
+
+    @Before
+    public void setup() throws Exception {
+        this.directory = Files.createTempDirectory("tinkergraph-spill-test").toFile();
+    }
+
+    @After
+    public void teardown() throws Exception {
+        FileUtils.deleteDirectory(this.directory);
+    }
+
+    @Test
+    public void shouldAddWhileOtherThreadsSpill() throws Exception {
+        final int threads = 4;
+        final int pairs = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (final TinkerSpill<Integer, Integer> spill = new TinkerSpill<>(100, TinkerSpill.DEFAULT_FAN_IN, this.directory, Comparator.<Integer>naturalOrder())) {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = thread; i < pairs; i = i + threads) {
+                        spill.add(i, thread);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            assertTrue(this.directory.list().length >= pairs / 100 - threads);
+
+            final Iterator<Pair<Integer, Integer>> iterator = spill.iterator();
+            for (int i = 0; i < pairs; i++) {
+                final Pair<Integer, Integer> pair = iterator.next();
+                assertEquals(i, pair.getValue0().intValue());
+                assertEquals(i % threads, pair.getValue1().intValue());
+            }
+            assertFalse(iterator.hasNext());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, this.directory.list().length);
+    }
+
+    @Test
+    public void shouldMergeAtMostFanInRunsAtOnce() throws Exception {
+        final Random random = new Random(12345l);
+        final List<Integer> keys = new ArrayList<>();
+        try (final TinkerSpill<Integer, String> spill = new TinkerSpill<>(10, 3, this.directory, Comparator.<Integer>naturalOrder())) {
+            for (int i = 0; i < 1005; i++) {
+                final int key = random.nextInt(500);
+                keys.add(key);
+                spill.add(key, "v" + key);
+            }
+            assertEquals(100, this.directory.list().length);
+
+            // the hundred runs are merged into longer runs until at most three are left to be merged with the memory
+            final Iterator<Pair<Integer, String>> iterator = spill.iterator();
+            assertTrue(this.directory.list().length <= 3);
+            Collections.sort(keys);
+            for (final Integer key : keys) {
+                final Pair<Integer, String> pair = iterator.next();
+                assertEquals(key, pair.getValue0());
+                assertEquals("v" + key, pair.getValue1());
+            }
+            assertFalse(iterator.hasNext());
+            assertEquals(0, this.directory.list().length);
+        }
+    }
+
+    @Test
+    public void shouldDeleteTheRunsOfAnIntermediateMergeWhenClosed() throws Exception {
+        try (final TinkerSpill<Integer, Integer> spill = new TinkerSpill<>(2, 2, this.directory, Comparator.<Integer>naturalOrder())) {
+            for (int i = 0; i < 20; i++) {
+                spill.add(20 - i, i);
+            }
+            final Iterator<Pair<Integer, Integer>> iterator = spill.iterator();
+            assertEquals(1, iterator.next().getValue0().intValue());
+            assertTrue(this.directory.list().length > 0);
+        }
+        assertEquals(0, this.directory.list().length);
+    }
+}
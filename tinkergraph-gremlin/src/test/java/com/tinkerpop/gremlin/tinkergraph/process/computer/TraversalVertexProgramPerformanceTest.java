@@ -0,0 +1,122 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import com.tinkerpop.gremlin.algorithm.generator.BenchmarkGraph;
+import com.tinkerpop.gremlin.process.Traversal;
+import com.tinkerpop.gremlin.process.TraversalEngine;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.MessageCombiner;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import com.tinkerpop.gremlin.process.graph.step.sideEffect.CountStep;
+import com.tinkerpop.gremlin.process.util.TraverserSet;
+import com.tinkerpop.gremlin.structure.Vertex;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures {@link TraversalVertexProgram} executing {@code g.V().out().out().count()} over a generated graph, both on
+ * {@link TinkerGraphComputer} and on a single worker driven by the calling thread. The bytes that the single worker
+ * allocates per {@code out().out()} traverser are logged.
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "traversal-vertex-program")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-traversal-vertex-program")
+public class TraversalVertexProgramPerformanceTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TraversalVertexProgramPerformanceTest.class);
+
+    public final static int DEFAULT_BENCHMARK_ROUNDS = 20;
+    public final static int DEFAULT_WARMUP_ROUNDS = 5;
+
+    private static TinkerGraph g;
+    private static long outOutCount;
+    private static long allocatedBytes = 0l;
+    private static long traversers = 0l;
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @BeforeClass
+    public static void before() {
+        g = TinkerGraph.open();
+        BenchmarkGraph.generate(g);
+        outOutCount = g.V().out().out().count().next();
+    }
+
+    @AfterClass
+    public static void after() {
+        LOGGER.info("A worker allocated {} bytes per out().out() traverser", allocatedBytes / Math.max(1l, traversers));
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void outOutCountOnComputer() {
+        assertEquals(outOutCount, g.V().out().out().count().submit(g.compute()).next().longValue());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void outOutCountOnWorker() {
+        final Traversal<Vertex, Long> traversal = g.V().out().out().count();
+        traversal.applyStrategies(TraversalEngine.COMPUTER);
+        final TraversalVertexProgram vertexProgram = TraversalVertexProgram.build().traversal(traversal::clone).create();
+        final VertexProgram<TraverserSet<Object>> worker = vertexProgram.clone();
+        final Optional<MessageCombiner<TraverserSet<Object>>> combiner = vertexProgram.getMessageCombiner();
+        final TinkerMemory memory = new TinkerMemory(vertexProgram, vertexProgram.getMapReducers());
+        final TinkerMessageBoard<TraverserSet<Object>> messageBoard = new TinkerMessageBoard<>();
+        final TinkerGraphView graphView = TinkerHelper.createGraphView(g, GraphComputer.Isolation.BSP, vertexProgram.getElementComputeKeys());
+        final Collection<Vertex> vertices = TinkerHelper.getVertices(g);
+
+        final long start = allocatedBytes();
+        vertexProgram.setup(memory);
+        memory.completeSubRound();
+        while (true) {
+            worker.workerIterationStart(memory);
+            for (final Vertex vertex : vertices) {
+                graphView.setExecutingVertex(vertex);
+                worker.execute(vertex, new TinkerMessenger<>(vertex, messageBoard, combiner), memory);
+            }
+            graphView.setExecutingVertex(null);
+            worker.workerIterationEnd(memory);
+            graphView.completeIteration();
+            messageBoard.completeIteration();
+            memory.completeSubRound();
+            final boolean terminate = vertexProgram.terminate(memory);
+            memory.incrIteration();
+            memory.completeSubRound();
+            if (terminate)
+                break;
+        }
+        allocatedBytes = allocatedBytes + allocatedBytes() - start;
+        traversers = traversers + outOutCount;
+
+        long count = 0l;
+        for (final Vertex vertex : vertices) {
+            count = count + TraversalVertexProgram.getLocalSideEffects(vertex).orElse(CountStep.COUNT_KEY, 0l);
+        }
+        assertEquals(outOutCount, count);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,124 @@
+package com.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import com.tinkerpop.gremlin.algorithm.generator.BenchmarkGraph;
+import com.tinkerpop.gremlin.process.computer.ComputerResult;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.VertexProgram;
+import com.tinkerpop.gremlin.process.computer.clustering.connected.ConnectedComponentVertexProgram;
+import com.tinkerpop.gremlin.process.computer.clustering.kcore.KCoreVertexProgram;
+import com.tinkerpop.gremlin.process.computer.clustering.peerpressure.PeerPressureVertexProgram;
+import com.tinkerpop.gremlin.process.computer.path.shortestpath.ShortestPathVertexProgram;
+import com.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import com.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures the graph algorithm vertex programs on {@link TinkerGraphComputer} over a generated graph, both bulk
+ * synchronously and, for monotone programs, asynchronously. The iterations that each program takes to halt are logged.
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "vertex-program")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-vertex-program")
+public class VertexProgramPerformanceTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VertexProgramPerformanceTest.class);
+
+    public final static int DEFAULT_BENCHMARK_ROUNDS = 20;
+    public final static int DEFAULT_WARMUP_ROUNDS = 5;
+
+    private static TinkerGraph g;
+    private static long vertexCount;
+    private static Object sourceId;
+    private static final Map<String, Integer> iterations = new LinkedHashMap<>();
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @BeforeClass
+    public static void before() {
+        g = TinkerGraph.open();
+        BenchmarkGraph.generate(g);
+        vertexCount = g.V().count().next();
+        sourceId = g.V().has("oid", 0).next().id();
+    }
+
+    @AfterClass
+    public static void after() {
+        iterations.forEach((name, iteration) -> LOGGER.info("{} halted after {} iterations", name, iteration));
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void pageRank() throws Exception {
+        execute("PageRank", PageRankVertexProgram.build().create());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void pageRankByDeltaPropagation() throws Exception {
+        execute("PageRank by delta propagation", PageRankVertexProgram.build().delta(0.0001d).create());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void connectedComponent() throws Exception {
+        execute("ConnectedComponent", ConnectedComponentVertexProgram.build().create());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void connectedComponentAsynchronously() throws Exception {
+        execute("ConnectedComponent asynchronously", GraphComputer.Isolation.ASYNCHRONOUS, ConnectedComponentVertexProgram.build().create());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void peerPressure() throws Exception {
+        execute("PeerPressure", PeerPressureVertexProgram.build().create());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void shortestPath() throws Exception {
+        execute("ShortestPath", ShortestPathVertexProgram.build().source(sourceId).create());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void shortestPathAsynchronously() throws Exception {
+        execute("ShortestPath asynchronously", GraphComputer.Isolation.ASYNCHRONOUS, ShortestPathVertexProgram.build().source(sourceId).create());
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void kCore() throws Exception {
+        execute("KCore", KCoreVertexProgram.build().k(3).create());
+    }
+
+    private static void execute(final String name, final VertexProgram vertexProgram) throws Exception {
+        execute(name, GraphComputer.Isolation.BSP, vertexProgram);
+    }
+
+    private static void execute(final String name, final GraphComputer.Isolation isolation, final VertexProgram vertexProgram) throws Exception {
+        final ComputerResult result = g.compute().isolation(isolation).program(vertexProgram).submit().get();
+        assertEquals(vertexCount, result.graph().V().count().next().longValue());
+        iterations.put(name, result.memory().getIteration());
+    }
+}
@@ -1,9 +1,15 @@
 package com.tinkerpop.gremlin.tinkergraph.structure;
 
 import com.tinkerpop.gremlin.AbstractGremlinTest;
+import com.tinkerpop.gremlin.process.computer.GraphComputer;
+import com.tinkerpop.gremlin.process.computer.MessageType;
+import com.tinkerpop.gremlin.process.computer.lambda.LambdaVertexProgram;
 import com.tinkerpop.gremlin.process.T;
 import com.tinkerpop.gremlin.process.Traversal;
 import com.tinkerpop.gremlin.process.TraversalEngine;
+import com.tinkerpop.gremlin.process.graph.GraphTraversal;
+import com.tinkerpop.gremlin.process.graph.step.map.TopKStep;
+import com.tinkerpop.gremlin.structure.Compare;
 import com.tinkerpop.gremlin.structure.Direction;
 import com.tinkerpop.gremlin.structure.Edge;
 import com.tinkerpop.gremlin.structure.Graph;
@@ -13,7 +19,10 @@ import com.tinkerpop.gremlin.structure.io.graphml.GraphMLWriter;
 import com.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
 import com.tinkerpop.gremlin.structure.io.kryo.KryoReader;
 import com.tinkerpop.gremlin.structure.io.kryo.KryoWriter;
+import com.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphView;
 import com.tinkerpop.gremlin.util.StreamFactory;
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
 import org.apache.commons.io.FileUtils;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
@@ -24,9 +33,15 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -328,6 +343,159 @@ public class TinkerGraphTest {
         g.createIndex("", Edge.class);
     }
 
+    @Test
+    public void shouldTraverseAndRemoveWithCompactAdjacency() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.COMPACT_ADJACENCY, true);
+        final TinkerGraph g = TinkerGraph.open(conf);
+        final Vertex a = g.addVertex(T.id, 1);
+        final Vertex b = g.addVertex(T.id, 2);
+        final Vertex c = g.addVertex(T.id, 3);
+        final Edge ab = a.addEdge("knows", b);
+        a.addEdge("knows", c);
+        a.addEdge("created", c);
+        b.addEdge("knows", c);
+
+        assertEquals(3, a.outE().count().next().intValue());
+        assertEquals(2, a.outE("knows").count().next().intValue());
+        assertEquals(3, c.inE().count().next().intValue());
+        assertEquals(2, c.in("knows").count().next().intValue());
+        assertEquals(2, b.bothE().count().next().intValue());
+
+        ab.remove();
+        assertEquals(1, a.outE("knows").count().next().intValue());
+        assertEquals(0, b.inE().count().next().intValue());
+        assertEquals(3, g.E().count().next().intValue());
+
+        c.remove();
+        assertEquals(0, a.bothE().count().next().intValue());
+        assertEquals(0, b.bothE().count().next().intValue());
+        assertEquals(0, g.E().count().next().intValue());
+    }
+
+    @Test
+    public void shouldAnswerRangeQueriesWithOrderedIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("age", i);
+        }
+        g.addVertex("name", "no age");
+
+        assertEquals(69, g.V().has("age", Compare.gt, 30).count().next().intValue());
+        assertEquals(70, g.V().has("age", Compare.gte, 30).count().next().intValue());
+        assertEquals(30, g.V().has("age", Compare.lt, 30).count().next().intValue());
+        assertEquals(31, g.V().has("age", Compare.lte, 30).count().next().intValue());
+        assertEquals(10, g.V().interval("age", 20, 30).count().next().intValue());
+        assertEquals(5, g.V().has("age", Compare.gte, 20).has("age", Compare.lt, 30).has("age", Compare.gt, 24).count().next().intValue());
+        assertEquals(1, g.V().has("age", 42).count().next().intValue());
+
+        g.V().has("age", Compare.lt, 10).remove();
+        g.V().<Vertex>has("age", 99).next().singleProperty("age", 5);
+        assertEquals(1, g.V().has("age", Compare.lt, 10).count().next().intValue());
+        assertEquals(89, g.V().has("age", Compare.gte, 10).count().next().intValue());
+
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.HASH);
+        assertEquals(1, g.V().has("age", Compare.lt, 10).count().next().intValue());
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+        assertEquals(1, g.V().has("age", Compare.lt, 10).count().next().intValue());
+        g.dropIndex("age", Vertex.class);
+        assertEquals(1, g.V().has("age", Compare.lt, 10).count().next().intValue());
+    }
+
+    @Test
+    public void shouldIsolateComputePropertiesPerIteration() {
+        final TinkerGraph g = TinkerFactory.createModern();
+        final Vertex marko = g.V().<Vertex>has("name", "marko").next();
+        final Vertex josh = g.V().<Vertex>has("name", "josh").next();
+
+        final TinkerGraphView bspView = TinkerHelper.createGraphView(g, GraphComputer.Isolation.BSP, new HashSet<>(Arrays.asList("rank")));
+        marko.singleProperty("rank", 1);
+        bspView.setExecutingVertex(marko);
+        marko.singleProperty("rank", 2);
+        assertEquals(2, marko.<Integer>value("rank").intValue());
+        bspView.setExecutingVertex(josh);
+        assertEquals(1, marko.<Integer>value("rank").intValue());
+        josh.property("rank", 3);
+        josh.property("rank", 4);
+        assertEquals(2, StreamFactory.stream(josh.iterators().propertyIterator("rank")).count());
+        bspView.setExecutingVertex(marko);
+        assertFalse(josh.property("rank").isPresent());
+        bspView.setExecutingVertex(null);
+        bspView.completeIteration();
+        assertEquals(2, marko.<Integer>value("rank").intValue());
+        assertEquals(2, StreamFactory.stream(josh.iterators().propertyIterator("rank")).count());
+        assertEquals("marko", marko.value("name"));
+        TinkerHelper.dropView(g);
+
+        final TinkerGraphView dirtyView = TinkerHelper.createGraphView(g, GraphComputer.Isolation.DIRTY_BSP, new HashSet<>(Arrays.asList("rank")));
+        dirtyView.setExecutingVertex(marko);
+        marko.singleProperty("rank", 5);
+        dirtyView.setExecutingVertex(josh);
+        assertEquals(5, marko.<Integer>value("rank").intValue());
+        dirtyView.setExecutingVertex(null);
+        TinkerHelper.dropView(g);
+        assertFalse(marko.property("rank").isPresent());
+    }
+
+    @Test
+    public void shouldIterateElementsLazily() {
+        final TinkerGraph g = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            final Vertex v = g.addVertex("uid", i);
+            v.addEdge("self", v);
+        }
+
+        final AtomicInteger tested = new AtomicInteger(0);
+        assertEquals(10, g.V().has("uid", (t, u) -> tested.incrementAndGet() > 0, -1).limit(10).count().next().intValue());
+        assertTrue(tested.get() < 1000);
+
+        // elements added while iterating are not visited and elements removed while iterating are skipped
+        assertEquals(1000, g.V().sideEffect(t -> g.addVertex("uid", -1)).count().next().intValue());
+        assertEquals(2000, g.V().count().next().intValue());
+        g.V().has("uid", -1).remove();
+        assertEquals(500, g.V().sideEffect(t -> g.V().has("uid", (Integer) t.get().value("uid") ^ 1).remove()).count().next().intValue());
+        assertEquals(500, g.V().count().next().intValue());
+        assertEquals(500, g.E().count().next().intValue());
+        g.E().remove();
+        assertEquals(0, g.E().count().next().intValue());
+    }
+
+    @Test
+    public void shouldAnswerEqualityQueriesWithCompositeIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("name", "name" + (i % 10), "age", i % 7, "uid", i);
+        }
+        g.createIndex("name", Vertex.class);
+        g.createCompositeIndex(Vertex.class, "name", "age");
+        assertEquals(1, g.getCompositeIndexedKeys(Vertex.class).size());
+
+        // the composite index is the most selective so only the elements that match both keys should be tested
+        assertEquals(2, StreamFactory.stream(g.V().has("name", "name3").has("age", 3).has("uid", (t, u) -> {
+            assertTrue((Integer) t % 10 == 3 && (Integer) t % 7 == 3);
+            return true;
+        }, -1)).count());
+        assertEquals(0, g.V().has("name", "name3").has("age", 7).count().next().intValue());
+        assertEquals(10, g.V().has("name", "name3").count().next().intValue());
+
+        g.V().has("uid", 3).remove();
+        assertEquals(1, g.V().has("name", "name3").has("age", 3).count().next().intValue());
+        g.V().<Vertex>has("uid", 13).next().singleProperty("age", 3);
+        assertEquals(2, g.V().has("name", "name3").has("age", 3).count().next().intValue());
+        assertEquals(1, g.V().has("name", "name3").has("age", 6).count().next().intValue());
+        g.V().<Vertex>has("uid", 13).next().property("age").remove();
+        assertEquals(1, g.V().has("name", "name3").has("age", 3).count().next().intValue());
+
+        g.addVertex("name", "name3", "age", 3);
+        g.addVertex("name", "name3");
+        assertEquals(2, g.V().has("name", "name3").has("age", 3).count().next().intValue());
+
+        g.dropCompositeIndex(Vertex.class, "name", "age");
+        assertEquals(0, g.getCompositeIndexedKeys(Vertex.class).size());
+        assertEquals(2, g.V().has("name", "name3").has("age", 3).count().next().intValue());
+    }
+
     @Ignore
     @Test
     public void shouldUpdateVertexIndicesInNewGraph() {
@@ -481,6 +649,58 @@ public class TinkerGraphTest {
         }, 0.5).has("oid", "1")).count());
     }
 
+    @Test
+    public void shouldOrderAndLimitWithTopK() {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex[] vertices = new Vertex[200];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = g.addVertex("score", (i * 7919) % 37);
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i].addEdge("knows", vertices[(i + 1) % vertices.length]);
+            vertices[i].addEdge("knows", vertices[(i * 3) % vertices.length]);
+        }
+        final List<Integer> scores = g.V().out().out().<Integer>values("score").toList();
+        Collections.sort(scores);
+        for (final int[] range : new int[][]{{0, 10}, {3, 20}, {0, 1}, {100, 1000}, {0, 0}}) {
+            final GraphTraversal<Vertex, Vertex> traversal = g.V().out().out().orderBy("score").range(range[0], range[1]);
+            final List<Integer> topK = traversal.<Integer>values("score").toList();
+            assertTrue(traversal.toString().contains(TopKStep.class.getSimpleName()));
+            assertEquals(scores.subList(Math.min(range[0], scores.size()), Math.min(range[1], scores.size())), topK);
+        }
+        assertEquals(scores.subList(0, 5), g.V().out().out().<Integer>values("score").order().limit(5).toList());
+    }
+
+    @Test
+    public void shouldOnlyExecuteTheFrontier() throws Exception {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex[] vertices = new Vertex[100];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = g.addVertex("oid", i);
+            if (i > 0)
+                vertices[i - 1].addEdge("next", vertices[i]);
+        }
+        final Object first = vertices[0].id();
+        final Object last = vertices[vertices.length - 1].id();
+        for (final boolean voteToHalt : new boolean[]{true, false}) {
+            final AtomicInteger executions = new AtomicInteger(0);
+            final AtomicInteger received = new AtomicInteger(0);
+            g.compute().program(LambdaVertexProgram.build().execute((vertex, messenger, memory) -> {
+                executions.incrementAndGet();
+                if (memory.isInitialIteration() ? vertex.id().equals(first) : messenger.receiveMessages(MessageType.Global.of()).iterator().hasNext()) {
+                    if (vertex.id().equals(last))
+                        received.incrementAndGet();
+                    messenger.sendMessage(MessageType.Global.of(() -> vertex.iterators().vertexIterator(Direction.OUT)), 1);
+                }
+                if (voteToHalt)
+                    messenger.voteToHalt();
+            }).terminate(memory -> memory.getIteration() >= vertices.length - 1).create()).submit().get();
+            assertEquals(1, received.get());
+            // a halted vertex is only executed again when it is sent a message
+            assertEquals(voteToHalt ? 2 * vertices.length - 1 : vertices.length * vertices.length, executions.get());
+        }
+    }
+
     /**
      * This test helps with data conversions on Grateful Dead.  No Assertions...run as needed. Never read from the
      * GraphML source as it will always use a String identifier.